@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -84,7 +84,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
@@ -1259,6 +1258,9 @@ public class DocumentWindowController extends AbstractFxmlWindowController {
         // Stops watching
         editorController.stopFileWatching();
         watchingController.stop();
+        
+        // Lets the library close class loaders no longer used
+        editorController.releaseClassLoader();
     }
     
     @Override 
@@ -1964,8 +1966,7 @@ public class DocumentWindowController extends AbstractFxmlWindowController {
                     try {
                         watchingController.removeDocumentTarget();
                         var recordGlobal = getPreferencesRecordGlobal();
-                        final byte[] fxmlBytes = editorController.getFxmlText(recordGlobal.isWildcardImports()).getBytes(StandardCharsets.UTF_8); //NOI18N
-                        Files.write(fxmlPath, fxmlBytes);
+                        editorController.writeFxmlText(recordGlobal.isWildcardImports(), fxmlPath);
                         updateLoadFileTime();
                         watchingController.update();
 
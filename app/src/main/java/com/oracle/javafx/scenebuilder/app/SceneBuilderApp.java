@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -49,6 +49,8 @@ import com.oracle.javafx.scenebuilder.kit.ToolTheme;
 import com.oracle.javafx.scenebuilder.kit.alert.SBAlert;
 import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
 import com.oracle.javafx.scenebuilder.kit.editor.EditorPlatform;
+import com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.MavenRepositorySystem;
+import com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.search.LocalRepositoryIndex;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.util.dialog.AlertDialog;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.util.dialog.ErrorDialog;
 import com.oracle.javafx.scenebuilder.kit.library.BuiltinLibrary;
@@ -435,6 +437,11 @@ public class SceneBuilderApp extends Application implements AppPlatform.AppNotif
         userLibrary = new UserLibrary(AppPlatform.getUserLibraryFolder(),
                 () -> mavenPreferences.getArtifactsPathsWithDependencies(),
                 () -> mavenPreferences.getArtifactsFilter());
+        userLibrary.setExplorationCacheFile(
+                Paths.get(AppPlatform.getApplicationDataFolder(), "ExplorationCache.bin")); //NOI18N
+        LocalRepositoryIndex.setIndexFolder(Paths.get(AppPlatform.getApplicationDataFolder()));
+        MavenRepositorySystem.setResolutionCacheFile(
+                Paths.get(AppPlatform.getApplicationDataFolder(), "MavenResolutionCache.properties")); //NOI18N
 
         userLibrary.setOnUpdatedJarReports(jarReports -> {
             boolean shouldShowImportGluonJarAlert = false;
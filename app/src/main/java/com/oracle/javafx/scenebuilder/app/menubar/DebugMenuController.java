@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -42,6 +43,8 @@ import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
 import com.oracle.javafx.scenebuilder.kit.editor.job.reference.UpdateReferencesJob;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.content.ContentPanelController;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.util.dialog.ErrorDialog;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument.LoadStatistics;
 import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
 
 import java.io.File;
@@ -116,6 +119,17 @@ class DebugMenuController {
             undoRedoStackMenuShowing((Menu) t.getTarget());
         });
                 
+        /*
+         * Load statistics
+         */
+        final Menu loadStatistics = new Menu();
+        loadStatistics.setText("Load Statistics"); //NOI18N
+        loadStatistics.getItems().add(makeMenuItem("Dummy", true)); //NOI18N
+        loadStatistics.setOnMenuValidation(t -> {
+            assert t.getTarget() instanceof Menu;
+            loadStatisticsMenuShowing((Menu) t.getTarget());
+        });
+        
         menu.getItems().add(libraryFolderMenu);
         menu.getItems().add(new SeparatorMenuItem());
         menu.getItems().add(layoutMenuItem);
@@ -124,6 +138,7 @@ class DebugMenuController {
         menu.getItems().add(useDarkThemeMenuItem);
         menu.getItems().add(new SeparatorMenuItem());
         menu.getItems().add(undoRedoStack);
+        menu.getItems().add(loadStatistics);
     }
     
     public Menu getMenu() {
@@ -201,6 +216,45 @@ class DebugMenuController {
     }
     
     
+    /*
+     * Private (load statistics)
+     */
+    
+    private void loadStatisticsMenuShowing(Menu menu) {
+        final FXOMDocument fxomDocument
+                = documentWindowController.getEditorController().getFxomDocument();
+        
+        final List<MenuItem> menuItems = menu.getItems();
+        
+        menuItems.clear();
+        if (fxomDocument == null) {
+            menuItems.add(makeMenuItem("No Document", true)); //NOI18N
+        } else {
+            addLoadStatisticsMenuItems("Open", fxomDocument.getLoadStatistics(), menuItems); //NOI18N
+            menuItems.add(new SeparatorMenuItem());
+            addLoadStatisticsMenuItems("Last Refresh", fxomDocument.getRefreshStatistics(), menuItems); //NOI18N
+        }
+    }
+    
+    private void addLoadStatisticsMenuItems(String title, LoadStatistics statistics, List<MenuItem> menuItems) {
+        if (statistics == null) {
+            menuItems.add(makeMenuItem(title + ": None", true)); //NOI18N
+        } else {
+            menuItems.add(makeMenuItem(title + ": " + formatTime(statistics.getTotalTime()), true)); //NOI18N
+            menuItems.add(makeMenuItem("   Glue Parse: " //NOI18N
+                    + formatTime(statistics.getGlueParseTime()), true));
+            menuItems.add(makeMenuItem("   FXML Instantiate: " //NOI18N
+                    + formatTime(statistics.getFxmlInstantiateTime()), true));
+            menuItems.add(makeMenuItem("   FXOM Build: " //NOI18N
+                    + formatTime(statistics.getFxomBuildTime()), true));
+        }
+    }
+    
+    private static String formatTime(long nanos) {
+        return String.format("%.1f ms", nanos / 1e6); //NOI18N
+    }
+    
+    
     private MenuItem makeMenuItem(String text, boolean disable) {
         final MenuItem result = new MenuItem();
         result.setText(text);
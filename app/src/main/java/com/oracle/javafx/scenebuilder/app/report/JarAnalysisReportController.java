@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -81,6 +82,9 @@ public class JarAnalysisReportController extends AbstractFxmlWindowController {
         Clipboard.getSystemClipboard().setContent(content);
     }
 
+    // Controls whose trial instantiation took longer are reported (in ms)
+    private static final long SLOW_INSTANTIATION_THRESHOLD = 500;
+
     private final EditorController editorController;
     private final String TIMESTAMP_PATTERN = "h:mm a EEEEEEEEE d MMM. yyyy"; //NOI18N
     private final SimpleDateFormat TIMESTAMP_DATE_FORMAT = new SimpleDateFormat(TIMESTAMP_PATTERN);
@@ -134,7 +138,10 @@ public class JarAnalysisReportController extends AbstractFxmlWindowController {
             
             for (JarReport report : lib.getJarReports()) {
                 for (JarReportEntry entry : report.getEntries()) {
-                    if (entry.getStatus() != JarReportEntry.Status.OK) {
+                    if (entry.getStatus() == JarReportEntry.Status.TIMED_OUT) {
+                        addHeader(I18N.getString("jar.analysis.timed.out", entry.getInstantiationTime()),
+                                entry.getName());
+                    } else if (entry.getStatus() != JarReportEntry.Status.OK) {
                         if (entry.getKlass() != null && entry.getException() != null) {
                             // We use a Text instance for header and another one
                             // for full stack in order to style them separately
@@ -154,13 +161,10 @@ public class JarAnalysisReportController extends AbstractFxmlWindowController {
                             textFlow.getChildren().add(text2);
                         }
                     } else if (! entry.isNode()) {
-                        StringBuilder sb = new StringBuilder();
-                        sb.append(getSectionPrefix()).append(I18N.getString("jar.analysis.not.node"));
-                        sb.append(" ").append(entry.getName()); //NOI18N
-                        Text text = new Text();
-                        text.setText(sb.toString());
-                        text.getStyleClass().add("header"); //NOI18N
-                        textFlow.getChildren().add(text);
+                        addHeader(I18N.getString("jar.analysis.not.node"), entry.getName());
+                    } else if (entry.getInstantiationTime() >= SLOW_INSTANTIATION_THRESHOLD) {
+                        addHeader(I18N.getString("jar.analysis.slow.instantiation", entry.getInstantiationTime()),
+                                entry.getName());
                     }
                 }
             }
@@ -171,6 +175,16 @@ public class JarAnalysisReportController extends AbstractFxmlWindowController {
         }
     }
     
+    private void addHeader(String title, String entryName) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getSectionPrefix()).append(title);
+        sb.append(" ").append(entryName); //NOI18N
+        Text text = new Text();
+        text.setText(sb.toString());
+        text.getStyleClass().add("header"); //NOI18N
+        textFlow.getChildren().add(text);
+    }
+    
     // The very first section must start on top, it is only for the next one we
     // need a separator.
     private String getSectionPrefix() {
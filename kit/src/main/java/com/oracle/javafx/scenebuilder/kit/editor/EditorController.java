@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -82,6 +82,7 @@ import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
 import com.oracle.javafx.scenebuilder.kit.glossary.Glossary;
 import com.oracle.javafx.scenebuilder.kit.glossary.BuiltinGlossary;
 import com.oracle.javafx.scenebuilder.kit.library.BuiltinLibrary;
+import com.oracle.javafx.scenebuilder.kit.library.ClassLoaderManager;
 import com.oracle.javafx.scenebuilder.kit.library.Library;
 import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
 import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
@@ -98,7 +99,14 @@ import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.PosixFileAttributeView;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -245,7 +253,9 @@ public class EditorController {
     }
     
     private final Selection selection = new Selection();
-    private final JobManager jobManager = new JobManager(this, 50);
+    // Undo history keeps at most 50 jobs and evicts older ones earlier when their
+    // estimated memory goes over 64 MB
+    private final JobManager jobManager = new JobManager(this, 50, 64L * 1024 * 1024);
     private final MessageLog messageLog = new MessageLog();
     private final ErrorReport errorReport = new ErrorReport();
     private final DragController dragController = new DragController(this);
@@ -258,6 +268,9 @@ public class EditorController {
     private double defaultRootContainerWidth = 600;
     private double defaultRootContainerHeight = 400;
     
+    // Class loader of the document: a reference is held on it (see ClassLoaderManager)
+    private ClassLoader documentClassLoader;
+    
     private final ObjectProperty<FXOMDocument> fxomDocumentProperty 
             = new SimpleObjectProperty<>();
     private final ObjectProperty<URL> fxmlLocationProperty 
@@ -352,19 +365,44 @@ public class EditorController {
         if (fxomDocument == null) {
             result = null;
         } else {
-            final boolean sampleDataEnabled = fxomDocument.isSampleDataEnabled();
-            if (sampleDataEnabled) {
-                fxomDocument.setSampleDataEnabled(false);
-            }
-            result = fxomDocument.getFxmlText(wildcardImports);
-            if (sampleDataEnabled) {
-                fxomDocument.setSampleDataEnabled(true);
-            }
+            result = withoutSampleData(fxomDocument, () -> fxomDocument.getFxmlText(wildcardImports));
         }
         
         return result;
     }
     
+    /**
+     * Writes the fxml content being edited by this editor encoded in UTF-8
+     * to the specified channel. Nothing is written if there is no document.
+     * 
+     * @param wildcardImports If the FXML should have wildcards in its imports.
+     * @param channel the output channel (never null).
+     * @throws IOException if the channel fails.
+     */
+    public void writeFxmlText(boolean wildcardImports, WritableByteChannel channel) throws IOException {
+        final FXOMDocument fxomDocument = getFxomDocument();
+        if (fxomDocument != null) {
+            withoutSampleData(fxomDocument, () -> {
+                fxomDocument.writeFxmlText(wildcardImports, channel);
+                return null;
+            });
+        }
+    }
+    
+    /**
+     * Writes the fxml content being edited by this editor encoded in UTF-8
+     * to the specified file. An existing file is replaced only once the
+     * whole content has been written to a temporary file next to it : if
+     * serialization fails, the file is left untouched.
+     * 
+     * @param wildcardImports If the FXML should have wildcards in its imports.
+     * @param target the file to write (never null).
+     * @throws IOException if the file cannot be written.
+     */
+    public void writeFxmlText(boolean wildcardImports, Path target) throws IOException {
+        writeFile(target, channel -> writeFxmlText(wildcardImports, channel));
+    }
+    
     /**
      * Returns true if fxml content being edited can be returned safely.
      * This method will return false if there is a text editing session on-going.
@@ -832,6 +870,16 @@ public class EditorController {
         watchingController.stop();
     }
     
+    /**
+     * Releases the class loader used by the document of this editor.
+     * Invoked when the editor is discarded: the class loader may then be
+     * closed if the library and the other editors no longer use it.
+     */
+    public void releaseClassLoader() {
+        ClassLoaderManager.getDefault().release(documentClassLoader);
+        documentClassLoader = null;
+    }
+    
     /**
      * Returns true if file watching is started on this editor.
      * 
@@ -2497,6 +2545,79 @@ public class EditorController {
      * Private
      */
     
+    @FunctionalInterface
+    private interface FxmlTextProducer<T, X extends Exception> {
+        T produce() throws X;
+    }
+    
+    /*
+     * Runs the producer with sample data disabled : FXML text must contain
+     * the values set by the user, not the generated samples.
+     */
+    private static <T, X extends Exception> T withoutSampleData(FXOMDocument fxomDocument,
+            FxmlTextProducer<T, X> producer) throws X {
+        final boolean sampleDataEnabled = fxomDocument.isSampleDataEnabled();
+        if (sampleDataEnabled) {
+            fxomDocument.setSampleDataEnabled(false);
+        }
+        try {
+            return producer.produce();
+        } finally {
+            if (sampleDataEnabled) {
+                fxomDocument.setSampleDataEnabled(true);
+            }
+        }
+    }
+    
+    @FunctionalInterface
+    interface ChannelWriter {
+        void write(WritableByteChannel channel) throws IOException;
+    }
+    
+    /*
+     * Writes target through a temporary sibling file which then atomically
+     * replaces target. A new file is written in place (so that it gets the
+     * default permissions) and deleted if the writer fails.
+     */
+    static void writeFile(Path target, ChannelWriter writer) throws IOException {
+        assert target != null;
+        assert writer != null;
+        
+        if (Files.exists(target) == false) {
+            boolean done = false;
+            try (FileChannel channel = FileChannel.open(target,
+                    StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                writer.write(channel);
+                done = true;
+            } finally {
+                if (done == false) {
+                    Files.deleteIfExists(target);
+                }
+            }
+        } else {
+            // A symbolic link is kept : the file it points to is replaced
+            final Path file = target.toRealPath();
+            final Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp"); //NOI18N
+            try {
+                try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                    writer.write(channel);
+                    channel.force(true);
+                }
+                // Temporary files are only readable by their owner
+                if (Files.getFileStore(file).supportsFileAttributeView(PosixFileAttributeView.class)) {
+                    Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(file));
+                }
+                try {
+                    Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException x) {
+                    Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+    
     private boolean isSelectionControl() {
         final AbstractSelectionGroup asg = selection.getGroup();
         if (asg instanceof ObjectSelectionGroup) {
@@ -2526,6 +2647,7 @@ public class EditorController {
         messageLog.clear();
         errorReport.setFxomDocument(newFxomDocument);
         fxomDocumentProperty.setValue(newFxomDocument);
+        documentClassLoaderDidChange();
         
         watchingController.fxomDocumentDidChange();
 
@@ -2541,6 +2663,17 @@ public class EditorController {
         if (getFxomDocument() != null) {
             errorReport.forget();
             getFxomDocument().setClassLoader(libraryProperty.get().getClassLoader());
+            documentClassLoaderDidChange();
+        }
+    }
+    
+    private void documentClassLoaderDidChange() {
+        final ClassLoader newClassLoader
+                = (getFxomDocument() == null) ? null : getFxomDocument().getClassLoader();
+        if (newClassLoader != documentClassLoader) {
+            ClassLoaderManager.getDefault().retain(newClassLoader);
+            ClassLoaderManager.getDefault().release(documentClassLoader);
+            documentClassLoader = newClassLoader;
         }
     }
     
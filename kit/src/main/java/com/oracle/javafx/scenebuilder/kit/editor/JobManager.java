@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -35,9 +36,13 @@ import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
 import com.oracle.javafx.scenebuilder.kit.editor.job.reference.UpdateReferencesJob;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.ReadOnlyLongProperty;
 import javafx.beans.property.SimpleIntegerProperty;
+import javafx.beans.property.SimpleLongProperty;
 
 /**
  * @treatAsPrivate 
@@ -46,17 +51,31 @@ public class JobManager {
     
     private final EditorController editorController;
     private final int undoStackMaxSize;
+    private final long undoMemoryBudget;
     private final List<Job> undoStack = new ArrayList<>();
     private final List<Job> redoStack = new ArrayList<>();
+    private final Map<Job, Long> jobSizes = new IdentityHashMap<>();
     private final SimpleIntegerProperty revision = new SimpleIntegerProperty();
+    private final SimpleLongProperty undoMemory = new SimpleLongProperty();
     private boolean lock;
     
     
     JobManager(EditorController editorController, int undoStackMaxSize) {
+        this(editorController, undoStackMaxSize, Long.MAX_VALUE);
+    }
+    
+    /*
+     * undoMemoryBudget is the estimated number of bytes that undo and redo
+     * stacks may retain. When it is exceeded, the oldest undoable jobs are
+     * dropped (the most recent one is always kept).
+     */
+    JobManager(EditorController editorController, int undoStackMaxSize, long undoMemoryBudget) {
         assert editorController != null;
         assert undoStackMaxSize >= 1;
+        assert undoMemoryBudget >= 0;
         this.editorController = editorController;
         this.undoStackMaxSize = undoStackMaxSize;
+        this.undoMemoryBudget = undoMemoryBudget;
     }
     
     
@@ -81,10 +100,12 @@ public class JobManager {
         final Job fixJob = new UpdateReferencesJob(job);
         executeJob(fixJob);
         undoStack.add(0, fixJob);
-        if (undoStack.size() > undoStackMaxSize) {
-            undoStack.remove(undoStack.size()-1);
+        for (Job redoJob : redoStack) {
+            forgetJobSize(redoJob);
         }
         redoStack.clear();
+        updateJobSize(fixJob);
+        trimUndoStack();
         incrementRevision();
         
     }
@@ -97,6 +118,8 @@ public class JobManager {
         
         undoStack.clear();
         redoStack.clear();
+        jobSizes.clear();
+        undoMemory.set(0);
         // We don't change the revision.
     }
     
@@ -126,6 +149,8 @@ public class JobManager {
         undoJob(job);
         undoStack.remove(0);
         redoStack.add(0, job);
+        updateJobSize(job);
+        trimUndoStack();
         incrementRevision();
     }
     
@@ -155,6 +180,8 @@ public class JobManager {
         redoJob(job);
         redoStack.remove(0);
         undoStack.add(0, job);
+        updateJobSize(job);
+        trimUndoStack();
         incrementRevision();
     }
     
@@ -168,6 +195,16 @@ public class JobManager {
         return revision;
     }
     
+    /**
+     * Returns the property holding the estimated number of bytes retained
+     * by the jobs of the undo and redo stacks.
+     * 
+     * @return the property holding the memory used by the undo/redo history.
+     */
+    public ReadOnlyLongProperty undoMemoryProperty() {
+        return undoMemory;
+    }
+    
     /**
      * Returns the job which has just been processed and which can be undone.
      * 
@@ -217,6 +254,35 @@ public class JobManager {
     }
     
     
+    /*
+     * A job retains more or less memory depending on its state : once undone,
+     * a delete job holds attached objects again.  So size is re-estimated each
+     * time the job moves from one stack to the other.
+     */
+    private void updateJobSize(Job job) {
+        final long size = new JobMemoryEstimator().estimate(job);
+        final Long previousSize = jobSizes.put(job, size);
+        final long delta = (previousSize == null) ? size : size - previousSize;
+        undoMemory.set(undoMemory.get() + delta);
+    }
+    
+    
+    private void forgetJobSize(Job job) {
+        final Long size = jobSizes.remove(job);
+        if (size != null) {
+            undoMemory.set(undoMemory.get() - size);
+        }
+    }
+    
+    
+    private void trimUndoStack() {
+        while ((undoStack.size() > undoStackMaxSize)
+                || ((undoMemory.get() > undoMemoryBudget) && (undoStack.size() > 1))) {
+            forgetJobSize(undoStack.remove(undoStack.size()-1));
+        }
+    }
+    
+    
     private void incrementRevision() {
         lock = true;
         try {
@@ -0,0 +1,299 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor;
+
+import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMProperty;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMPropertyC;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMPropertyT;
+import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueAuxiliary;
+import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueCharacters;
+import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueElement;
+import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueInstruction;
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * Estimates the heap retained by a job of the undo/redo stacks.
+ *
+ * The estimate walks the job fields, its sub-jobs and the collections
+ * they hold. FXOM objects which are still attached to their document are
+ * counted as plain references: they are owned by the document. Detached
+ * FXOM objects (typically removed by the job) are measured through their
+ * glue element and their scene graph object, which the job keeps alive.
+ * Any other object is counted as a reference.
+ */
+class JobMemoryEstimator {
+
+    static final long OBJECT_OVERHEAD = 16;
+    static final long REFERENCE_SIZE = 8;
+    static final long ENTRY_OVERHEAD = 32;
+    // Average footprint of a JavaFX node with its properties, CSS state and bounds
+    static final long NODE_SIZE = 2048;
+
+    private static final ClassValue<List<Field>> instanceFields = new ClassValue<>() {
+        @Override
+        protected List<Field> computeValue(Class<?> objectClass) {
+            return makeInstanceFields(objectClass);
+        }
+    };
+
+    private final Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    public long estimate(Job job) {
+        assert job != null;
+        return estimateObject(job);
+    }
+
+
+    /*
+     * Private
+     */
+
+    private long estimateObject(Object object) {
+        final long result;
+
+        if (object == null) {
+            result = 0;
+        } else if (visited.add(object) == false) {
+            result = REFERENCE_SIZE;
+        } else if (object instanceof String) {
+            result = estimateString((String) object);
+        } else if (object instanceof Job) {
+            result = estimateFields(object);
+        } else if (object instanceof FXOMObject) {
+            result = estimateFxomObject((FXOMObject) object);
+        } else if (object instanceof FXOMProperty) {
+            result = estimateFxomProperty((FXOMProperty) object);
+        } else if (object instanceof GlueElement) {
+            result = estimateGlueElement((GlueElement) object);
+        } else if (object instanceof Collection) {
+            result = estimateCollection((Collection<?>) object);
+        } else if (object instanceof Map) {
+            result = estimateMap((Map<?, ?>) object);
+        } else if (object.getClass().isArray()) {
+            result = estimateArray(object);
+        } else {
+            result = REFERENCE_SIZE;
+        }
+
+        return result;
+    }
+
+    private long estimateFields(Object object) {
+        long result = OBJECT_OVERHEAD;
+
+        for (Field field : getInstanceFields(object.getClass())) {
+            if (field.getType().isPrimitive()) {
+                result += REFERENCE_SIZE;
+            } else {
+                try {
+                    result += REFERENCE_SIZE + estimateObject(field.get(object));
+                } catch (IllegalAccessException x) {
+                    result += REFERENCE_SIZE;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private long estimateFxomObject(FXOMObject fxomObject) {
+        final long result;
+
+        if (isAttached(fxomObject)) {
+            result = REFERENCE_SIZE;
+        } else {
+            result = OBJECT_OVERHEAD + estimateObject(fxomObject.getGlueElement())
+                    + estimateSceneGraphObject(fxomObject.getSceneGraphObject());
+        }
+
+        return result;
+    }
+
+    private long estimateFxomProperty(FXOMProperty fxomProperty) {
+        long result;
+
+        if ((fxomProperty.getParentInstance() != null) && isAttached(fxomProperty.getParentInstance())) {
+            result = REFERENCE_SIZE;
+        } else {
+            result = OBJECT_OVERHEAD;
+            if (fxomProperty instanceof FXOMPropertyT) {
+                result += estimateObject(((FXOMPropertyT) fxomProperty).getValue());
+            } else if (fxomProperty instanceof FXOMPropertyC) {
+                final FXOMPropertyC fxomPropertyC = (FXOMPropertyC) fxomProperty;
+                result += estimateObject(fxomPropertyC.getGlueElement());
+                for (FXOMObject value : fxomPropertyC.getValues()) {
+                    result += estimateObject(value);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private long estimateSceneGraphObject(Object sceneGraphObject) {
+        long result;
+
+        if (sceneGraphObject == null) {
+            result = 0;
+        } else if (visited.add(sceneGraphObject) == false) {
+            result = REFERENCE_SIZE;
+        } else if (sceneGraphObject instanceof Node) {
+            // Scene graph objects of the descendants are part of the subtree
+            result = NODE_SIZE;
+            if (sceneGraphObject instanceof Parent) {
+                for (Node child : ((Parent) sceneGraphObject).getChildrenUnmodifiable()) {
+                    result += REFERENCE_SIZE + estimateSceneGraphObject(child);
+                }
+            }
+        } else {
+            result = OBJECT_OVERHEAD;
+        }
+
+        return result;
+    }
+
+    private long estimateGlueElement(GlueElement glueElement) {
+        long result = OBJECT_OVERHEAD + estimateObject(glueElement.getTagName());
+
+        for (Map.Entry<String, String> e : glueElement.getAttributes().entrySet()) {
+            result += ENTRY_OVERHEAD + estimateObject(e.getKey()) + estimateObject(e.getValue());
+        }
+        result += estimateAuxiliaries(glueElement.getFront());
+        result += estimateAuxiliaries(glueElement.getContent());
+        result += estimateAuxiliaries(glueElement.getTail());
+        for (GlueElement child : glueElement.getChildren()) {
+            result += REFERENCE_SIZE + estimateObject(child);
+        }
+
+        return result;
+    }
+
+    private long estimateAuxiliaries(List<GlueAuxiliary> auxiliaries) {
+        long result = 0;
+
+        for (GlueAuxiliary auxiliary : auxiliaries) {
+            result += REFERENCE_SIZE + OBJECT_OVERHEAD;
+            if (auxiliary instanceof GlueCharacters) {
+                result += estimateObject(((GlueCharacters) auxiliary).getData());
+            } else if (auxiliary instanceof GlueInstruction) {
+                final GlueInstruction instruction = (GlueInstruction) auxiliary;
+                result += estimateObject(instruction.getTarget());
+                result += estimateObject(instruction.getData());
+            }
+        }
+
+        return result;
+    }
+
+    private long estimateCollection(Collection<?> collection) {
+        long result = OBJECT_OVERHEAD;
+
+        for (Object item : collection) {
+            result += REFERENCE_SIZE + estimateObject(item);
+        }
+
+        return result;
+    }
+
+    private long estimateMap(Map<?, ?> map) {
+        long result = OBJECT_OVERHEAD;
+
+        for (Map.Entry<?, ?> e : map.entrySet()) {
+            result += ENTRY_OVERHEAD + estimateObject(e.getKey()) + estimateObject(e.getValue());
+        }
+
+        return result;
+    }
+
+    private long estimateArray(Object array) {
+        final int length = Array.getLength(array);
+        long result = OBJECT_OVERHEAD;
+
+        if (array.getClass().getComponentType().isPrimitive()) {
+            result += (long) length * REFERENCE_SIZE;
+        } else {
+            for (int i = 0; i < length; i++) {
+                result += REFERENCE_SIZE + estimateObject(Array.get(array, i));
+            }
+        }
+
+        return result;
+    }
+
+    private static long estimateString(String string) {
+        return 40 + 2L * string.length();
+    }
+
+    private static boolean isAttached(FXOMObject fxomObject) {
+        FXOMObject top = fxomObject;
+        while (top.getParentObject() != null) {
+            top = top.getParentObject();
+        }
+        return top == fxomObject.getFxomDocument().getFxomRoot();
+    }
+
+    private static List<Field> getInstanceFields(Class<?> objectClass) {
+        return instanceFields.get(objectClass);
+    }
+
+    private static List<Field> makeInstanceFields(Class<?> objectClass) {
+        final List<Field> result = new ArrayList<>();
+
+        for (Class<?> c = objectClass; c != Object.class; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) == false) {
+                    try {
+                        field.setAccessible(true);
+                        result.add(field);
+                    } catch (RuntimeException x) {
+                        // Field is not accessible (class from a non open package) : skip it
+                    }
+                }
+            }
+        }
+
+        return List.copyOf(result);
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -34,6 +35,7 @@ package com.oracle.javafx.scenebuilder.kit.editor.job.atomic;
 import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
 import com.oracle.javafx.scenebuilder.kit.i18n.I18N;
 import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
 import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
 import java.util.Objects;
@@ -104,16 +106,12 @@ public class ModifyObjectJob extends Job {
 
     @Override
     public void undo() {
-        getEditorController().getFxomDocument().beginUpdate();
-        this.propertyMetadata.setValueObject(fxomInstance, oldValue);
-        getEditorController().getFxomDocument().endUpdate();
+        applyValue(oldValue);
     }
 
     @Override
     public void redo() {
-        getEditorController().getFxomDocument().beginUpdate();
-        this.propertyMetadata.setValueObject(fxomInstance, newValue);
-        getEditorController().getFxomDocument().endUpdate();
+        applyValue(newValue);
     }
 
     @Override
@@ -121,4 +119,30 @@ public class ModifyObjectJob extends Job {
         return description;
     }
 
+    /*
+     * Private
+     */
+
+    private void applyValue(Object value) {
+        final FXOMDocument fxomDocument = getEditorController().getFxomDocument();
+
+        fxomDocument.beginUpdate();
+        // Simple values are pushed directly into the scene graph object :
+        // this avoids a scene graph reconstruction on each inspector edit.
+        final boolean inPlace
+                = (fxomDocument.isDirty(fxomInstance) == false)
+                && (fxomInstance.getSceneGraphObject() != null)
+                && propertyMetadata.canApplyValueInSceneGraphObject(fxomInstance, value);
+        this.propertyMetadata.setValueObject(fxomInstance, value);
+        if (inPlace) {
+            try {
+                this.propertyMetadata.setValueInSceneGraphObject(fxomInstance, value);
+                fxomDocument.markSynchronized(fxomInstance);
+            } catch(RuntimeException x) {
+                // fxomInstance stays dirty : endUpdate() rebuilds its scene graph
+            }
+        }
+        fxomDocument.endUpdate();
+    }
+
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -34,11 +34,17 @@ package com.oracle.javafx.scenebuilder.kit.editor.panel.content;
 
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -120,6 +126,7 @@ import com.oracle.javafx.scenebuilder.kit.editor.panel.content.mode.AbstractMode
 import com.oracle.javafx.scenebuilder.kit.editor.panel.content.mode.EditModeController;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.content.mode.PickModeController;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.content.util.BoundsUnion;
+import com.oracle.javafx.scenebuilder.kit.editor.panel.content.util.PickIndex;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.content.util.Picker;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.content.util.ScrollPaneBooster;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.util.AbstractFxmlPanelController;
@@ -129,7 +136,10 @@ import com.oracle.javafx.scenebuilder.kit.editor.util.ContextMenuController;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMProperty;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMPropertyC;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.DesignHierarchyMask;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
 import javafx.scene.SubScene;
 import javafx.scene.shape.CubicCurve;
 import javafx.scene.shape.Polygon;
@@ -171,7 +181,13 @@ public class ContentPanelController extends AbstractFxmlPanelController
     private boolean tracingEvents; // For debugging purpose
     
     private final Picker picker = new Picker();
-    private final List<NodeOutline> outlines = new ArrayList<>();
+    private final PickIndex pickIndex = new PickIndex();
+    private final Map<FXOMObject, NodeOutline> outlines = new IdentityHashMap<>();
+    // Reused by updateOutlines()
+    private final Set<FXOMObject> outlinedObjects = new LinkedHashSet<>();
+    private final Deque<FXOMObject> outlineCandidates = new ArrayDeque<>();
+    // Weak keys : classes from library jars must not be retained
+    private final Map<Class<?>, DesignProperties> designPropertiesCache = new WeakHashMap<>();
     
     /*
      * Public
@@ -458,7 +474,7 @@ public class ContentPanelController extends AbstractFxmlPanelController
 
         Node displayNode = fxomDocument.getDisplayNode();
         if (displayNode != null) {
-            FXOMObject startObject = fxomDocument.getFxomRoot().searchWithSceneGraphObject(displayNode);
+            FXOMObject startObject = fxomDocument.searchWithSceneGraphObject(displayNode);
             if (startObject == null || excludes.contains(startObject)) {
                 return null;
             }
@@ -504,7 +520,12 @@ public class ContentPanelController extends AbstractFxmlPanelController
         }
 
         final Node startNode = (Node) startObject.getSceneGraphObject();
-        final List<Node> hitNodes = picker.pick(startNode, sceneX, sceneY);
+        final List<Node> hitNodes;
+        if (pickIndex.isIndexing(startNode)) {
+            hitNodes = pickIndex.pick(startNode, sceneX, sceneY, picker.getExcludes());
+        } else {
+            hitNodes = picker.pick(startNode, sceneX, sceneY);
+        }
         if (hitNodes == null) {
             result = null;
         } else {
@@ -753,6 +774,7 @@ public class ContentPanelController extends AbstractFxmlPanelController
             assert fxomDocument.getSceneGraphHolder() == null;
             fxomDocument.beginHoldingSceneGraph(this);
         }
+        pickIndex.reset(null, null);
         
         final Exception currentLayoutException
                 = workspaceController.getLayoutException();
@@ -935,6 +957,7 @@ public class ContentPanelController extends AbstractFxmlPanelController
         //  - new scene graph must replace the old one below contentHook
         //  - mode controller must be informed so that it can updates handles
         workspaceController.sceneGraphDidChange();
+        resetPickIndex(fxomDocument);
         if (isOutlinesVisible()) {
             updateOutlines();
         }
@@ -948,6 +971,17 @@ public class ContentPanelController extends AbstractFxmlPanelController
      * Private
      */
     
+    private void resetPickIndex(FXOMDocument fxomDocument) {
+        // Only nodes matching an fxom object can be returned by pick()
+        final FXOMObject fxomRoot = fxomDocument.getFxomRoot();
+        if ((fxomRoot != null) && (fxomRoot.getSceneGraphObject() instanceof Node)) {
+            pickIndex.reset((Node) fxomRoot.getSceneGraphObject(),
+                    n -> fxomDocument.searchWithSceneGraphObject(n) != null);
+        } else {
+            pickIndex.reset(null, null);
+        }
+    }
+    
     private void changeModeController(AbstractModeController nextModeController) {
         assert nextModeController != currentModeController;
         assert nextModeController != null;
@@ -1116,114 +1150,159 @@ public class ContentPanelController extends AbstractFxmlPanelController
     private void endShowingOutlines() {
         assert contentGroup.isVisible() == false;
 
-        final List<Node> outlineNodes = outlineLayer.getChildren();
-        for (NodeOutline o : outlines) {
-            assert outlineNodes.contains(o.getRootNode());
-            outlineNodes.remove(o.getRootNode());
+        final List<Node> outlineNodes = new ArrayList<>();
+        for (NodeOutline o : outlines.values()) {
+            outlineNodes.add(o.getRootNode());
         }
+        outlineLayer.getChildren().removeAll(outlineNodes);
         outlines.clear();
         contentGroup.setVisible(true);
     }
     
+    /*
+     * Outlines are keyed by fxom object : fxom objects keep their identity
+     * when the scene graph is refreshed. So only the outlines of the added
+     * and removed objects are created or discarded. Outlines of the other
+     * objects follow their (possibly new) scene graph object. Layout changes
+     * are tracked by the outlines themselves.
+     * Outline layer children stay in the order of collectNodes().
+     */
     private void updateOutlines() {
         assert isOutlinesVisible();
+        assert outlinedObjects.isEmpty();
         
         // Collects fxom objects associated to a node in the fxom document
-        final List<FXOMObject> allNodes = collectNodes();
+        collectNodes(outlinedObjects);
         
-        for (int i = 0, count = allNodes.size(); i < count; i++) {
-            assert allNodes.get(i) instanceof FXOMInstance;
-            final FXOMInstance nodeInstance = (FXOMInstance) allNodes.get(i);
-            if (i < outlines.size()) {
-                final NodeOutline currentOutline = outlines.get(i);
-                if (currentOutline.getFxomObject() != nodeInstance) {
-                    replaceOutline(i, nodeInstance);
-               } else {
-                    switch(currentOutline.getState()) {
-                        case CLEAN:
-                            break;
-                        case NEEDS_RECONCILE:
-                            // scene graph associated to currentOutline has changed but h is still compatible
-                            currentOutline.reconcile();
-                            break;
-                        case NEEDS_REPLACE:
-                            // currentOutline is no longer compatible with the new scene graph object 
-                            replaceOutline(i, nodeInstance);
-                            break;
-                    }
-                }
+        final Set<Node> removedNodes = Collections.newSetFromMap(new IdentityHashMap<>());
+        final Iterator<Map.Entry<FXOMObject, NodeOutline>> it = outlines.entrySet().iterator();
+        while (it.hasNext()) {
+            final Map.Entry<FXOMObject, NodeOutline> e = it.next();
+            final NodeOutline currentOutline = e.getValue();
+            if (outlinedObjects.contains(e.getKey()) == false) {
+                // Object is no longer displayed
+                removedNodes.add(currentOutline.getRootNode());
+                it.remove();
             } else {
-                addOutline(outlines.size(), nodeInstance);
+                switch(currentOutline.getState()) {
+                    case CLEAN:
+                        break;
+                    case NEEDS_RECONCILE:
+                        // scene graph associated to currentOutline has changed but h is still compatible
+                        currentOutline.reconcile();
+                        break;
+                    case NEEDS_REPLACE:
+                        // currentOutline is no longer compatible with the new scene graph object 
+                        removedNodes.add(currentOutline.getRootNode());
+                        it.remove();
+                        break;
+                }
             }
         }
-        for (int i = allNodes.size(), count = outlines.size(); i < count; i++) {
-            removeOutline(allNodes.size());
+        final List<Node> layerNodes = outlineLayer.getChildren();
+        if (removedNodes.isEmpty() == false) {
+            layerNodes.removeAll(removedNodes);
         }
-        assert outlines.size() == allNodes.size();
-    }
-    
-    private void addOutline(int i, FXOMInstance nodeInstance) {
-        assert outlines.size() == outlineLayer.getChildren().size();
         
-        final NodeOutline newOutline = new NodeOutline(this, nodeInstance);
-        outlines.add(i, newOutline);
-        outlineLayer.getChildren().add(i, newOutline.getRootNode());
+        // Kept outlines are left in place: new and moved outlines are
+        // inserted in runs before the next kept outline.
+        final List<Node> insertedNodes = new ArrayList<>();
+        int i = 0;
+        for (FXOMObject fxomObject : outlinedObjects) {
+            final NodeOutline outline = outlines.get(fxomObject);
+            if (outline == null) {
+                assert fxomObject instanceof FXOMInstance;
+                final NodeOutline newOutline = new NodeOutline(this, (FXOMInstance) fxomObject);
+                outlines.put(fxomObject, newOutline);
+                insertedNodes.add(newOutline.getRootNode());
+            } else if ((i < layerNodes.size()) && (layerNodes.get(i) == outline.getRootNode())) {
+                layerNodes.addAll(i, insertedNodes);
+                i += insertedNodes.size() + 1;
+                insertedNodes.clear();
+            } else {
+                // Object has moved in the document
+                layerNodes.remove(outline.getRootNode());
+                insertedNodes.add(outline.getRootNode());
+            }
+        }
+        layerNodes.addAll(i, insertedNodes);
+        outlinedObjects.clear();
         
-        assert outlines.size() == outlineLayer.getChildren().size();
-        assert outlines.get(i).getRootNode() == outlineLayer.getChildren().get(i);
-    }
-    
-    private void replaceOutline(int i, FXOMInstance nodeInstance) {
-        removeOutline(i);
-        addOutline(i, nodeInstance);
+        assert outlines.size() == layerNodes.size();
     }
     
-    
-    private void removeOutline(int i) {
-        assert outlines.size() == outlineLayer.getChildren().size();
-        assert outlines.get(i).getRootNode() == outlineLayer.getChildren().get(i);
-        
-        outlines.remove(i);
-        outlineLayer.getChildren().remove(i);
-        
-        assert outlines.size() == outlineLayer.getChildren().size();
+    /*
+     * For unit tests
+     */
+    NodeOutline lookupOutline(FXOMObject fxomObject) {
+        return outlines.get(fxomObject);
     }
     
-    private List<FXOMObject> collectNodes() {
-        final List<FXOMObject> result = new ArrayList<>();
+    /*
+     * Breadth first walk, sub components before accessories : outlines of
+     * the deepest objects are drawn last.
+     */
+    private void collectNodes(Set<FXOMObject> result) {
+        assert outlineCandidates.isEmpty();
         
-        final List<FXOMObject> candidates = new ArrayList<>();
         final FXOMDocument fxomDocument = getEditorController().getFxomDocument();
         if ((fxomDocument != null) && (fxomDocument.getFxomRoot() != null)) {
-            candidates.add(fxomDocument.getFxomRoot());
+            outlineCandidates.addLast(fxomDocument.getFxomRoot());
         } 
         
-        while (candidates.isEmpty() == false) {
-            final FXOMObject candidate = candidates.get(0);
-            candidates.remove(0);
+        final Scene panelScene = getPanelRoot().getScene();
+        while (outlineCandidates.isEmpty() == false) {
+            final FXOMObject candidate = outlineCandidates.removeFirst();
             if (candidate.isNode()) {
                 final Node sgo = (Node) candidate.getSceneGraphObject();
-                if (sgo.getScene() == getPanelRoot().getScene()) {
+                if (sgo.getScene() == panelScene) {
                     result.add(candidate);
                 }
             }
-            final DesignHierarchyMask m = new DesignHierarchyMask(candidate);
-            if (m.isAcceptingSubComponent()) {
-                for (int i = 0, c = m.getSubComponentCount(); i < c; i++) {
-                    final FXOMObject subComponent = m.getSubComponentAtIndex(i);
-                    candidates.add(subComponent);
+            // Only instances have sub components and accessories
+            if ((candidate instanceof FXOMInstance) && (candidate.getSceneGraphObject() != null)) {
+                final FXOMInstance instance = (FXOMInstance) candidate;
+                final DesignProperties designProperties = designPropertiesCache.computeIfAbsent(
+                        instance.getSceneGraphObject().getClass(), k -> makeDesignProperties(instance));
+                if (designProperties.subComponentName() != null) {
+                    final FXOMProperty p = instance.getProperties().get(designProperties.subComponentName());
+                    if (p instanceof FXOMPropertyC) {
+                        for (FXOMObject subComponent : ((FXOMPropertyC) p).getValues()) {
+                            outlineCandidates.addLast(subComponent);
+                        }
+                    }
                 }
-            }
-            for (DesignHierarchyMask.Accessory a : m.getAccessoryList()) {
-                if (m.isAcceptingAccessory(a)) {
-                    final FXOMObject accessoryObject = m.getAccessory(a);
-                    if ((accessoryObject != null) && accessoryObject.isNode()) {
-                        candidates.add(accessoryObject);
+                for (PropertyName accessoryName : designProperties.accessoryNames()) {
+                    final FXOMProperty p = instance.getProperties().get(accessoryName);
+                    if (p instanceof FXOMPropertyC) {
+                        final FXOMObject accessoryObject = ((FXOMPropertyC) p).getValues().get(0);
+                        if (accessoryObject.isNode()) {
+                            outlineCandidates.addLast(accessoryObject);
+                        }
                     }
                 }
             }
         }
-        
-        return result;
+    }
+    
+    /*
+     * Properties holding the design children of instances of a given class.
+     * DesignHierarchyMask builds the property metadata table of the class :
+     * it is queried once per class instead of once per object.
+     */
+    private static DesignProperties makeDesignProperties(FXOMInstance fxomInstance) {
+        final DesignHierarchyMask m = new DesignHierarchyMask(fxomInstance);
+        final PropertyName subComponentName
+                = m.isAcceptingSubComponent() ? m.getSubComponentPropertyName() : null;
+        final Set<PropertyName> accessoryNames = new LinkedHashSet<>();
+        for (DesignHierarchyMask.Accessory a : m.getAccessoryList()) {
+            if (m.isAcceptingAccessory(a)) {
+                accessoryNames.add(m.getPropertyNameForAccessory(a));
+            }
+        }
+        return new DesignProperties(subComponentName, List.copyOf(accessoryNames));
+    }
+    
+    private record DesignProperties(PropertyName subComponentName, List<PropertyName> accessoryNames) {
     }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Objects sorted by a coordinate. The objects whose coordinate is close to
+ * a target value are found with a binary search.
+ * 
+ * Objects with the same coordinate keep their insertion order.
+ */
+class CoordinateIndex<T> {
+    
+    private final ToDoubleFunction<T> coordinateFunction;
+    private final boolean descending;
+    private final List<T> objects = new ArrayList<>();
+    private double[] keys = new double[0];
+    private boolean sorted = true;
+    
+    /**
+     * @param coordinateFunction returns the coordinate of an object
+     * @param descending true if objects are sorted by decreasing coordinate
+     */
+    public CoordinateIndex(ToDoubleFunction<T> coordinateFunction, boolean descending) {
+        assert coordinateFunction != null;
+        this.coordinateFunction = coordinateFunction;
+        this.descending = descending;
+    }
+    
+    public void add(T object) {
+        assert object != null;
+        objects.add(object);
+        sorted = false;
+    }
+    
+    public void clear() {
+        objects.clear();
+        keys = new double[0];
+        sorted = true;
+    }
+    
+    public boolean isEmpty() {
+        return objects.isEmpty();
+    }
+    
+    public int size() {
+        return objects.size();
+    }
+    
+    public T get(int i) {
+        assert sorted;
+        return objects.get(i);
+    }
+    
+    /**
+     * Returns the index of the first object whose coordinate may be
+     * such as |coordinate - target| &lt; threshold. Objects from this index
+     * up to getEnd() excluded are the candidates : they are sorted by
+     * coordinate and callers still check their exact distance.
+     * 
+     * @param target the target coordinate
+     * @param threshold a positive distance
+     * @return the index of the first candidate.
+     */
+    public int getStart(double target, double threshold) {
+        assert threshold >= 0;
+        sort();
+        // First key >= target - threshold
+        return search(makeKey(target) - threshold, true);
+    }
+    
+    /**
+     * Returns the index following the last candidate.
+     * 
+     * @param target the target coordinate
+     * @param threshold a positive distance
+     * @return the index following the last candidate.
+     */
+    public int getEnd(double target, double threshold) {
+        assert threshold >= 0;
+        sort();
+        // First key > target + threshold
+        return search(makeKey(target) + threshold, false);
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    // Keys are always increasing : descending coordinates are negated
+    private double makeKey(double coordinate) {
+        return descending ? -coordinate : coordinate;
+    }
+    
+    private void sort() {
+        if (sorted == false) {
+            // List.sort() is stable : insertion order is kept for equal keys
+            objects.sort(Comparator.comparingDouble(o -> makeKey(coordinateFunction.applyAsDouble(o))));
+            keys = new double[objects.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = makeKey(coordinateFunction.applyAsDouble(objects.get(i)));
+            }
+            sorted = true;
+        }
+    }
+    
+    /*
+     * Returns the index of the first key greater than value
+     * (or greater or equal if inclusive is true).
+     */
+    private int search(double value, boolean inclusive) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if ((keys[mid] > value) || (inclusive && (keys[mid] == value))) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Gluon and/or its affiliates.
+ * Copyright (c) 2018, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -35,7 +35,6 @@ package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
 
 import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
@@ -45,15 +44,13 @@ import javafx.geometry.Point2D;
  */
 class HorizontalLineIndex {
     
-    private static final HorizontalLineComparator comparator = new HorizontalLineComparator();
-    
-    private final List<HorizontalSegment> lines = new ArrayList<>();
-    private boolean sorted;
+    // Lines are sorted by decreasing y
+    private final CoordinateIndex<HorizontalSegment> lines
+            = new CoordinateIndex<>(HorizontalSegment::getY1, true);
     
 
     public void addLine(HorizontalSegment s) {
         lines.add(s);
-        sorted = false;
     }
     
     public void clear() {
@@ -93,12 +90,12 @@ class HorizontalLineIndex {
     private List<HorizontalSegment> matchY(double targetY, double threshold) {
         assert threshold >= 0;
         
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
+        final int start = lines.getStart(targetY, threshold);
+        final int end = lines.getEnd(targetY, threshold);
         double bestDelta = Double.MAX_VALUE;
         final List<HorizontalSegment> result = new ArrayList<>();
-        for (HorizontalSegment l : lines) {
+        for (int i = start; i < end; i++) {
+            final HorizontalSegment l = lines.get(i);
             final double delta = Math.abs(l.getY1() - targetY);
             if (delta < threshold) {
                 if (MathUtils.equals(delta, bestDelta)) {
@@ -117,12 +114,12 @@ class HorizontalLineIndex {
     private List<HorizontalSegment> matchXY(double targetX, double targetY, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
+        final int start = lines.getStart(targetY, threshold);
+        final int end = lines.getEnd(targetY, threshold);
         double bestDelta = Double.MAX_VALUE;
         final List<HorizontalSegment> result = new ArrayList<>();
-        for (HorizontalSegment l : lines) {
+        for (int i = start; i < end; i++) {
+            final HorizontalSegment l = lines.get(i);
             final double delta = Math.abs(l.getY1() - targetY);
             if (delta < threshold && targetX >= l.getX1() && targetX <= l.getX2()) {
                 if (MathUtils.equals(delta, bestDelta)) {
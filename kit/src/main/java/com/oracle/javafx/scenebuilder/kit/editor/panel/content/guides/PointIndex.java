@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Gluon and/or its affiliates.
+ * Copyright (c) 2018, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -36,20 +36,19 @@ import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
 import javafx.geometry.Point2D;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 class PointIndex {
 
     private static final PointComparator comparator = new PointComparator();
 
-    private final List<Point2D> points = new ArrayList<>();
-    private boolean sorted;
+    // Points are sorted by increasing x : only those in [x - threshold, x + threshold]
+    // can match a target
+    private final CoordinateIndex<Point2D> points = new CoordinateIndex<>(Point2D::getX, false);
 
 
     public void addPoint(Point2D point) {
         points.add(point);
-        sorted = false;
     }
 
     public void clear() {
@@ -63,12 +62,12 @@ class PointIndex {
     public List<Point2D> match(Point2D target, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(points, comparator);
-        }
+        final int start = points.getStart(target.getX(), threshold);
+        final int end = points.getEnd(target.getX(), threshold);
         double bestDelta = Double.MAX_VALUE;
         final List<Point2D> result = new ArrayList<>();
-        for (Point2D point : points) {
+        for (int i = start; i < end; i++) {
+            final Point2D point = points.get(i);
             final double delta = Math.sqrt(Math.pow(target.getX() - point.getX(), 2) + Math.pow(target.getY() - point.getY(), 2));
             if (delta < threshold) {
                 if (MathUtils.equals(delta, bestDelta)) {
@@ -80,6 +79,8 @@ class PointIndex {
                 }
             }
         }
+        // Matching points are returned by increasing distance from origin
+        result.sort(comparator);
 
         return result;
     }
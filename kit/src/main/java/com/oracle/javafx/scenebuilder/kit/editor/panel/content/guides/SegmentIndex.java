@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -34,7 +35,6 @@ package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
 
 import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
@@ -42,8 +42,9 @@ import java.util.List;
  */
 public class SegmentIndex {
     
-    private final List<AbstractSegment> segments = new ArrayList<>();
-    private boolean sorted;
+    // Segments are sorted by increasing length
+    private final CoordinateIndex<AbstractSegment> segments
+            = new CoordinateIndex<>(AbstractSegment::getLength, false);
     
     public SegmentIndex() {
         // no-op
@@ -51,7 +52,6 @@ public class SegmentIndex {
 
     public void addSegment(AbstractSegment s) {
         segments.add(s);
-        sorted = false;
     }
     
     public void clear() {
@@ -62,12 +62,12 @@ public class SegmentIndex {
         assert targetLength >= 0;
         assert threshold >= 0;
         
-        if (sorted == false) {
-            Collections.sort(segments);
-        }
+        final int start = segments.getStart(targetLength, threshold);
+        final int end = segments.getEnd(targetLength, threshold);
         double bestDelta = Double.MAX_VALUE;
         final List<AbstractSegment> result = new ArrayList<>();
-        for (AbstractSegment s : segments) {
+        for (int i = start; i < end; i++) {
+            final AbstractSegment s = segments.get(i);
             final double delta = Math.abs(s.getLength() - targetLength);
             if (delta < threshold) {
                 if (MathUtils.equals(delta, bestDelta)) {
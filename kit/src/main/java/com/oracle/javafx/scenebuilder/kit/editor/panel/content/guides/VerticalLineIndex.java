@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Gluon and/or its affiliates.
+ * Copyright (c) 2018, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -35,7 +35,6 @@ package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
 
 import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
@@ -45,15 +44,13 @@ import javafx.geometry.Point2D;
  */
 class VerticalLineIndex {
     
-    private static final VerticalLineComparator comparator = new VerticalLineComparator();
-    
-    private final List<VerticalSegment> lines = new ArrayList<>();
-    private boolean sorted;
+    // Lines are sorted by decreasing x
+    private final CoordinateIndex<VerticalSegment> lines
+            = new CoordinateIndex<>(VerticalSegment::getX1, true);
     
 
     public void addLine(VerticalSegment s) {
         lines.add(s);
-        sorted = false;
     }
     
     public void clear() {
@@ -93,12 +90,12 @@ class VerticalLineIndex {
     private List<VerticalSegment> matchX(double targetX, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
+        final int start = lines.getStart(targetX, threshold);
+        final int end = lines.getEnd(targetX, threshold);
         double bestDelta = Double.MAX_VALUE;
         final List<VerticalSegment> result = new ArrayList<>();
-        for (VerticalSegment l : lines) {
+        for (int i = start; i < end; i++) {
+            final VerticalSegment l = lines.get(i);
             final double delta = Math.abs(l.getX1() - targetX);
             if (delta < threshold) {
                 if (MathUtils.equals(delta, bestDelta)) {
@@ -117,12 +114,12 @@ class VerticalLineIndex {
     private List<VerticalSegment> matchXY(double targetX, double targetY, double threshold) {
         assert threshold >= 0;
 
-        if (sorted == false) {
-            Collections.sort(lines, comparator);
-        }
+        final int start = lines.getStart(targetX, threshold);
+        final int end = lines.getEnd(targetX, threshold);
         double bestDelta = Double.MAX_VALUE;
         final List<VerticalSegment> result = new ArrayList<>();
-        for (VerticalSegment l : lines) {
+        for (int i = start; i < end; i++) {
+            final VerticalSegment l = lines.get(i);
             final double delta = Math.abs(l.getX1() - targetX);
             if (delta < threshold && targetY >= l.getY1() && targetY <= l.getY2()) {
                 if (MathUtils.equals(delta, bestDelta)) {
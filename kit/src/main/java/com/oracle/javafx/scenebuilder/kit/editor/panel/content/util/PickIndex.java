@@ -0,0 +1,387 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+
+/**
+ * This class allows to pick nodes at a given position without walking
+ * the scene graph.
+ * 
+ * Scene bounds of the indexed nodes are kept in a uniform grid. A pick only
+ * tests the nodes whose bounds contain the position. The bounds of a node
+ * are updated when its transform or its bounds change. The indexed nodes
+ * are collected again after {@link #reset}.
+ * 
+ * For the indexed nodes, the result of a pick is the same as Picker one.
+ */
+public class PickIndex {
+    
+    private static final double CELL_SIZE = 64;
+    // Nodes covering more cells are tested on each pick
+    private static final int MAX_CELL_COUNT = 256;
+    
+    private final Map<Node, Entry> entries = new IdentityHashMap<>();
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    private final Set<Entry> largeEntries = new LinkedHashSet<>();
+    private final Set<Entry> dirtyEntries = new LinkedHashSet<>();
+    private Node root;
+    private Predicate<Node> filter;
+    private boolean structureDirty;
+
+    public PickIndex() {
+        // no-op
+    }
+
+    /**
+     * Indexes root and its descendants accepted by filter. Nodes are
+     * collected at next pick: the scene graph may still be incomplete
+     * (skins are created by the next CSS pass).
+     * 
+     * @param root null or the root of the scene graph to be indexed
+     * @param filter the nodes to be indexed (may be null if root is null)
+     */
+    public void reset(Node root, Predicate<Node> filter) {
+        assert (root == null) || (filter != null);
+        
+        clear();
+        this.root = root;
+        this.filter = filter;
+        this.structureDirty = root != null;
+    }
+    
+    /**
+     * Returns true if node is the indexed root or one of its descendants.
+     * 
+     * @param node a node (never null)
+     * @return true if picks starting from node can use this index.
+     */
+    public boolean isIndexing(Node node) {
+        assert node != null;
+        
+        Node n = node;
+        while ((n != null) && (n != root)) {
+            n = n.getParent();
+        }
+        return (root != null) && (n == root);
+    }
+    
+    /**
+     * Returns the list of indexed nodes below (sceneX, sceneY).
+     * Topmost node is at index 0.
+     * Search starts from startNode and ignores the excluded nodes and their
+     * descendants.
+     * 
+     * @param startNode a node such as isIndexing(startNode) is true
+     * @param sceneX x coordinate of a point in the root scene
+     * @param sceneY y coordinate of a point in the root scene
+     * @param excludes a set of nodes (never null)
+     * @return null or the list of indexed nodes below (sceneX, sceneY).
+     */
+    public List<Node> pick(Node startNode, double sceneX, double sceneY, Set<Node> excludes) {
+        assert startNode != null;
+        assert startNode.getScene() != null;
+        assert isIndexing(startNode);
+        assert Double.isNaN(sceneX) == false;
+        assert Double.isNaN(sceneY) == false;
+        assert excludes != null;
+        
+        final Point2D localXY = startNode.sceneToLocal(sceneX, sceneY, true /* rootScene */);
+        if (localXY == null) {
+            return null;
+        }
+        // Indexed bounds are expressed in the (sub) scene of the nodes
+        final Point2D sceneXY = startNode.localToScene(localXY);
+        
+        List<Entry> hits = null;
+        for (int attempt = 0; (hits == null) && (attempt < 2); attempt++) {
+            if (structureDirty) {
+                collectEntries();
+            }
+            updateDirtyEntries();
+            hits = lookup(startNode, sceneXY, excludes);
+            if (structureDirty) {
+                // A node moved to another parent : its rank is no longer valid
+                hits = null;
+            }
+        }
+        if (hits == null) {
+            // Scene graph keeps changing : ranks are approximate
+            hits = lookup(startNode, sceneXY, excludes);
+        }
+        
+        final List<Node> result;
+        if (hits.isEmpty()) {
+            result = null;
+        } else {
+            hits.sort(Comparator.comparingInt((Entry e) -> e.rank).reversed());
+            result = new ArrayList<>();
+            for (Entry e : hits) {
+                result.add(e.node);
+            }
+        }
+        
+        return result;
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    private void clear() {
+        for (Entry e : entries.values()) {
+            e.node.localToSceneTransformProperty().removeListener(e);
+            e.node.layoutBoundsProperty().removeListener(e);
+            e.node.boundsInLocalProperty().removeListener(e);
+        }
+        entries.clear();
+        cells.clear();
+        largeEntries.clear();
+        dirtyEntries.clear();
+    }
+    
+    private void collectEntries() {
+        assert root != null;
+        
+        clear();
+        collectEntries(root, new int[1]);
+        structureDirty = false;
+    }
+    
+    private void collectEntries(Node node, int[] rank) {
+        // Ranks follow the Picker traversal : children after their parent
+        if (filter.test(node)) {
+            final Entry entry = new Entry(node, rank[0]++);
+            entries.put(node, entry);
+            node.localToSceneTransformProperty().addListener(entry);
+            node.layoutBoundsProperty().addListener(entry);
+            node.boundsInLocalProperty().addListener(entry);
+            dirtyEntries.add(entry);
+        }
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                collectEntries(child, rank);
+            }
+        }
+    }
+    
+    private void updateDirtyEntries() {
+        // Computing bounds may invalidate other entries (lazy layout bounds)
+        final List<Entry> entriesToUpdate = new ArrayList<>(dirtyEntries);
+        dirtyEntries.clear();
+        for (Entry e : entriesToUpdate) {
+            removeFromGrid(e);
+            e.update();
+            addToGrid(e);
+        }
+    }
+    
+    private List<Entry> lookup(Node startNode, Point2D sceneXY, Set<Node> excludes) {
+        final List<Entry> result = new ArrayList<>();
+        
+        final List<Entry> cell = cells.get(makeCellKey(
+                getCellIndex(sceneXY.getX()), getCellIndex(sceneXY.getY())));
+        if (cell != null) {
+            lookup(cell, startNode, sceneXY, excludes, result);
+        }
+        lookup(largeEntries, startNode, sceneXY, excludes, result);
+        
+        return result;
+    }
+    
+    private void lookup(Collection<Entry> candidates, Node startNode, Point2D sceneXY, 
+            Set<Node> excludes, List<Entry> result) {
+        for (Entry e : candidates) {
+            if (e.node.getParent() != e.parent) {
+                structureDirty = true;
+            }
+            if (e.contains(sceneXY) && isPickable(e.node, startNode, excludes)) {
+                final Point2D localXY = e.node.sceneToLocal(sceneXY);
+                // Note : localXY may be null (scale == 0 for example)
+                if ((localXY != null) && Picker.match(e.node, localXY.getX(), localXY.getY())) {
+                    result.add(e);
+                }
+            }
+        }
+    }
+    
+    /*
+     * Same conditions as Picker traversal : node and its ancestors up to
+     * startNode are visible and not excluded.
+     */
+    private static boolean isPickable(Node node, Node startNode, Set<Node> excludes) {
+        Node n = node;
+        while ((n != null) && n.isVisible() && (excludes.contains(n) == false)) {
+            if (n == startNode) {
+                return true;
+            }
+            n = n.getParent();
+        }
+        return false;
+    }
+    
+    private void addToGrid(Entry e) {
+        if (e.isEmpty() == false) {
+            if ((e.isFinite() == false) || (e.getCellCount() > MAX_CELL_COUNT)) {
+                largeEntries.add(e);
+            } else {
+                for (int x = e.minCellX; x <= e.maxCellX; x++) {
+                    for (int y = e.minCellY; y <= e.maxCellY; y++) {
+                        cells.computeIfAbsent(makeCellKey(x, y), k -> new ArrayList<>()).add(e);
+                    }
+                }
+            }
+        }
+    }
+    
+    private void removeFromGrid(Entry e) {
+        if ((largeEntries.remove(e) == false) && (e.isEmpty() == false) && e.isFinite()) {
+            for (int x = e.minCellX; x <= e.maxCellX; x++) {
+                for (int y = e.minCellY; y <= e.maxCellY; y++) {
+                    final Long key = makeCellKey(x, y);
+                    final List<Entry> cell = cells.get(key);
+                    if (cell != null) {
+                        cell.remove(e);
+                        if (cell.isEmpty()) {
+                            cells.remove(key);
+                        }
+                    }
+                }
+            }
+        }
+    }
+    
+    private static int getCellIndex(double v) {
+        return (int) Math.floor(v / CELL_SIZE);
+    }
+    
+    private static long makeCellKey(int x, int y) {
+        return ((long) x << 32) | (y & 0xFFFFFFFFL);
+    }
+    
+    
+    private class Entry implements InvalidationListener {
+        
+        private final Node node;
+        private final int rank;
+        private final Parent parent;
+        private double minX, minY, maxX, maxY;
+        private int minCellX, minCellY, maxCellX, maxCellY;
+        private boolean empty = true;
+        
+        Entry(Node node, int rank) {
+            this.node = node;
+            this.rank = rank;
+            this.parent = node.getParent();
+        }
+        
+        boolean isEmpty() {
+            return empty;
+        }
+        
+        boolean isFinite() {
+            return Double.isFinite(minX) && Double.isFinite(minY)
+                    && Double.isFinite(maxX) && Double.isFinite(maxY)
+                    && (Math.abs(minX / CELL_SIZE) < Integer.MAX_VALUE)
+                    && (Math.abs(minY / CELL_SIZE) < Integer.MAX_VALUE)
+                    && (Math.abs(maxX / CELL_SIZE) < Integer.MAX_VALUE)
+                    && (Math.abs(maxY / CELL_SIZE) < Integer.MAX_VALUE);
+        }
+        
+        long getCellCount() {
+            return ((long) maxCellX - minCellX + 1) * ((long) maxCellY - minCellY + 1);
+        }
+        
+        boolean contains(Point2D p) {
+            return (empty == false)
+                    && (minX <= p.getX()) && (p.getX() <= maxX)
+                    && (minY <= p.getY()) && (p.getY() <= maxY);
+        }
+        
+        void update() {
+            // Reading the properties validates them : listeners will be
+            // invoked again at next change
+            final Bounds layoutBounds = node.getLayoutBounds();
+            final Bounds boundsInLocal = node.getBoundsInLocal();
+            final Bounds sceneBounds;
+            if (layoutBounds.isEmpty()) {
+                // Picker never matches such a node
+                sceneBounds = null;
+            } else if (boundsInLocal.isEmpty()) {
+                sceneBounds = node.getLocalToSceneTransform().transform(layoutBounds);
+            } else {
+                sceneBounds = node.getLocalToSceneTransform().transform(
+                        BoundsUnion.compute(layoutBounds, boundsInLocal));
+            }
+            empty = (sceneBounds == null) || sceneBounds.isEmpty();
+            if (empty == false) {
+                // Lines are picked up to Picker.THRESHOLD away
+                minX = sceneBounds.getMinX() - Picker.THRESHOLD;
+                minY = sceneBounds.getMinY() - Picker.THRESHOLD;
+                maxX = sceneBounds.getMaxX() + Picker.THRESHOLD;
+                maxY = sceneBounds.getMaxY() + Picker.THRESHOLD;
+                if (isFinite()) {
+                    minCellX = getCellIndex(minX);
+                    minCellY = getCellIndex(minY);
+                    maxCellX = getCellIndex(maxX);
+                    maxCellY = getCellIndex(maxY);
+                }
+            }
+        }
+        
+        /*
+         * InvalidationListener
+         */
+        
+        @Override
+        public void invalidated(Observable o) {
+            dirtyEntries.add(this);
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2018, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -52,7 +52,7 @@ import javafx.scene.shape.Shape;
  */
 public class Picker {
 
-    private final static double THRESHOLD = 3;
+    final static double THRESHOLD = 3;
     
     private final Set<Node> excludes = new HashSet<>();
     private final List<Node> matches = new ArrayList<>();
@@ -89,6 +89,8 @@ public class Picker {
         
         this.matches.clear();
         performPick(startNode, localX, localY);
+        // Topmost node has been found last
+        Collections.reverse(matches);
         return matches.isEmpty() ? null : Collections.unmodifiableList(matches);
     }
 
@@ -101,7 +103,7 @@ public class Picker {
 
         if ((excludes.contains(startNode) == false) && startNode.isVisible()){
             if (match(startNode, localX, localY)) {
-                matches.add(0, startNode);
+                matches.add(startNode);
             }
         
             if (startNode instanceof Parent) {
@@ -118,7 +120,10 @@ public class Picker {
         }
     }
 
-    private boolean match(Node node, double x, double y) {
+    /*
+     * Also used by PickIndex
+     */
+    static boolean match(Node node, double x, double y) {
         assert node != null;
         
         final Bounds bounds = node.getLayoutBounds();
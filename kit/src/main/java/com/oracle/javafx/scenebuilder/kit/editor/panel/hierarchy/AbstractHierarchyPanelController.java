@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -52,7 +52,6 @@ import java.net.URL;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -114,6 +113,13 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
     private boolean parentRingEnabled = true;
     private Paint parentRingColor;
     private final Map<FXOMObject, Boolean> treeItemsExpandedMapProperty = new HashMap<>();
+    // TreeItems of the displayed FXOM objects
+    private Map<FXOMObject, TreeItem<HierarchyItem>> treeItemsMap = new HashMap<>();
+    // TreeItems of the previous update not reused yet (see updateTreeItems())
+    private Map<FXOMObject, TreeItem<HierarchyItem>> reusableTreeItemsMap = new HashMap<>();
+    // Children as they were before the current update, of the TreeItems
+    // which lost a child moved to another parent (see makeTreeItem())
+    private final Map<TreeItem<HierarchyItem>, List<TreeItem<HierarchyItem>>> previousChildrenMap = new HashMap<>();
     private boolean shouldEndOnExit;
     private Label promptLabel;
 
@@ -485,6 +491,8 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
     protected void fxomDocumentDidChange(FXOMDocument oldDocument) {
         // Clear the map containing the TreeItems expanded property values
         treeItemsExpandedMapProperty.clear();
+        // TreeItems of the previous document must not be reused
+        treeItemsMap.clear();
         updatePanel();
     }
 
@@ -494,16 +502,12 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
     @Override
     protected void sceneGraphRevisionDidChange() {
         if (getPanelControl() != null) {
-            // Update the map containing the TreeItems expanded property values
-            // This map will be used after rebuilding the tree, 
-            // in order to update the TreeItems expanded property to their previous value
-            if (rootTreeItem != null) { // Root TreeItem may be null
-                updateTreeItemsExpandedMap(rootTreeItem);
-            }
             // FXOM document has rebuilt the scene graph. Tree items must all
             // be updated because:
+            //  - fxom objects may have been added, removed or moved
             //  - classes of scene graph objects may have mutated
             //  - infos displayed in the tree items may be obsoletes
+            // Existing tree items are reused (see updateTreeItems()).
             updatePanel();
             editorSelectionDidChange();
         }
@@ -517,20 +521,6 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         sceneGraphRevisionDidChange();
     }
 
-    private void updateTreeItemsExpandedMap(TreeItem<HierarchyItem> treeItem) {
-        assert treeItem != null;
-        final HierarchyItem item = treeItem.getValue();
-        if (!item.isEmpty()) {
-            final FXOMObject fxomObject = item.getFxomObject();
-            assert fxomObject != null;
-            treeItemsExpandedMapProperty.put(fxomObject, treeItem.isExpanded());
-            // Inspect TreeItem chidren
-            for (TreeItem<HierarchyItem> treeItemChild : treeItem.getChildren()) {
-                updateTreeItemsExpandedMap(treeItemChild);
-            }
-        }
-    }
-
     /**
      * @treatAsPrivate
      */
@@ -637,48 +627,85 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         }
     }
 
-    private TreeItem<HierarchyItem> makeTreeItem(final FXOMObject fxomObject) {
-        final HierarchyItem item = new HierarchyItem(fxomObject);
-        final TreeItem<HierarchyItem> treeItem = new TreeItem<>(item);
-        // Set back the TreeItem expanded property if any
-        Boolean expanded = treeItemsExpandedMapProperty.get(fxomObject);
-        if (expanded != null) {
-            treeItem.setExpanded(expanded);
-        }
-        updateTreeItem(treeItem);
-        return treeItem;
+    private TreeItem<HierarchyItem> makeTreeItem(final FXOMObject fxomObject,
+            final TreeItem<HierarchyItem> parentTreeItem, int index) {
+        return makeTreeItem(new HierarchyItem(fxomObject), fxomObject, parentTreeItem, index);
     }
 
-    private TreeItem<HierarchyItem> makeTreeItem(HierarchyItem item, final FXOMObject fxomObject) {
-        final TreeItem<HierarchyItem> treeItem = new TreeItem<>(item);
-        // Set back the TreeItem expanded property if any
-        Boolean expanded = treeItemsExpandedMapProperty.get(fxomObject);
-        if (expanded != null) {
-            treeItem.setExpanded(expanded);
+    /*
+     * Returns the TreeItem of the specified item : either a TreeItem of the
+     * previous update or a new one.
+     * parentTreeItem is the TreeItem of the parent (null for the root) and
+     * index is the position of the item among its new siblings.
+     */
+    private TreeItem<HierarchyItem> makeTreeItem(HierarchyItem item, final FXOMObject fxomObject,
+            final TreeItem<HierarchyItem> parentTreeItem, int index) {
+        TreeItem<HierarchyItem> treeItem = null;
+
+        if (item.isPlaceholder()) {
+            // Place holder items depend on their position in the parent :
+            // only the TreeItem previously at the same position is reused
+            final List<TreeItem<HierarchyItem>> previousChildren = parentTreeItem == null ? null
+                    : previousChildrenMap.getOrDefault(parentTreeItem, parentTreeItem.getChildren());
+            if (previousChildren != null && index < previousChildren.size()) {
+                final TreeItem<HierarchyItem> previous = previousChildren.get(index);
+                final HierarchyItem previousItem = previous.getValue();
+                if (previousItem.getClass() == item.getClass()
+                        && previousItem.getFxomObject() == fxomObject
+                        && item.equals(previousItem)) {
+                    treeItem = previous;
+                }
+            }
+            if (fxomObject != null) {
+                final TreeItem<HierarchyItem> previous = reusableTreeItemsMap.remove(fxomObject);
+                if (previous != null && previous != treeItem) {
+                    treeItemsExpandedMapProperty.put(fxomObject, previous.isExpanded());
+                }
+            }
+        } else if (fxomObject != null) {
+            final TreeItem<HierarchyItem> previous = reusableTreeItemsMap.remove(fxomObject);
+            if (previous != null) {
+                if (previous.getValue().getClass() == item.getClass()) {
+                    treeItem = previous;
+                } else {
+                    treeItemsExpandedMapProperty.put(fxomObject, previous.isExpanded());
+                }
+            }
+        }
+
+        if (treeItem == null) {
+            treeItem = new LazyTreeItem(item);
+            // Set back the TreeItem expanded property if any
+            Boolean expanded = fxomObject == null ? null : treeItemsExpandedMapProperty.get(fxomObject);
+            if (expanded != null) {
+                treeItem.setExpanded(expanded);
+            }
+        } else {
+            // Keep the previous item so that its cell is not rebuilt
+            item = treeItem.getValue();
+            // Fxom object may have been moved to another parent
+            final TreeItem<HierarchyItem> previousParent = treeItem.getParent();
+            if (previousParent != null && previousParent != parentTreeItem) {
+                // previousParent may not be walked yet : its place holders
+                // must still be matched with their previous position
+                previousChildrenMap.computeIfAbsent(previousParent, p -> new ArrayList<>(p.getChildren()));
+                previousParent.getChildren().remove(treeItem);
+            }
+        }
+
+        if (item.getFxomObject() != null) {
+            treeItemsMap.put(item.getFxomObject(), treeItem);
         }
-        // Mask may be null for empty placeholder
-        if (item.getMask() != null) {
+        // Children of a new TreeItem are created when first requested :
+        // only the TreeItems whose children were created must be updated
+        // (mask may be null for empty placeholder)
+        if (item.getMask() != null
+                && (treeItem instanceof LazyTreeItem == false || ((LazyTreeItem) treeItem).isLoaded())) {
             updateTreeItem(treeItem);
         }
         return treeItem;
     }
 
-    private TreeItem<HierarchyItem> makeTreeItemBorderPane(
-            final DesignHierarchyMask owner,
-            final FXOMObject fxomObject,
-            final Accessory accessory) {
-        final HierarchyItemBorderPane item = new HierarchyItemBorderPane(owner, fxomObject, accessory);
-        return makeTreeItem(item, fxomObject);
-    }
-
-    private TreeItem<HierarchyItem> makeTreeItemDialogPane(
-            final DesignHierarchyMask owner,
-            final FXOMObject fxomObject,
-            final Accessory accessory) {
-        final HierarchyItemDialogPane item = new HierarchyItemDialogPane(owner, fxomObject, accessory);
-        return makeTreeItem(item, fxomObject);
-    }
-
     /**
      * @param owner the mask owner
      * @param fxomObject the FXOMObject
@@ -689,7 +716,7 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
             final DesignHierarchyMask owner,
             final FXOMObject fxomObject) {
         final HierarchyItemGraphic item = new HierarchyItemGraphic(owner, fxomObject);
-        return makeTreeItem(item, fxomObject);
+        return makeTreeItem(item, fxomObject, null, 0);
     }
 
     protected void updateTreeItems() {
@@ -702,6 +729,7 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         final Label label = getPromptLabel();
         if (fxomDocument == null || fxomDocument.getFxomRoot() == null) {
             rootTreeItem = null;
+            treeItemsMap.clear();
             // Add placeholder to the parent
             if (fxomDocument == null) {
                 label.setText(I18N.getString("contant.label.status.fxomdocument.null"));
@@ -714,8 +742,18 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
                 pane.getChildren().add(label);
             }
         } else {
-            rootTreeItem = makeTreeItem(fxomDocument.getFxomRoot());
+            // TreeItems of the fxom objects still in the document are reused :
+            // only the modified parts of the tree are updated
+            reusableTreeItemsMap = treeItemsMap;
+            treeItemsMap = new HashMap<>();
+            rootTreeItem = makeTreeItem(fxomDocument.getFxomRoot(), null, 0);
             rootTreeItem.setExpanded(true);
+            // Remaining TreeItems belong to removed fxom objects
+            for (Map.Entry<FXOMObject, TreeItem<HierarchyItem>> e : reusableTreeItemsMap.entrySet()) {
+                treeItemsExpandedMapProperty.put(e.getKey(), e.getValue().isExpanded());
+            }
+            reusableTreeItemsMap = new HashMap<>();
+            previousChildrenMap.clear();
             // Remove placeholder from the parent
             ((Pane) parent).getChildren().remove(label);
         }
@@ -776,13 +814,15 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
 
         final DesignHierarchyMask mask = treeItem.getValue().getMask();
         assert mask != null;
+        final List<TreeItem<HierarchyItem>> children = new ArrayList<>();
 
         // Graphic (displayed at first position)
         //---------------------------------
         if (mask.isAcceptingAccessory(Accessory.GRAPHIC)) {
             final FXOMObject value = mask.getAccessory(Accessory.GRAPHIC);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItemGraphic(mask, value));
+                final HierarchyItem item = new HierarchyItemGraphic(mask, value);
+                children.add(makeTreeItem(item, value, treeItem, children.size()));
             }
         }
 
@@ -791,7 +831,7 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         if (mask.isAcceptingAccessory(Accessory.TOOLTIP)) {
             final FXOMObject value = mask.getAccessory(Accessory.TOOLTIP);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
 
@@ -800,7 +840,7 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         if (mask.isAcceptingAccessory(Accessory.CONTEXT_MENU)) {
             final FXOMObject value = mask.getAccessory(Accessory.CONTEXT_MENU);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
 
@@ -809,13 +849,13 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         if (mask.isAcceptingAccessory(Accessory.XAXIS)) {
             final FXOMObject value = mask.getAccessory(Accessory.XAXIS);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
         if (mask.isAcceptingAccessory(Accessory.YAXIS)) {
             final FXOMObject value = mask.getAccessory(Accessory.YAXIS);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
 
@@ -823,7 +863,7 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         mask.getExternalHierarchyItemGeneratorMap().forEach((accessory, biFunction) -> {
             if (mask.isAcceptingAccessory(accessory)) {
                 final FXOMObject fxom = mask.getAccessory(accessory);
-                treeItem.getChildren().add(makeTreeItem(biFunction.apply(mask, fxom), fxom));
+                children.add(makeTreeItem(biFunction.apply(mask, fxom), fxom, treeItem, children.size()));
             }
         });
 
@@ -832,21 +872,21 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         if (mask.isAcceptingAccessory(Accessory.CONTENT)) {
             final FXOMObject value = mask.getAccessory(Accessory.CONTENT);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
 
         if (mask.isAcceptingAccessory(Accessory.ROOT)) {
             final FXOMObject value = mask.getAccessory(Accessory.ROOT);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
 
         if (mask.isAcceptingAccessory(Accessory.SCENE)) {
             final FXOMObject value = mask.getAccessory(Accessory.SCENE);
             if (value != null) {
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
 
@@ -860,7 +900,8 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
             Accessory.BOTTOM}) {
             if (mask.isAcceptingAccessory(accessory)) {
                 final FXOMObject value = mask.getAccessory(accessory);
-                treeItem.getChildren().add(makeTreeItemBorderPane(mask, value, accessory));
+                final HierarchyItem item = new HierarchyItemBorderPane(mask, value, accessory);
+                children.add(makeTreeItem(item, value, treeItem, children.size()));
             }
         }
 
@@ -873,7 +914,8 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
             Accessory.EXPANDABLE_CONTENT}) {
             if (mask.isAcceptingAccessory(accessory)) {
                 final FXOMObject value = mask.getAccessory(accessory);
-                treeItem.getChildren().add(makeTreeItemDialogPane(mask, value, accessory));
+                final HierarchyItem item = new HierarchyItemDialogPane(mask, value, accessory);
+                children.add(makeTreeItem(item, value, treeItem, children.size()));
             }
         }
 
@@ -882,9 +924,14 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         if (mask.isAcceptingSubComponent()) {
             for (int i = 0, count = mask.getSubComponentCount(); i < count; i++) {
                 final FXOMObject value = mask.getSubComponentAtIndex(i);
-                treeItem.getChildren().add(makeTreeItem(value));
+                children.add(makeTreeItem(value, treeItem, children.size()));
             }
         }
+
+        // Children list is modified only if the structure did change
+        if (children.equals(treeItem.getChildren()) == false) {
+            treeItem.getChildren().setAll(children);
+        }
     }
 
     private List<TreeItem<HierarchyItem>> lookupTreeItem(List<FXOMObject> fxomObjects) {
@@ -906,32 +953,26 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
      * @treatAsPrivate
      */
     public TreeItem<HierarchyItem> lookupTreeItem(FXOMObject fxomObject) {
-        return lookupTreeItem(fxomObject, getRoot());
-    }
-
-    private TreeItem<HierarchyItem> lookupTreeItem(FXOMObject fxomObject, TreeItem<HierarchyItem> fromTreeItem) {
-        TreeItem<HierarchyItem> result;
         assert fxomObject != null;
-
-        // ROOT TreeItem may be null when no document is loaded
-        if (fromTreeItem != null) {
-            assert fromTreeItem.getValue() != null;
-            if (fromTreeItem.getValue().getFxomObject() == fxomObject) {
-                result = fromTreeItem;
-            } else {
-                Iterator<TreeItem<HierarchyItem>> it = fromTreeItem.getChildren().iterator();
-                result = null;
-                while ((result == null) && it.hasNext()) {
-                    TreeItem<HierarchyItem> childItem = it.next();
-                    result = lookupTreeItem(fxomObject, childItem);
-                }
+        TreeItem<HierarchyItem> result = treeItemsMap.get(fxomObject);
+        if (result == null && fxomObject.getParentObject() != null) {
+            // TreeItems of the parent children may not be created yet
+            final TreeItem<HierarchyItem> parentTreeItem = lookupTreeItem(fxomObject.getParentObject());
+            if (parentTreeItem != null) {
+                parentTreeItem.getChildren();
+                result = treeItemsMap.get(fxomObject);
             }
-        } else {
-            result = null;
         }
         return result;
     }
 
+    /*
+     * For unit tests : unlike lookupTreeItem(), TreeItems are not created.
+     */
+    TreeItem<HierarchyItem> peekTreeItem(FXOMObject fxomObject) {
+        return treeItemsMap.get(fxomObject);
+    }
+
     /**
      * Returns the list of all descendant from the specified parent TreeItem.
      * The specified parent TreeItem is excluded from the returned list.
@@ -1307,4 +1348,40 @@ public abstract class AbstractHierarchyPanelController extends AbstractFxmlPanel
         }
         return (Cell<?>) node;
     }
+
+    /*
+     * TreeItem whose children are created on first request, typically when
+     * its parent or itself is expanded. Opening a large document only
+     * creates the TreeItems of the visible rows.
+     */
+    private class LazyTreeItem extends TreeItem<HierarchyItem> {
+
+        private boolean loaded;
+
+        LazyTreeItem(HierarchyItem item) {
+            super(item);
+        }
+
+        boolean isLoaded() {
+            return loaded;
+        }
+
+        @Override
+        public ObservableList<TreeItem<HierarchyItem>> getChildren() {
+            if (loaded == false) {
+                // Set first : updateTreeItem() does query the children
+                loaded = true;
+                // Mask may be null for empty placeholder
+                if (getValue().getMask() != null) {
+                    updateTreeItem(this);
+                }
+            }
+            return super.getChildren();
+        }
+
+        @Override
+        public boolean isLeaf() {
+            return getChildren().isEmpty();
+        }
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024 Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -476,6 +476,17 @@ public class HierarchyTreeCell<T extends HierarchyItem> extends TreeCell<Hierarc
         }
     }
 
+    /**
+     * Updates the information displayed by this cell.
+     * The item of the cell is unchanged but its fxom object may have been modified.
+     */
+    public final void updateDisplayInfo() {
+        final HierarchyItem item = getItem();
+        if (!isEmpty() && item != null) {
+            updateLayout(item);
+        }
+    }
+
     public final void updatePlaceHolder() {
         final Paint paint = panelController.getParentRingColor();
         placeHolderLabel.setTextFill(paint);
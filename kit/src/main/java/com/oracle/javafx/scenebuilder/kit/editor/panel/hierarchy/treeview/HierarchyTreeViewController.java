@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -116,6 +116,15 @@ public class HierarchyTreeViewController extends AbstractHierarchyPanelControlle
             stopListeningToTreeItemSelection();
             treeView.setRoot(rootTreeItem);
             startListeningToTreeItemSelection();
+            // TreeItems are reused : visible cells must update their info
+            updateDisplayInfo();
+        }
+    }
+
+    private void updateDisplayInfo() {
+        for (Node node : HierarchyTreeViewUtils.getTreeCells(treeView)) {
+            assert node instanceof HierarchyTreeCell;
+            ((HierarchyTreeCell<?>) node).updateDisplayInfo();
         }
     }
 
@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.library;
+
+import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
+import com.oracle.javafx.scenebuilder.kit.library.LibraryItemNameComparator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Trigram index of the library items searched by the library panel.
+ *
+ * An item matches a pattern when its name (qualifier included) or its section
+ * contains the pattern, ignoring case. When a pattern contains the previous
+ * one (typically one more character has been typed), only the previous
+ * matches are examined again.
+ */
+class LibraryItemIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_MATCH = new int[0];
+
+    private final LibraryItem[] items;
+    private final String[] names;
+    private final String[] sections;
+    private final Map<String, int[]> postings = new HashMap<>();
+    private final Comparator<LibraryItem> nameComparator = new LibraryItemNameComparator();
+    private String lastPattern;
+    private int[] lastMatches;
+
+    LibraryItemIndex(Collection<LibraryItem> items) {
+        assert items != null;
+
+        this.items = items.toArray(new LibraryItem[0]);
+        this.names = new String[this.items.length];
+        this.sections = new String[this.items.length];
+
+        final Map<String, List<Integer>> builder = new HashMap<>();
+        for (int i = 0; i < this.items.length; i++) {
+            names[i] = normalize(this.items[i].getName());
+            sections[i] = normalize(this.items[i].getSection());
+            addGrams(builder, names[i], i);
+            addGrams(builder, sections[i], i);
+        }
+        for (Map.Entry<String, List<Integer>> e : builder.entrySet()) {
+            final int[] posting = new int[e.getValue().size()];
+            for (int j = 0; j < posting.length; j++) {
+                posting[j] = e.getValue().get(j);
+            }
+            postings.put(e.getKey(), posting);
+        }
+    }
+
+    int getItemCount() {
+        return items.length;
+    }
+
+    /**
+     * Returns the items matching the specified pattern : items whose name is
+     * or starts with the pattern come first, items matching by their section
+     * only come last.
+     *
+     * @param pattern a search pattern (never null)
+     * @return the matching items, best matches first.
+     */
+    List<LibraryItem> search(String pattern) {
+        assert pattern != null;
+
+        final String p = normalize(pattern);
+        final List<LibraryItem> result;
+
+        if (p.isEmpty()) {
+            lastPattern = null;
+            lastMatches = null;
+            result = Collections.emptyList();
+        } else {
+            final int[] candidates;
+            if ((lastPattern != null) && p.contains(lastPattern)) {
+                candidates = lastMatches;
+            } else if (p.length() >= GRAM_LENGTH) {
+                candidates = lookupGrams(p);
+            } else {
+                candidates = null; // All items
+            }
+
+            final int candidateCount = (candidates == null) ? items.length : candidates.length;
+            final int[] matches = new int[candidateCount];
+            int matchCount = 0;
+            for (int j = 0; j < candidateCount; j++) {
+                final int i = (candidates == null) ? j : candidates[j];
+                if (names[i].contains(p) || sections[i].contains(p)) {
+                    matches[matchCount++] = i;
+                }
+            }
+            lastPattern = p;
+            lastMatches = Arrays.copyOf(matches, matchCount);
+
+            final Integer[] ranked = new Integer[matchCount];
+            for (int j = 0; j < matchCount; j++) {
+                ranked[j] = matches[j];
+            }
+            Arrays.sort(ranked, (i1, i2) -> {
+                final int rankComparison = Integer.compare(getRank(i1, p), getRank(i2, p));
+                return (rankComparison != 0) ? rankComparison : nameComparator.compare(items[i1], items[i2]);
+            });
+            result = new ArrayList<>(matchCount);
+            for (Integer i : ranked) {
+                result.add(items[i]);
+            }
+        }
+
+        return result;
+    }
+
+
+    /*
+     * Private
+     */
+
+    private static String normalize(String s) {
+        return (s == null) ? "" : s.toUpperCase(Locale.ROOT); //NOI18N
+    }
+
+    private static void addGrams(Map<String, List<Integer>> builder, String term, int itemIndex) {
+        for (int start = 0; start + GRAM_LENGTH <= term.length(); start++) {
+            final List<Integer> posting
+                    = builder.computeIfAbsent(term.substring(start, start + GRAM_LENGTH), k -> new ArrayList<>());
+            // Items are added in index order : postings stay sorted
+            if (posting.isEmpty() || (posting.get(posting.size() - 1) != itemIndex)) {
+                posting.add(itemIndex);
+            }
+        }
+    }
+
+    /*
+     * Returns the items holding every trigram of pattern. Some of them may
+     * still not contain the pattern itself.
+     */
+    private int[] lookupGrams(String pattern) {
+        int[] result = null;
+
+        for (int start = 0; start + GRAM_LENGTH <= pattern.length(); start++) {
+            final int[] posting = postings.get(pattern.substring(start, start + GRAM_LENGTH));
+            if (posting == null) {
+                result = NO_MATCH;
+            } else if (result == null) {
+                result = posting;
+            } else {
+                result = intersect(result, posting);
+            }
+            if (result.length == 0) {
+                break;
+            }
+        }
+
+        assert result != null;
+        return result;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        final int[] result = new int[Math.min(a.length, b.length)];
+        int count = 0;
+        int i = 0, j = 0;
+        while ((i < a.length) && (j < b.length)) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[count++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private int getRank(int itemIndex, String pattern) {
+        final String name = names[itemIndex];
+        final int result;
+
+        final int index = name.indexOf(pattern);
+        if (index == -1) {
+            result = 4; // Matches by section only
+        } else if (name.length() == pattern.length()) {
+            result = 0;
+        } else if (index == 0) {
+            result = 1;
+        } else if (Character.isLetterOrDigit(name.charAt(index - 1)) == false) {
+            result = 2; // Word prefix, typically a qualifier
+        } else {
+            result = 3;
+        }
+
+        return result;
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -86,6 +86,7 @@ import javafx.scene.control.Accordion;
 import javafx.scene.control.Label;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
+import javafx.scene.control.ProgressBar;
 import javafx.scene.control.TitledPane;
 import javafx.scene.input.Dragboard;
 import javafx.scene.input.KeyCode;
@@ -107,6 +108,7 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
 
     private String searchPattern;
     ArrayList<LibraryItem> searchData = new ArrayList<>();
+    private LibraryItemIndex searchIndex = new LibraryItemIndex(Collections.emptyList());
     private final String TEMP_FILE_EXTENSION = ".tmp"; //NOI18N
     // The name of the library section to keep opened. This is used when e.g.
     // a user jar file is imported to the library directory.
@@ -130,6 +132,8 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
 
     @FXML StackPane libPane;
 
+    @FXML ProgressBar explorationProgressBar;
+
     /*
      * Public
      */
@@ -253,11 +257,13 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
         assert libList != null;
         assert noSearchResults != null;
         assert libSearchList != null;
+        assert explorationProgressBar != null;
         
         startListeningToDrop();
         setDisplayMode(DISPLAY_MODE.SECTIONS);
         populateLibraryPanel();
         setUserLibraryPathString();
+        bindExplorationProgress(getEditorController().getLibrary());
     }
 
     private void displayModeDidChange(DISPLAY_MODE displayMode) {
@@ -367,6 +373,9 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
                 sectionNameToKeepOpened = null;
             }
         }
+        if (explorationProgressBar != null) {
+            bindExplorationProgress(t1);
+        }
         // libraryDidChange might not be called by several listeners.
         // Silencing the one below means I dunno how to get the selected index.
 //            libraryDidChange(t);
@@ -381,6 +390,20 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
 //        getEditorController().libraryProperty().removeListener(libraryListener);
 //    }
 
+    // The progress bar tracks the jars explored by a UserLibrary and is
+    // only shown while that library is exploring.
+    private void bindExplorationProgress(Library library) {
+        explorationProgressBar.progressProperty().unbind();
+        explorationProgressBar.visibleProperty().unbind();
+        if (library instanceof UserLibrary) {
+            final UserLibrary userLibrary = (UserLibrary) library;
+            explorationProgressBar.progressProperty().bind(userLibrary.explorationProgressProperty());
+            explorationProgressBar.visibleProperty().bind(userLibrary.exploringProperty());
+        } else {
+            explorationProgressBar.setVisible(false);
+        }
+    }
+
     void libraryDidChange(Library oldLib) {
         if (libAccordion != null) {
             // Clear the content of the panel.
@@ -487,6 +510,7 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
             libSearchList.addEventHandler(KeyEvent.KEY_RELEASED, keyEventHandler);
             getLibList().addEventHandler(KeyEvent.KEY_RELEASED, keyEventHandler);
         }
+        searchIndex = new LibraryItemIndex(searchData);
         // Update animation for all TitledPane
         libAccordion.getPanes().forEach(tp -> tp.setAnimated(animateAccordion));
     }
@@ -516,29 +540,23 @@ public class LibraryPanelController extends AbstractFxmlPanelController {
             }
         }
         
-        // The filtering is done by ignoring case, and by retaining any item that
-        // contains the given pattern. An opened question is to filter as soon as
-        // the pattern is two or more characters long: for now we react from the
-        // first character.
+        // The filtering is done by ignoring case, and by retaining any item whose
+        // name or section contains the given pattern (see LibraryItemIndex).
+        // An opened question is to filter as soon as the pattern is two or more
+        // characters long: for now we react from the first character.
         //
         // It can occur the whole Library is changed under the foots of SceneBuilder
-        // while filtering is on going. searchData is never null so if its
-        // content is changing then the filtering result will be inacurrate:
+        // while filtering is on going. searchIndex is rebuilt with searchData so
+        // the filtering result might be inacurrate until next keystroke:
         // that is acceptable.
         //
         if (currentDisplayMode.equals(DISPLAY_MODE.SEARCH)) {
-            libSearchList.getItems().clear();
-            final ArrayList<LibraryItem> rawFilteredItem = new ArrayList<>();
-            for (LibraryItem item : searchData) {
-                if (item.getName().toUpperCase(Locale.ROOT).contains(searchPattern)) {
-                    rawFilteredItem.add(item);
-                }
-            }
-            Collections.sort(rawFilteredItem, new LibraryItemNameComparator());
-            for (LibraryItem item : rawFilteredItem) {
-                libSearchList.getItems().add(new LibraryListItem(item));
+            final List<LibraryListItem> searchItems = new ArrayList<>();
+            for (LibraryItem item : searchIndex.search(searchPattern)) {
+                searchItems.add(new LibraryListItem(item));
             }
-            rawFilteredItem.clear();
+            // A single change for the list view
+            libSearchList.getItems().setAll(searchItems);
         }
         
         setDisplayMode(currentDisplayMode);
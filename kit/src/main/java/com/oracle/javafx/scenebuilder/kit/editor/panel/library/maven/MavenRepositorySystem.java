@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -39,8 +39,10 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
@@ -90,6 +92,10 @@ public class MavenRepositorySystem {
 
     private static final Logger LOG = Logger.getLogger(MavenRepositorySystem.class.getName());
 
+    // -Dmaven.offline=true : artifacts are resolved from the local repository only
+    private static boolean offline = Boolean.getBoolean("maven.offline"); //NOI18N
+    private static ResolutionCache resolutionCache = new ResolutionCache(null);
+
     // TODO: Manage List of Repositories
     // TODO: Manage private repositories and credentials
     
@@ -100,6 +106,9 @@ public class MavenRepositorySystem {
     private LocalRepository localRepo;
     
     private VersionRangeResult rangeResult;
+    // Version ranges resolved by this instance : versions published meanwhile
+    // are found when a new dialog is opened
+    private final Map<String, VersionRangeResult> rangeResults = new HashMap<>();
     
     private final boolean onlyReleases;
     private final String userM2Repository;
@@ -113,6 +122,34 @@ public class MavenRepositorySystem {
         initRepositorySystem();
     }
     
+    public static synchronized boolean isOffline() {
+        return offline;
+    }
+    
+    /**
+     * Sets the offline mode. When offline, remote repositories are not
+     * contacted. It applies to the instances created afterwards.
+     * 
+     * @param offline true to resolve artifacts from the local repository only
+     */
+    public static synchronized void setOffline(boolean offline) {
+        MavenRepositorySystem.offline = offline;
+    }
+    
+    /**
+     * Sets the file where resolved artifact files and dependencies are cached
+     * across launches. When not set, they are cached in memory only.
+     * 
+     * @param cacheFile a file path or null
+     */
+    public static synchronized void setResolutionCacheFile(Path cacheFile) {
+        resolutionCache = new ResolutionCache(cacheFile);
+    }
+    
+    private static synchronized ResolutionCache getResolutionCache() {
+        return resolutionCache;
+    }
+    
     private void initRepositorySystem() {
         system = new RepositorySystemSupplier().get();
         if (system == null) {
@@ -144,6 +181,7 @@ public class MavenRepositorySystem {
             })
             .withLocalRepositories(localRepo)
             .setDependencySelector(dependencySelector)
+            .setOffline(isOffline())
             .build();
     }
 
@@ -173,14 +211,8 @@ public class MavenRepositorySystem {
     }
     
     public List<Version> findVersions(Artifact artifact) {
-        VersionRangeRequest rangeRequest = new VersionRangeRequest();
-        rangeRequest.setArtifact(artifact);
-        rangeRequest.setRepositories(getRepositories());
         try {
-            rangeResult = system.resolveVersionRange(session, rangeRequest);
-            cleanMetadata(artifact);
-            
-            return rangeResult.getVersions();
+            return resolveVersionRange(artifact).getVersions();
         } catch (VersionRangeResolutionException ex) {
             LOG.finer("VersionRangeResolutionException finding version for artifact " + artifact + ": " + ex);
         }
@@ -188,13 +220,8 @@ public class MavenRepositorySystem {
     }
     
     public Version findLatestVersion(Artifact artifact) {
-        VersionRangeRequest rangeRequest = new VersionRangeRequest();
-        rangeRequest.setArtifact(artifact);
-        rangeRequest.setRepositories(getRepositories());
         try {
-            rangeResult = system.resolveVersionRange(session, rangeRequest);
-            cleanMetadata(artifact);
-            return rangeResult.getVersions().stream()
+            return resolveVersionRange(artifact).getVersions().stream()
                 .filter(v -> !v.toString().toLowerCase(Locale.ROOT).contains("snapshot"))
                 .max(Comparator.naturalOrder())
                 .orElse(null);
@@ -204,6 +231,23 @@ public class MavenRepositorySystem {
         return null;
     }
     
+    private VersionRangeResult resolveVersionRange(Artifact artifact) throws VersionRangeResolutionException {
+        VersionRangeResult result = rangeResults.get(artifact.toString());
+        if (result == null) {
+            VersionRangeRequest rangeRequest = new VersionRangeRequest();
+            rangeRequest.setArtifact(artifact);
+            rangeRequest.setRepositories(getRepositories());
+            result = system.resolveVersionRange(session, rangeRequest);
+            // When offline, metadata of the local repository is all we have
+            if (isOffline() == false) {
+                cleanMetadata(artifact);
+            }
+            rangeResults.put(artifact.toString(), result);
+        }
+        rangeResult = result;
+        return result;
+    }
+    
     private void cleanMetadata(Artifact artifact) {
         final Path path = localRepo.getBasePath()
             .resolve(artifact.getGroupId().replaceAll("\\.", Matcher.quoteReplacement(File.separator)))
@@ -227,6 +271,12 @@ public class MavenRepositorySystem {
         
     public String resolveArtifacts(RemoteRepository remoteRepository, Artifact... artifact) {
 
+        final List<Path> cachedPaths
+                = getResolutionCache().get(ResolutionCache.ARTIFACT, artifact[0], remoteRepository);
+        if ((cachedPaths != null) && (cachedPaths.size() == 1)) {
+            return cachedPaths.get(0).toString();
+        }
+
         List<Artifact> artifacts = Stream.of(artifact)
                 .map(a -> {
                     ArtifactRequest artifactRequest = new ArtifactRequest();
@@ -272,6 +322,7 @@ public class MavenRepositorySystem {
             if (sha1Paths != null) {
                 sha1Paths.forEach(path -> copyFile(path, jarFile.getParent().resolve(path.getFileName())));
             }
+            getResolutionCache().put(ResolutionCache.ARTIFACT, artifact[0], remoteRepository, List.of(jarFile));
         } catch (ArtifactResolutionException ex) {
             LOG.finer("ArtifactResolutionException for artifact request " + artifactRequest + ": " + ex);
         }
@@ -280,6 +331,14 @@ public class MavenRepositorySystem {
     }
         
     public String resolveDependencies(RemoteRepository remoteRepository, Artifact artifact) {
+        final List<Path> cachedPaths
+                = getResolutionCache().get(ResolutionCache.DEPENDENCIES, artifact, remoteRepository);
+        if (cachedPaths != null) {
+            return cachedPaths.stream()
+                    .map(Path::toString)
+                    .collect(Collectors.joining(File.pathSeparator));
+        }
+
         CollectRequest collectRequest = new CollectRequest();
         collectRequest.setRoot(new Dependency(artifact, "compile"));
         collectRequest.setRepositories(remoteRepository == null ? getRepositories() : List.of(remoteRepository));
@@ -291,9 +350,13 @@ public class MavenRepositorySystem {
             DependencyResult dependencyResult = system.resolveDependencies(session, dependencyRequest);
             List<ArtifactResult> artifactResults = dependencyResult.getArtifactResults();
 
-            return artifactResults.stream()
+            final List<Path> paths = artifactResults.stream()
                     .skip(1) // exclude jar itself
-                    .map(a -> a.getArtifact().getPath().toAbsolutePath().toString())
+                    .map(a -> a.getArtifact().getPath().toAbsolutePath())
+                    .collect(Collectors.toList());
+            getResolutionCache().put(ResolutionCache.DEPENDENCIES, artifact, remoteRepository, paths);
+            return paths.stream()
+                    .map(Path::toString)
                     .collect(Collectors.joining(File.pathSeparator));
         } catch (DependencyResolutionException ex) {
             LOG.finer("DependencyResolutionException for artifact " + artifact + ": " + ex);
@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Properties;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.repository.RemoteRepository;
+
+/**
+ * Cache of the files resolved by {@link MavenRepositorySystem}, keyed by
+ * artifact coordinates and repository.
+ *
+ * An entry is only used while all its files still exist. Snapshots are not
+ * cached : their content may change in the repository.
+ */
+class ResolutionCache {
+
+    static final String ARTIFACT = "artifact"; //NOI18N
+    static final String DEPENDENCIES = "dependencies"; //NOI18N
+
+    private static final Logger LOG = Logger.getLogger(ResolutionCache.class.getName());
+
+    private final Path cacheFile;
+    private Properties entries;
+
+    /**
+     * @param cacheFile file where the cache is saved or null to keep it in memory only
+     */
+    ResolutionCache(Path cacheFile) {
+        this.cacheFile = cacheFile;
+    }
+
+    Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Returns the cached files of the specified artifact or null if they are
+     * not cached or if one of them has been removed.
+     */
+    synchronized List<Path> get(String kind, Artifact artifact, RemoteRepository repository) {
+        final String value = getEntries().getProperty(makeKey(kind, artifact, repository));
+
+        List<Path> result;
+        if (value == null) {
+            result = null;
+        } else if (value.isEmpty()) {
+            result = Collections.emptyList();
+        } else {
+            result = new ArrayList<>();
+            for (String path : value.split(File.pathSeparator)) {
+                final Path p = Paths.get(path);
+                if (Files.exists(p) == false) {
+                    result = null;
+                    break;
+                }
+                result.add(p);
+            }
+        }
+
+        return result;
+    }
+
+    synchronized void put(String kind, Artifact artifact, RemoteRepository repository, List<Path> paths) {
+        assert paths != null;
+
+        if (artifact.isSnapshot() == false) {
+            final StringBuilder value = new StringBuilder();
+            for (Path path : paths) {
+                if (value.length() > 0) {
+                    value.append(File.pathSeparator);
+                }
+                value.append(path.toAbsolutePath());
+            }
+            getEntries().setProperty(makeKey(kind, artifact, repository), value.toString());
+            save();
+        }
+    }
+
+
+    /*
+     * Private
+     */
+
+    private static String makeKey(String kind, Artifact artifact, RemoteRepository repository) {
+        final StringBuilder result = new StringBuilder();
+
+        result.append(kind);
+        result.append('|');
+        result.append(artifact.toString().toLowerCase(Locale.ROOT));
+        result.append('|');
+        if (repository != null) {
+            result.append(repository.getId());
+            result.append('|');
+            result.append(repository.getUrl());
+        }
+
+        return result.toString();
+    }
+
+    private Properties getEntries() {
+        if (entries == null) {
+            entries = new Properties();
+            if (cacheFile != null) {
+                try (InputStream is = Files.newInputStream(cacheFile)) {
+                    entries.load(is);
+                } catch (NoSuchFileException x) {
+                    // Nothing cached yet
+                } catch (IOException | IllegalArgumentException x) {
+                    LOG.log(Level.FINE, "Ignoring corrupted resolution cache " + cacheFile, x); //NOI18N
+                    entries.clear();
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void save() {
+        if (cacheFile != null) {
+            final Path tmpFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp"); //NOI18N
+            try {
+                Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+                try (OutputStream os = Files.newOutputStream(tmpFile)) {
+                    entries.store(os, null);
+                }
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException x) {
+                LOG.log(Level.FINE, "Unable to save resolution cache " + cacheFile, x); //NOI18N
+            }
+        }
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Index of the artifacts available in a local Maven repository.
+ *
+ * The index records the folders of the repository with their modification
+ * time. The first update walks the whole repository; next updates only list
+ * again the folders whose modification time changed. The index is saved in
+ * the index folder (if any) so that next launches start from it.
+ */
+public class LocalRepositoryIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(LocalRepositoryIndex.class.getName());
+    private static final int MAGIC = 0x53424d49; // SBMI
+    private static final int VERSION = 1;
+    // Folders modified more recently (in ms) are listed again at next update:
+    // some file systems round modification times to the second
+    private static final long TIME_RESOLUTION = 2000;
+    private static final Map<Path, LocalRepositoryIndex> INDEXES = new HashMap<>();
+    private static final Executor UPDATE_EXECUTOR = Executors.newSingleThreadExecutor(r -> {
+        final Thread result = new Thread(r, "Local Maven repository indexing"); //NOI18N
+        result.setDaemon(true);
+        return result;
+    });
+    private static Path indexFolder;
+
+    private final Path repository;
+    private final Path indexFile;
+    // Relative folder path ('/' separated) -> folder : confined to the update executor
+    private final Map<String, IndexedFolder> folders = new HashMap<>();
+    private final CompletableFuture<List<String>> firstCoordinates = new CompletableFuture<>();
+    private volatile List<String> coordinates; // Sorted, null until loaded or built
+    private CompletableFuture<Void> update; // Guarded by this
+    private boolean loaded;
+
+    LocalRepositoryIndex(Path repository, Path indexFile) {
+        assert repository != null;
+        this.repository = repository;
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Sets the folder where indexes are saved. When not set, indexes are
+     * built again at each launch.
+     *
+     * @param folder a folder path or null
+     */
+    public static synchronized void setIndexFolder(Path folder) {
+        indexFolder = folder;
+    }
+
+    /**
+     * Returns the index of the specified repository. The index is shared by
+     * all the searches of the application.
+     *
+     * @param repository path of a local Maven repository
+     * @return the index of the repository
+     */
+    public static synchronized LocalRepositoryIndex getIndex(Path repository) {
+        final Path key = repository.toAbsolutePath().normalize();
+        return INDEXES.computeIfAbsent(key, k -> {
+            final Path indexFile = (indexFolder == null) ? null : indexFolder.resolve("MavenIndex-" //NOI18N
+                    + Integer.toHexString(k.toString().hashCode()) + ".bin"); //NOI18N
+            return new LocalRepositoryIndex(k, indexFile);
+        });
+    }
+
+    public Path getRepository() {
+        return repository;
+    }
+
+    /**
+     * Starts updating the index in the background. If an update is already
+     * running, no other one is started.
+     *
+     * @return the running update
+     */
+    public synchronized CompletableFuture<Void> update() {
+        if ((update == null) || update.isDone()) {
+            update = CompletableFuture.runAsync(this::runUpdate, UPDATE_EXECUTOR);
+        }
+        return update;
+    }
+
+    /**
+     * Returns the coordinates (group:artifact:version range) containing the
+     * query. Results come from the last update: the repository is not read,
+     * except when the index has never been built.
+     *
+     * @param query the search query
+     * @return the matching coordinates sorted alphabetically
+     */
+    public List<String> search(String query) {
+        List<String> snapshot = coordinates;
+        if (snapshot == null) {
+            update();
+            try {
+                snapshot = firstCoordinates.get();
+            } catch (ExecutionException x) {
+                snapshot = Collections.emptyList();
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+                snapshot = Collections.emptyList();
+            }
+        }
+
+        final List<String> result = new ArrayList<>();
+        for (String gav : snapshot) {
+            if (gav.contains(query)) {
+                result.add(gav);
+            }
+        }
+        return result;
+    }
+
+
+    /*
+     * Private
+     */
+
+    private void runUpdate() {
+        try {
+            if (loaded == false) {
+                loaded = true;
+                if (load()) {
+                    // Searches may start with the saved index
+                    publishCoordinates();
+                }
+            }
+            final Set<String> visited = new HashSet<>();
+            boolean changed = Files.isDirectory(repository) && updateFolder("", repository, visited); //NOI18N
+            changed |= folders.keySet().retainAll(visited);
+            if (changed || (coordinates == null)) {
+                publishCoordinates();
+                save();
+            }
+        } catch (IOException | RuntimeException x) {
+            LOGGER.log(Level.WARNING, "Unable to index " + repository, x); //NOI18N
+        } finally {
+            firstCoordinates.complete((coordinates == null) ? Collections.emptyList() : coordinates);
+        }
+    }
+
+    /*
+     * Returns true if the folder or one of its sub folders changed.
+     */
+    private boolean updateFolder(String key, Path folder, Set<String> visited) throws IOException {
+        visited.add(key);
+
+        final long lastModified = Files.getLastModifiedTime(folder).toMillis();
+        IndexedFolder indexedFolder = folders.get(key);
+        boolean changed = false;
+        if ((indexedFolder == null) || (indexedFolder.lastModified != lastModified)) {
+            final boolean recent = System.currentTimeMillis() - lastModified < TIME_RESOLUTION;
+            indexedFolder = listFolder(folder, recent ? -1 : lastModified);
+            folders.put(key, indexedFolder);
+            changed = true;
+        }
+        for (String name : indexedFolder.subFolderNames) {
+            final String subKey = key.isEmpty() ? name : key + "/" + name; //NOI18N
+            try {
+                changed |= updateFolder(subKey, folder.resolve(name), visited);
+            } catch (NoSuchFileException x) {
+                // Folder removed since it has been listed
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    private static IndexedFolder listFolder(Path folder, long lastModified) throws IOException {
+        final List<String> subFolderNames = new ArrayList<>();
+        boolean hasJar = false;
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            for (Path p : stream) {
+                final String name = p.getFileName().toString();
+                if (Files.isDirectory(p, LinkOption.NOFOLLOW_LINKS)) {
+                    subFolderNames.add(name);
+                } else if (name.endsWith(".jar")) { //NOI18N
+                    hasJar = true;
+                }
+            }
+        }
+
+        return new IndexedFolder(lastModified, hasJar, subFolderNames);
+    }
+
+    /*
+     * Folders holding a jar are group/artifact/version folders.
+     */
+    private void publishCoordinates() {
+        final Set<String> result = new TreeSet<>();
+        for (Map.Entry<String, IndexedFolder> e : folders.entrySet()) {
+            if (e.getValue().hasJar) {
+                final String[] names = e.getKey().split("/"); //NOI18N
+                final int length = names.length;
+                if (length >= 3) {
+                    final String a = names[length - 2];
+                    final String g = String.join(".", List.of(names).subList(0, length - 2)); //NOI18N
+                    result.add(g + ":" + a + ":" + Search.MIN_VERSION); //NOI18N
+                }
+            }
+        }
+        coordinates = Collections.unmodifiableList(new ArrayList<>(result));
+    }
+
+    private boolean load() {
+        boolean result = false;
+
+        if (indexFile != null) {
+            try (DataInputStream dis = new DataInputStream(
+                    new BufferedInputStream(Files.newInputStream(indexFile)))) {
+                if ((dis.readInt() != MAGIC) || (dis.readInt() != VERSION)
+                        || (dis.readUTF().equals(repository.toString()) == false)) {
+                    throw new IOException("Unexpected index format"); //NOI18N
+                }
+                final int folderCount = dis.readInt();
+                for (int i = 0; i < folderCount; i++) {
+                    final String key = dis.readUTF();
+                    final long lastModified = dis.readLong();
+                    final boolean hasJar = dis.readBoolean();
+                    final int subFolderCount = dis.readInt();
+                    final List<String> subFolderNames = new ArrayList<>(subFolderCount);
+                    for (int j = 0; j < subFolderCount; j++) {
+                        subFolderNames.add(dis.readUTF());
+                    }
+                    folders.put(key, new IndexedFolder(lastModified, hasJar, subFolderNames));
+                }
+                result = true;
+            } catch (NoSuchFileException x) {
+                // Not indexed yet
+            } catch (IOException x) {
+                // Corrupted index : repository is walked again
+                folders.clear();
+            }
+        }
+
+        return result;
+    }
+
+    private void save() throws IOException {
+        if (indexFile != null) {
+            final Path tmpFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp"); //NOI18N
+            Files.createDirectories(indexFile.toAbsolutePath().getParent());
+            try (DataOutputStream dos = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+                dos.writeInt(MAGIC);
+                dos.writeInt(VERSION);
+                dos.writeUTF(repository.toString());
+                dos.writeInt(folders.size());
+                for (Map.Entry<String, IndexedFolder> e : folders.entrySet()) {
+                    final IndexedFolder folder = e.getValue();
+                    dos.writeUTF(e.getKey());
+                    dos.writeLong(folder.lastModified);
+                    dos.writeBoolean(folder.hasJar);
+                    dos.writeInt(folder.subFolderNames.size());
+                    for (String name : folder.subFolderNames) {
+                        dos.writeUTF(name);
+                    }
+                }
+            }
+            Files.move(tmpFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static class IndexedFolder {
+        final long lastModified; // -1 if the folder must be listed again
+        final boolean hasJar;
+        final List<String> subFolderNames;
+
+        IndexedFolder(long lastModified, boolean hasJar, List<String> subFolderNames) {
+            this.lastModified = lastModified;
+            this.hasJar = hasJar;
+            this.subFolderNames = Collections.unmodifiableList(subFolderNames);
+        }
+    }
+}
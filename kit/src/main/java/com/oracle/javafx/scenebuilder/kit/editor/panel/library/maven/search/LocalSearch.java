@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -32,23 +32,19 @@
 package com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.search;
 
 import com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.preset.MavenPresets;
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import org.eclipse.aether.artifact.DefaultArtifact;
 
 public class LocalSearch implements Search {
             
-    private final String m2;
+    private final LocalRepositoryIndex index;
         
     public LocalSearch(String userM2Repostory) {
-        m2 = userM2Repostory + File.separator;
+        index = LocalRepositoryIndex.getIndex(Paths.get(userM2Repostory));
     }
     
     @Override
@@ -57,29 +53,11 @@ public class LocalSearch implements Search {
         final Map<String, String> map = new HashMap<>();
         map.put("Repository", MavenPresets.LOCAL);
         
-        try {
-            return Files
-                    .find(Paths.get(m2), 999, (p, bfa) -> bfa.isRegularFile())
-                    .map(p -> p.toAbsolutePath().toString())
-                    .filter(s -> s.endsWith(".jar"))
-                    .map(s -> {
-                        String d[] = s.substring(m2.length()).split("\\" + File.separator);
-                        int length = d.length;
-                        if (length > 3) {
-                            String a = d[length - 3];
-                            String g = Stream.of(d)
-                                    .limit(length - 3)
-                                    .collect(Collectors.joining("."));
-                            return g + ":" + a + ":" + MIN_VERSION;
-                        }
-                        return null;
-                    })
-                    .filter(gav -> gav != null && gav.contains(query))
-                    .distinct()
-                    .map(gav -> new DefaultArtifact(gav, map))
-                    .collect(Collectors.toList());
-        } catch (IOException ex) { }
-        return null;
+        // The repository is not walked : see LocalRepositoryIndex
+        return index.search(query)
+                .stream()
+                .map(gav -> new DefaultArtifact(gav, map))
+                .collect(Collectors.toList());
     }
     
 }
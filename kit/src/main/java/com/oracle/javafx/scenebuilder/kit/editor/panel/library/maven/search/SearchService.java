@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -31,7 +31,9 @@
  */
 package com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.search;
 
+import com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.MavenRepositorySystem;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.preset.MavenPresets;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -76,6 +78,8 @@ public class SearchService extends Service<Void> {
         result = FXCollections.observableArrayList();
         searching = new SimpleBooleanProperty();
         this.userM2Repository = userM2Repository;
+        // Local results are ready when the user starts typing
+        LocalRepositoryIndex.getIndex(Paths.get(userM2Repository)).update();
     }
     
     public void setQuery(String query) {
@@ -108,11 +112,15 @@ public class SearchService extends Service<Void> {
                 // TODO: Manage other search engines
                 // TODO: Retrieve user/password from Preferences
         
-                tasks = Arrays.asList(
-                    createSearchTask(new MavenSearch()),
-                    createSearchTask(new NexusSearch(MavenPresets.SONATYPE, "http://oss.sonatype.org", "", "")),
-                    createSearchTask(new NexusSearch(MavenPresets.GLUON_NEXUS, "https://nexus.gluonhq.com/nexus", "", "")),
-                    createSearchTask(new LocalSearch(userM2Repository)));
+                if (MavenRepositorySystem.isOffline()) {
+                    tasks = Arrays.asList(createSearchTask(new LocalSearch(userM2Repository)));
+                } else {
+                    tasks = Arrays.asList(
+                        createSearchTask(new MavenSearch()),
+                        createSearchTask(new NexusSearch(MavenPresets.SONATYPE, "http://oss.sonatype.org", "", "")),
+                        createSearchTask(new NexusSearch(MavenPresets.GLUON_NEXUS, "https://nexus.gluonhq.com/nexus", "", "")),
+                        createSearchTask(new LocalSearch(userM2Repository)));
+                }
                 
                 AtomicInteger count = new AtomicInteger();
                 tasks.forEach(task -> 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2019, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -40,13 +40,16 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument.FXOMDocumentSwitch;
+import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueDocument;
 
 /**
- *
+ * Archive of fxom objects used by copy/paste and drag and drop.
+ * Each object is stored as a glue snapshot : encoding and decoding the 
+ * archive do not involve any XML parsing. FXML text is produced on demand.
  */
 public class FXOMArchive implements Serializable {
     
-    private static final long serialVersionUID = 7777;
+    private static final long serialVersionUID = 7778;
 
     private final List<Entry> entries = new ArrayList<>();
     
@@ -55,8 +58,8 @@ public class FXOMArchive implements Serializable {
         
         for (FXOMObject o : fxomObjects) {
             final URL location = o.getFxomDocument().getLocation();
-            final String fxmlText = FXOMNodes.newDocument(o).getFxmlText(false);
-            entries.add(new Entry(fxmlText, location));
+            final FXOMDocument d = FXOMNodes.newDocumentWithoutSceneGraph(o);
+            entries.add(new Entry(d.makeGlueSnapshot(), location));
         }
     }
     
@@ -72,8 +75,11 @@ public class FXOMArchive implements Serializable {
         
         for (Entry e : entries) {
             final URL location = e.getLocation();
-            final String fxmlText = e.getFxmlText();
-            final FXOMDocument d = new FXOMDocument(fxmlText, location, 
+            final GlueDocument glue = e.makeGlue();
+            // FXMLLoader still needs the text to build the scene graph objects.
+            // The glue is copied instead of parsing the text again.
+            final String fxmlText = glue.toString();
+            final FXOMDocument d = new FXOMDocument(fxmlText, glue, location, 
                     targetDocument.getClassLoader(), targetDocument.getResources(),
                     FXOMDocumentSwitch.NORMALIZED);
             final FXOMObject fxomRoot = d.getFxomRoot();
@@ -88,17 +94,33 @@ public class FXOMArchive implements Serializable {
     
     public static class Entry implements Serializable {
         
-        private static final long serialVersionUID = 8888;
+        private static final long serialVersionUID = 8889;
         
-        private final String fxmlText;
+        private final byte[] glueSnapshot;
         private final URL location;
+        private transient String fxmlText;
         
-        public Entry(String fxmlText, URL location) {
-            this.fxmlText = fxmlText;
+        Entry(byte[] glueSnapshot, URL location) {
+            assert glueSnapshot != null;
+            this.glueSnapshot = glueSnapshot;
             this.location = location;
         }
 
+        /**
+         * Returns the FXML text of this entry. 
+         * Text is built from the glue snapshot at first invocation.
+         * 
+         * @return the FXML text of this entry (never null).
+         */
         public String getFxmlText() {
+            if (fxmlText == null) {
+                try {
+                    fxmlText = makeGlue().toString();
+                } catch(IOException x) {
+                    // glueSnapshot has been made by GlueDocument.makeSnapshot()
+                    throw new IllegalStateException(x);
+                }
+            }
             return fxmlText;
         }
 
@@ -106,5 +128,8 @@ public class FXOMArchive implements Serializable {
             return location;
         }
         
+        GlueDocument makeGlue() throws IOException {
+            return new GlueDocument(glueSnapshot);
+        }
     }
 }
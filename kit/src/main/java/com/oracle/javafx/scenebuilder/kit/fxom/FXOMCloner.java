@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -34,18 +35,32 @@ package com.oracle.javafx.scenebuilder.kit.fxom;
 
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 /**
- *
+ * Creates deep clones of fxom objects in a target document.
+ * 
+ * The clone is built detached from the target document : this one records
+ * a single change when the clone is inserted. fx:ids of the clonee document
+ * and references inside the clone are collected once per clone.
+ * 
+ * Properties are copied eagerly. FXOMInstance hands out its property map
+ * and glue element to callers which read and mutate them directly, and a
+ * clone is inserted (hence loaded by the refresher) right after creation :
+ * deferring the copy would only move its cost.
  */
 public class FXOMCloner {
     
     private final FXOMDocument targetDocument;
     private final FxIdCollector fxIdCollector;
     private FXOMObject clonee;
+    private Map<String, FXOMObject> cloneeFxIds; // Created lazily for each clone
     private final Set<String> addedFxIds = new HashSet<>();
     
     public FXOMCloner(FXOMDocument targetDocument) {
@@ -71,6 +86,7 @@ public class FXOMCloner {
         // Creates a deep clone of 'clonee'
         final FXOMObject result = cloneObject(this.clonee);
         addedFxIds.clear();
+        cloneeFxIds = null;
         
         // Renames fxid in the clone so that there is no naming
         // conflict when the clone is hooked to its target document.
@@ -168,7 +184,7 @@ public class FXOMCloner {
             case FX_COPY:
                 final String sourceFxId = source.getSource();
                 assert sourceFxId != null;
-                sourceObject = clonee.getFxomDocument().searchWithFxId(sourceFxId);
+                sourceObject = searchCloneeFxId(sourceFxId);
                 if (isInsideClonee(sourceObject) || addedFxIds.contains(sourceFxId)) {
                     shallowClone = true;
                 } else {
@@ -247,7 +263,7 @@ public class FXOMCloner {
         if (pv.isExpression()) {
             final String sourceFxId = pv.getSuffix();
             assert sourceFxId != null;
-            sourceObject = clonee.getFxomDocument().searchWithFxId(sourceFxId);
+            sourceObject = searchCloneeFxId(sourceFxId);
             assert sourceObject != null : "sourceFxId=" + sourceFxId;
             if (isInsideClonee(sourceObject) || addedFxIds.contains(sourceFxId)) {
                 shallowClone = true;
@@ -281,6 +297,13 @@ public class FXOMCloner {
         return result;
     }
     
+    private FXOMObject searchCloneeFxId(String fxId) {
+        if (cloneeFxIds == null) {
+            cloneeFxIds = clonee.getFxomDocument().collectFxIds();
+        }
+        return cloneeFxIds.get(fxId);
+    }
+    
     private boolean isInsideClonee(FXOMObject object) {
         assert object != null;
         return (object == clonee) || object.isDescendantOf(clonee);
@@ -297,6 +320,10 @@ public class FXOMCloner {
             fxIds.remove(clonee.getFxId());
         }
         
+        // References inside the clone, indexed by source fx:id (created lazily)
+        Map<String, List<FXOMIntrinsic>> references = null;
+        Map<String, List<FXOMPropertyT>> expressions = null;
+        
         for (Map.Entry<String, FXOMObject> e : fxIds.entrySet()) {
             final String candidateFxId = e.getKey();
             final FXOMObject declarer = e.getValue();
@@ -305,6 +332,12 @@ public class FXOMCloner {
             
             if (renamedFxId.equals(candidateFxId) == false) {
                 
+                if (references == null) {
+                    assert expressions == null;
+                    references = collectReferences(clone);
+                    expressions = collectReferenceExpressions(clone);
+                }
+                
                 /*
                  * We renamed candidateFxId as renamedFxId 
                  *  1) on the declarer object
@@ -316,7 +349,7 @@ public class FXOMCloner {
                 declarer.setFxId(renamedFxId);
 
                 // 2)
-                for (FXOMIntrinsic reference : clone.collectReferences(candidateFxId)) {
+                for (FXOMIntrinsic reference : references.getOrDefault(candidateFxId, Collections.emptyList())) {
                     assert reference.getSource().equals(candidateFxId);
                     reference.setSource(renamedFxId);
                 }
@@ -324,11 +357,37 @@ public class FXOMCloner {
                 // 3)
                 final PrefixedValue pv = new PrefixedValue(PrefixedValue.Type.EXPRESSION, renamedFxId);
                 final String newValue = pv.toString();
-                for (FXOMPropertyT reference : FXOMNodes.collectReferenceExpression(clone, candidateFxId)) {
+                for (FXOMPropertyT reference : expressions.getOrDefault(candidateFxId, Collections.emptyList())) {
                     reference.setValue(newValue);
                 }
             }
         }
         
     }
+    
+    private static Map<String, List<FXOMIntrinsic>> collectReferences(FXOMObject clone) {
+        final Map<String, List<FXOMIntrinsic>> result = new HashMap<>();
+        
+        for (FXOMIntrinsic reference : clone.collectReferences(null)) {
+            result.computeIfAbsent(reference.getSource(), k -> new ArrayList<>()).add(reference);
+        }
+        
+        return result;
+    }
+    
+    /*
+     * Same as FXOMNodes.collectReferenceExpression() for all fx:ids at once.
+     */
+    private static Map<String, List<FXOMPropertyT>> collectReferenceExpressions(FXOMObject clone) {
+        final Map<String, List<FXOMPropertyT>> result = new HashMap<>();
+        
+        for (FXOMPropertyT p : clone.collectPropertiesT()) {
+            final PrefixedValue pv = new PrefixedValue(p.getValue());
+            if (pv.isExpression()) {
+                result.computeIfAbsent(pv.getSuffix(), k -> new ArrayList<>()).add(p);
+            }
+        }
+        
+        return result;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -40,10 +40,13 @@ import java.io.InputStreamReader;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -81,6 +84,16 @@ public class FXOMDocument {
     private final SimpleIntegerProperty cssRevision = new SimpleIntegerProperty();
     private SceneGraphHolder sceneGraphHolder;
     private int updateDepth;
+    private RefreshMode refreshMode = RefreshMode.INCREMENTAL;
+    private final Set<FXOMObject> dirtyObjects = new HashSet<>();
+    private boolean fullRefreshNeeded;
+    private boolean sceneGraphPatched;
+    private final FXOMObjectIndex objectIndex = new FXOMObjectIndex(this);
+    private LoadStatistics loadStatistics;
+    private LoadStatistics refreshStatistics;
+    private String fxmlText; // Last result of getFxmlText() : valid while glue revision is the same
+    private long fxmlTextRevision;
+    private boolean fxmlTextWildcardImports;
 
     private boolean hasControlsFromExternalPlugin;
     
@@ -103,7 +116,32 @@ public class FXOMDocument {
      * @throws IOException when the fxmlText cannot be loaded
      */
     public FXOMDocument(String fxmlText, URL location, ClassLoader classLoader, ResourceBundle resources, FXOMDocumentSwitch... switches) throws IOException {
-        this.glue = new GlueDocument(fxmlText);
+        this(fxmlText, null, location, classLoader, resources, switches);
+    }
+    
+    /**
+     * Creates a new {@link FXOMDocument} from a template document. The glue of
+     * the template is copied instead of parsing its FXML source again. The
+     * scene graph is loaded again : it is not shared with the template.
+     * 
+     * @param template    a normalized {@link FXOMDocument} (never null)
+     * @throws IOException when the template FXML source cannot be loaded
+     */
+    public FXOMDocument(FXOMDocument template) throws IOException {
+        this(template.getFxmlText(false), template.getGlue(), template.getLocation(),
+                template.getClassLoader(), template.getResources());
+    }
+    
+    /*
+     * When glueTemplate is not null, it must be the glue document fxmlText 
+     * has been serialized from : it is copied instead of parsing fxmlText 
+     * a second time (see FXOMRefresher).
+     */
+    FXOMDocument(String fxmlText, GlueDocument glueTemplate, URL location, ClassLoader classLoader, 
+            ResourceBundle resources, FXOMDocumentSwitch... switches) throws IOException {
+        final long glueStart = System.nanoTime();
+        this.glue = (glueTemplate == null) ? new GlueDocument(fxmlText) : new GlueDocument(glueTemplate);
+        final long glueTime = System.nanoTime() - glueStart;
         this.location = location;
         this.classLoader = classLoader;
         this.resources = resources;
@@ -116,16 +154,23 @@ public class FXOMDocument {
                 fxmlTextToLoad = fxmlPropertiesDisabler.disableProperties(fxmlText);
             }
             final FXOMLoader loader = new FXOMLoader(this);
+            final long loadStart = System.nanoTime();
             loader.load(fxmlTextToLoad);
+            final long loadTime = System.nanoTime() - loadStart;
+            long buildTime = loader.getFxomBuildTime();
             if (availableSwitches.contains(FXOMDocumentSwitch.NORMALIZED)) {
+                final long normalizeStart = System.nanoTime();
                 final FXOMNormalizer normalizer = new FXOMNormalizer(this);
                 normalizer.normalize();
+                buildTime += System.nanoTime() - normalizeStart;
             }
+            loadStatistics = new LoadStatistics(glueTime, loadTime - loader.getFxomBuildTime(), buildTime);
         } else {
             // Document is empty
             assert GlueDocument.isEmptyXmlText(fxmlText);
             // Keeps this.fxomRoot == null
             // Keeps this.sceneGraphRoot == null
+            loadStatistics = new LoadStatistics(glueTime, 0, 0);
         }
 
         hasControlsFromExternalPlugin = EditorPlatform.hasClassFromExternalPlugin(fxmlText);
@@ -172,6 +217,7 @@ public class FXOMDocument {
                 fxomRoot.documentLocationWillChange(location);
             }
             this.location = location;
+            fullRefreshNeeded = true;
             endUpdate();
         }
     }
@@ -183,6 +229,8 @@ public class FXOMDocument {
     public void setClassLoader(ClassLoader classLoader) {
         beginUpdate();
         this.classLoader = classLoader;
+        this.fxmlText = null; // Imports may resolve differently
+        fullRefreshNeeded = true;
         endUpdate();
     }    
     
@@ -197,6 +245,7 @@ public class FXOMDocument {
     public void setResources(ResourceBundle resources) {
         beginUpdate();
         this.resources = resources;
+        fullRefreshNeeded = true;
         endUpdate();
     }
 
@@ -248,9 +297,11 @@ public class FXOMDocument {
         } else {
             this.glue.setRootElement(this.fxomRoot.getGlueElement());
         }
+        this.objectIndex.reset(fxomRoot);
         this.sceneGraphRoot = sceneGraphRoot;
         this.displayNode = null;
         this.displayStylesheets.clear();
+        this.fullRefreshNeeded = true;
     }
 
     public Object getSceneGraphRoot() {
@@ -261,6 +312,11 @@ public class FXOMDocument {
         this.sceneGraphRoot = sceneGraphRoot;
     }
 
+    /* Maintained by FXOM mutators */
+    FXOMObjectIndex getObjectIndex() {
+        return objectIndex;
+    }
+
     /**
      * Returns the Node that should be displayed in the editor instead of the scene graph root.
      */
@@ -305,9 +361,58 @@ public class FXOMDocument {
         } else {
             assert glue.getRootElement() != null;
             // Note that sceneGraphRoot might be null if fxomRoot is unresolved
+            if (isFxmlTextUpToDate(wildcardImports) == false) {
+                glue.updateIndent();
+                final FXOMSaver saver = new FXOMSaver(wildcardImports);
+                fxmlText = saver.save(this);
+                // Saving updates indentation and imports : revision is read afterwards
+                fxmlTextRevision = glue.getRevision();
+                fxmlTextWildcardImports = wildcardImports;
+            }
+            result = fxmlText;
+        }
+        return result;
+    }
+
+    /**
+     * Writes the FXML text of the FXOMDocument encoded in UTF-8 to the 
+     * specified channel. Nothing is written if current root is null.
+     * The channel is not closed.
+     * @param wildcardImports If the FXML should have wildcards in its imports.
+     * @param channel the output channel.
+     * @throws IOException if the channel fails.
+     */
+    public void writeFxmlText(boolean wildcardImports, WritableByteChannel channel) throws IOException {
+        assert channel != null;
+        if (fxomRoot == null) {
+            assert glue.getRootElement() == null;
+            assert sceneGraphRoot == null;
+        } else {
+            assert glue.getRootElement() != null;
+            if (isFxmlTextUpToDate(wildcardImports)) {
+                glue.writeTo(channel);
+            } else {
+                glue.updateIndent();
+                final FXOMSaver saver = new FXOMSaver(wildcardImports);
+                saver.save(this, channel);
+            }
+        }
+    }
+
+    /*
+     * Returns a glue snapshot of this document : decoding it gives the glue
+     * document loaded from getFxmlText(false).
+     */
+    byte[] makeGlueSnapshot() {
+        final byte[] result;
+        if (fxomRoot == null) {
+            assert glue.getRootElement() == null;
+            result = glue.makeSnapshot();
+        } else {
+            assert glue.getRootElement() != null;
             glue.updateIndent();
-            final FXOMSaver saver = new FXOMSaver(wildcardImports);
-            result = saver.save(this);
+            final FXOMSaver saver = new FXOMSaver(false /* wildcardImports */);
+            result = saver.saveSnapshot(this);
         }
         return result;
     }
@@ -318,7 +423,7 @@ public class FXOMDocument {
         if (fxomRoot == null) {
             result = null;
         } else {
-            result = fxomRoot.searchWithSceneGraphObject(sceneGraphObject);
+            result = objectIndex.lookupSceneGraphObject(sceneGraphObject);
         }
         
         return result;
@@ -330,7 +435,7 @@ public class FXOMDocument {
         if (fxomRoot == null) {
             result = null;
         } else {
-            result = fxomRoot.searchWithFxId(fxId);
+            result = objectIndex.lookupFxId(fxId);
         }
         
         return result;
@@ -342,7 +447,7 @@ public class FXOMDocument {
         if (fxomRoot == null) {
             result = Collections.emptyMap();
         } else {
-            result = fxomRoot.collectFxIds();
+            result = new LinkedHashMap<>(objectIndex.getFxIds());
         }
         
         return result;
@@ -357,7 +462,14 @@ public class FXOMDocument {
         assert updateDepth >= 1;
         updateDepth--;
         if (updateDepth == 0) {
-            refreshSceneGraph();
+            if (refreshMode == RefreshMode.NONE) {
+                // Scene graph is never built : there is nothing to refresh
+                dirtyObjects.clear();
+                fullRefreshNeeded = false;
+                sceneGraphPatched = false;
+            } else {
+                refreshSceneGraph(refreshMode == RefreshMode.INCREMENTAL);
+            }
         }
     }
     
@@ -365,13 +477,106 @@ public class FXOMDocument {
         return updateDepth >= 1;
     }
     
+    public RefreshMode getRefreshMode() {
+        return refreshMode;
+    }
+
+    /**
+     * Selects how {@link #endUpdate()} refreshes the scene graph.
+     * {@link RefreshMode#FULL} is mainly useful to compare results of both
+     * strategies in tests. {@link RefreshMode#NONE} must be selected before
+     * the document is populated.
+     * 
+     * @param refreshMode the refresh mode (never null)
+     */
+    public void setRefreshMode(RefreshMode refreshMode) {
+        assert refreshMode != null;
+        this.refreshMode = refreshMode;
+    }
+    
+    /**
+     * Records that the scene graph of the specified object (and of its
+     * descendants) is out of date and must be rebuilt at next refresh.
+     * FXOM mutators invoke this method automatically : it only needs to be
+     * called by code which alters the scene graph behind FXOM's back.
+     * Objects which are not attached to the document are ignored : attaching
+     * them later marks their new parent. Building a detached subtree (a clone
+     * for example) then costs a single subtree refresh when it is inserted.
+     * 
+     * @param fxomObject an fxom object of this document (never null)
+     */
+    public void markDirty(FXOMObject fxomObject) {
+        assert fxomObject != null;
+        if (objectIndex.contains(fxomObject)) {
+            dirtyObjects.add(fxomObject);
+        }
+    }
+    
+    /**
+     * Returns true if the scene graph of the specified object will be rebuilt
+     * at next refresh.
+     * 
+     * @param fxomObject an fxom object of this document (never null)
+     * @return true if the specified object has been marked dirty.
+     */
+    public boolean isDirty(FXOMObject fxomObject) {
+        assert fxomObject != null;
+        return fullRefreshNeeded || dirtyObjects.contains(fxomObject);
+    }
+    
+    /**
+     * Records that the scene graph object of the specified object has been
+     * updated in place and already matches its FXOM description.
+     * If no other object is dirty, next refresh then skips the scene graph
+     * reconstruction.
+     * 
+     * @param fxomObject an fxom object of this document (never null)
+     */
+    public void markSynchronized(FXOMObject fxomObject) {
+        assert fxomObject != null;
+        assert fxomObject.getSceneGraphObject() != null;
+        dirtyObjects.remove(fxomObject);
+        sceneGraphPatched = true;
+    }
+    
+    /**
+     * Rebuilds the scene graph by reloading the whole document.
+     */
     public void refreshSceneGraph() {
+        refreshSceneGraph(false);
+    }
+    
+    private boolean isFxmlTextUpToDate(boolean wildcardImports) {
+        // If glue revision did not move since previous save then neither
+        // the glue nor the import instructions changed since.
+        return (fxmlText != null)
+                && (fxmlTextWildcardImports == wildcardImports)
+                && (glue.getRevision() == fxmlTextRevision);
+    }
+    
+    private void refreshSceneGraph(boolean incremental) {
         if (sceneGraphHolder != null) {
             sceneGraphHolder.fxomDocumentWillRefreshSceneGraph(this);
         }
-        final FXOMRefresher fxomRefresher = new FXOMRefresher();
-        fxomRefresher.refresh(this);
-        if ((sampleDataGenerator != null) && (fxomRoot != null)) {
+        final boolean reconstruct;
+        if (incremental == false || fullRefreshNeeded) {
+            reconstruct = true;
+            new FXOMRefresher().refresh(this);
+        } else if (dirtyObjects.isEmpty() == false) {
+            reconstruct = true;
+            new FXOMRefresher().refresh(this, new HashSet<>(dirtyObjects));
+        } else {
+            // Changes have all been applied in place : scene graph is up to date
+            reconstruct = sceneGraphPatched == false;
+            if (reconstruct) {
+                new FXOMRefresher().refresh(this);
+            }
+        }
+        // Changes made by the refresher itself are already in the scene graph
+        dirtyObjects.clear();
+        fullRefreshNeeded = false;
+        sceneGraphPatched = false;
+        if (reconstruct && (sampleDataGenerator != null) && (fxomRoot != null)) {
             sampleDataGenerator.assignSampleData(fxomRoot);
         }
         if (sceneGraphHolder != null) {
@@ -423,6 +628,30 @@ public class FXOMDocument {
         return cssRevision;
     }
     
+    /**
+     * Returns the time spent to load this document from its FXML text.
+     * 
+     * @return null if this document has not been loaded from FXML text.
+     */
+    public LoadStatistics getLoadStatistics() {
+        return loadStatistics;
+    }
+    
+    /**
+     * Returns the time spent by the last FXML load performed to reconstruct
+     * the scene graph (whole document or modified subtree).
+     * 
+     * @return null if the scene graph of this document has not been 
+     *         reconstructed yet.
+     */
+    public LoadStatistics getRefreshStatistics() {
+        return refreshStatistics;
+    }
+    
+    void setRefreshStatistics(LoadStatistics refreshStatistics) {
+        this.refreshStatistics = refreshStatistics;
+    }
+    
     /**
      * Utility method that fetches the text content from a URL.
      * 
@@ -488,6 +717,77 @@ public class FXOMDocument {
         public void fxomDocumentDidRefreshSceneGraph(FXOMDocument fxomDocument);
     }
     
+    /**
+     * Time spent (in nanoseconds) in each step of an FXML load.
+     */
+    public static class LoadStatistics {
+        private final long glueParseTime;
+        private final long fxmlInstantiateTime;
+        private final long fxomBuildTime;
+        
+        LoadStatistics(long glueParseTime, long fxmlInstantiateTime, long fxomBuildTime) {
+            this.glueParseTime = glueParseTime;
+            this.fxmlInstantiateTime = fxmlInstantiateTime;
+            this.fxomBuildTime = fxomBuildTime;
+        }
+        
+        /**
+         * @return time spent to build (or copy) the glue document.
+         */
+        public long getGlueParseTime() {
+            return glueParseTime;
+        }
+        
+        /**
+         * @return time spent by FXMLLoader, excluding FXOM build.
+         */
+        public long getFxmlInstantiateTime() {
+            return fxmlInstantiateTime;
+        }
+        
+        /**
+         * @return time spent to build (and normalize) the FXOM objects.
+         */
+        public long getFxomBuildTime() {
+            return fxomBuildTime;
+        }
+        
+        public long getTotalTime() {
+            return glueParseTime + fxmlInstantiateTime + fxomBuildTime;
+        }
+        
+        @Override
+        public String toString() {
+            return String.format("glue parse %.1f ms, FXML instantiate %.1f ms, FXOM build %.1f ms", //NOI18N
+                    glueParseTime / 1e6, fxmlInstantiateTime / 1e6, fxomBuildTime / 1e6);
+        }
+    }
+    
+    /**
+     * Strategies used to bring the scene graph in sync with FXOM at the end
+     * of an update.
+     */
+    public enum RefreshMode {
+        /**
+         * The whole document is serialized and reloaded with FXMLLoader.
+         */
+        FULL,
+        
+        /**
+         * Only the subtrees modified since the previous refresh are reloaded 
+         * and patched into the existing scene graph. {@link FXOMRefresher}
+         * falls back to a full reload when a subtree cannot be rebuilt on its 
+         * own (references crossing its boundary, document root...).
+         */
+        INCREMENTAL,
+        
+        /**
+         * The scene graph is not built : objects have no scene graph object.
+         * This is enough for documents which are only serialized or archived.
+         */
+        NONE;
+    }
+    
     /**
      * Depending on where the {@link FXOMDocument} shall be used, 
      * it is necessary to configure the {@link FXOMDocument} creation process.
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -38,7 +39,8 @@ import java.util.Map;
 import javafx.scene.control.ToggleGroup;
 
 /**
- *
+ * Live view on the fx:ids of an fxom document : it reflects the changes
+ * made to the document after its creation.
  */
 public class FXOMFxIdIndex {
     
@@ -48,7 +50,7 @@ public class FXOMFxIdIndex {
     public FXOMFxIdIndex(FXOMDocument fxomDocument) {
         assert fxomDocument != null;
         this.fxomDocument = fxomDocument;
-        this.fxIds = fxomDocument.collectFxIds();
+        this.fxIds = fxomDocument.getObjectIndex().getFxIds();
     }
 
     public FXOMDocument getFxomDocument() {
@@ -105,7 +107,7 @@ public class FXOMFxIdIndex {
     
     /**
      * Facility : creates an FXOMFxIdIndex and check if the specified object is
- self-contained. Use this only if you have one object to check.
+     * self-contained.
      * 
      * @param fxomObject an fxom object (cannot be null)
      * @return true if fxom object is self contained
@@ -93,6 +93,7 @@ public class FXOMIntrinsic extends FXOMObject {
             attributes.remove(CHARSET_PROPERTY);
             PropertyName charsetPropertyName = new PropertyName(CHARSET_PROPERTY);
             this.getProperties().remove(charsetPropertyName);
+            getFxomDocument().markDirty(this);
         }
     }
 
@@ -127,6 +128,7 @@ public class FXOMIntrinsic extends FXOMObject {
         } else {
             getGlueElement().getAttributes().put(SOURCE_PROPERTY, source);
         }
+        getFxomDocument().markDirty(this);
     }
     
     public Object getSourceSceneGraphObject() {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -62,6 +62,7 @@ class FXOMLoader implements LoadListener {
     private final Consumer<Exception> knownErrorsHandler;
     private TransientNode currentTransientNode;
     private GlueCursor glueCursor;
+    private long fxomBuildTime;
     
     /*
      * FXOMLoader
@@ -99,6 +100,7 @@ class FXOMLoader implements LoadListener {
         try (final InputStream is = new ByteArrayInputStream(fxmlText.getBytes(utf8))) {
             glueCursor = new GlueCursor(document.getGlue());
             currentTransientNode = null;
+            fxomBuildTime = 0;
             assert is.markSupported();
             is.reset();
             setSceneGraphRoot(fxmlLoader.load(is));
@@ -107,6 +109,14 @@ class FXOMLoader implements LoadListener {
         }
     }
 
+    /*
+     * Returns the time spent (in nanoseconds) in FXOM construction
+     * during the last call to load().
+     */
+    long getFxomBuildTime() {
+        return fxomBuildTime;
+    }
+
     private void handleFxmlLoadingError(Exception x) throws IOException {
         if (x.getCause() != null) {
             handleKnownCauses(x);
@@ -303,6 +313,7 @@ class FXOMLoader implements LoadListener {
 
         assert name != null;
 
+        final long start = System.nanoTime();
         final PropertyName pname = new PropertyName(name, staticClass);
         final FXOMPropertyT fxomProperty = new FXOMPropertyT(document, pname, null, null, fxmlValue);
 
@@ -316,6 +327,7 @@ class FXOMLoader implements LoadListener {
             final TransientIntrinsic transientIntrinsic = (TransientIntrinsic) currentTransientNode;
             transientIntrinsic.getProperties().add(fxomProperty);
         }
+        fxomBuildTime += System.nanoTime() - start;
     }
 
     @Override
@@ -331,6 +343,7 @@ class FXOMLoader implements LoadListener {
 
     @Override
     public void endElement(Object sceneGraphObject) {
+        final long start = System.nanoTime();
 
         currentTransientNode.setSceneGraphObject(sceneGraphObject);
 
@@ -391,5 +404,6 @@ class FXOMLoader implements LoadListener {
         }
 
         currentTransientNode = currentTransientNode.getParentNode();
+        fxomBuildTime += System.nanoTime() - start;
     }
 }
@@ -1,5 +1,5 @@
 /* 
- * Copyright (c) 2022, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2022, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -233,44 +233,26 @@ public class FXOMNodes {
         assert source != null;
         
         final FXOMDocument result = new FXOMDocument();
+        result.beginUpdate();
+        setupNewDocument(result, source);
+        result.endUpdate();
         
-        /*
-         * If source's document contains unresolved objects,
-         * then clones import instructions from the source document
-         * to the new document.
-         */
-        final FXOMDocument sourceDocument 
-                = source.getFxomDocument();
-        assert sourceDocument.getFxomRoot() != null; // contains at least source
-        final List<FXOMObject> unresolvedObjects 
-                = collectUnresolvedObjects(sourceDocument.getFxomRoot());
-        if (unresolvedObjects.isEmpty() == false) {
-            // Copy all the imports from the source document to the new document
-            final GlueDocument sourceGlue = sourceDocument.getGlue();
-            final GlueDocument resultGlue = result.getGlue();
-            for (GlueInstruction i : sourceGlue.collectInstructions("import")) {
-                final GlueInstruction ci = new GlueInstruction(resultGlue, i.getTarget(), i.getData());
-                resultGlue.getHeader().add(ci);
-            }
-        }
-        
-        /*
-         * Clones source to the new document
-         */
-        final FXOMCloner cloner = new FXOMCloner(result);
-        final FXOMObject sourceClone = cloner.clone(source);
+        return result;
+    }
+    
+    
+    /*
+     * Same as newDocument() except that the scene graph of the new document
+     * is not built : its objects have no scene graph object. This is enough
+     * to serialize or archive source without going through FXMLLoader.
+     */
+    static FXOMDocument newDocumentWithoutSceneGraph(FXOMObject source) {
+        assert source != null;
         
-        /*
-         * Setup new document : sourceClone is the root, 
-         * same location, same class loader.
-         */
+        final FXOMDocument result = new FXOMDocument();
+        result.setRefreshMode(FXOMDocument.RefreshMode.NONE);
         result.beginUpdate();
-        result.setLocation(sourceDocument.getLocation());
-        result.setClassLoader(sourceDocument.getClassLoader());
-        result.setFxomRoot(sourceClone);
-        if (result.getFxomRoot() instanceof FXOMInstance) {
-            trimStaticProperties((FXOMInstance) result.getFxomRoot());
-        }
+        setupNewDocument(result, source);
         result.endUpdate();
         
         return result;
@@ -691,6 +673,49 @@ public class FXOMNodes {
     }
 
     
+    private static void setupNewDocument(FXOMDocument result, FXOMObject source) {
+        assert result.getFxomRoot() == null;
+        assert result.isUpdateOnGoing();
+        
+        /*
+         * If source's document contains unresolved objects,
+         * then clones import instructions from the source document
+         * to the new document.
+         */
+        final FXOMDocument sourceDocument 
+                = source.getFxomDocument();
+        assert sourceDocument.getFxomRoot() != null; // contains at least source
+        final List<FXOMObject> unresolvedObjects 
+                = collectUnresolvedObjects(sourceDocument.getFxomRoot());
+        if (unresolvedObjects.isEmpty() == false) {
+            // Copy all the imports from the source document to the new document
+            final GlueDocument sourceGlue = sourceDocument.getGlue();
+            final GlueDocument resultGlue = result.getGlue();
+            for (GlueInstruction i : sourceGlue.collectInstructions("import")) {
+                final GlueInstruction ci = new GlueInstruction(resultGlue, i.getTarget(), i.getData());
+                resultGlue.getHeader().add(ci);
+            }
+        }
+        
+        /*
+         * Clones source to the new document
+         */
+        final FXOMCloner cloner = new FXOMCloner(result);
+        final FXOMObject sourceClone = cloner.clone(source);
+        
+        /*
+         * Setup new document : sourceClone is the root, 
+         * same location, same class loader.
+         */
+        result.setLocation(sourceDocument.getLocation());
+        result.setClassLoader(sourceDocument.getClassLoader());
+        result.setFxomRoot(sourceClone);
+        if (result.getFxomRoot() instanceof FXOMInstance) {
+            trimStaticProperties((FXOMInstance) result.getFxomRoot());
+        }
+    }
+    
+    
     private static void trimStaticProperties(FXOMInstance fxomInstance) {
         final List<FXOMProperty> properties = 
                 new ArrayList<>(fxomInstance.getProperties().values());
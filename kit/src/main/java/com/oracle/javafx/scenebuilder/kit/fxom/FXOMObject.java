@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -109,6 +109,8 @@ public abstract class FXOMObject extends FXOMNode {
         
         final GlueElement newParentElement = parentProperty.getGlueElement();
         glueElement.addToParent(index, newParentElement);
+        markParentDirty();
+        registerIfAttached();
         
         // May be this object was a root : properties like fx:controller must
         // be reset to preserve FXML validity.
@@ -122,6 +124,8 @@ public abstract class FXOMObject extends FXOMNode {
         
         assert glueElement.getParent() == parentProperty.getGlueElement();
         glueElement.removeFromParent();
+        markParentDirty();
+        getFxomDocument().getObjectIndex().unregister(this);
         
         final FXOMPropertyC keepParentProperty = parentProperty;
         parentProperty = null;
@@ -159,6 +163,8 @@ public abstract class FXOMObject extends FXOMNode {
         
         final GlueElement newParentElement = parentCollection.getGlueElement();
         glueElement.addToParent(index, newParentElement);
+        markParentDirty();
+        registerIfAttached();
         
         // May be this object was a root : properties like fx:controller must
         // be reset to preserve FXML validity.
@@ -170,6 +176,8 @@ public abstract class FXOMObject extends FXOMNode {
         
         assert glueElement.getParent() == parentCollection.getGlueElement();
         glueElement.removeFromParent();
+        markParentDirty();
+        getFxomDocument().getObjectIndex().unregister(this);
         
         final FXOMCollection keepParentCollection = parentCollection;
         parentCollection = null;
@@ -194,7 +202,13 @@ public abstract class FXOMObject extends FXOMNode {
     }
 
     public void setSceneGraphObject(Object sceneGraphObject) {
+        final Object oldSceneGraphObject = this.sceneGraphObject;
         this.sceneGraphObject = sceneGraphObject;
+        
+        final FXOMObjectIndex objectIndex = getFxomDocument().getObjectIndex();
+        if (objectIndex.contains(this)) {
+            objectIndex.sceneGraphObjectDidChange(this, oldSceneGraphObject);
+        }
     }
     
     public FXOMObject getNextSlibing() {
@@ -519,11 +533,18 @@ public abstract class FXOMObject extends FXOMNode {
     
     public void setFxId(String fxId) {
         assert (fxId == null) || JavaLanguage.isIdentifier(fxId);
+        final String oldFxId = getFxId();
         if (fxId == null) {
             glueElement.getAttributes().remove("fx:id");
         } else {
             glueElement.getAttributes().put("fx:id", fxId);
         }
+        getFxomDocument().markDirty(this);
+        
+        final FXOMObjectIndex objectIndex = getFxomDocument().getObjectIndex();
+        if (objectIndex.contains(this)) {
+            objectIndex.fxIdDidChange(this, oldFxId);
+        }
     }
         
     
@@ -537,6 +558,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:value", fxValue);
         }
+        getFxomDocument().markDirty(this);
     }
     
     
@@ -550,6 +572,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:constant", fxConstant);
         }
+        getFxomDocument().markDirty(this);
     }
     
     public String getFxController() {
@@ -562,6 +585,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:controller", fxController);
         }
+        getFxomDocument().markDirty(this);
     }
     
     public String getFxFactory() {
@@ -574,6 +598,7 @@ public abstract class FXOMObject extends FXOMNode {
         } else {
             glueElement.getAttributes().put("fx:factory", fxFactory);
         }
+        getFxomDocument().markDirty(this);
     }
     
     public String getNameSpaceFX() {
@@ -743,6 +768,21 @@ public abstract class FXOMObject extends FXOMNode {
      * Private
      */
     
+    private void markParentDirty() {
+        final FXOMObject parentObject = getParentObject();
+        if (parentObject != null) {
+            getFxomDocument().markDirty(parentObject);
+        }
+    }
+    
+    private void registerIfAttached() {
+        final FXOMObject parentObject = getParentObject();
+        final FXOMObjectIndex objectIndex = getFxomDocument().getObjectIndex();
+        if ((parentObject != null) && objectIndex.contains(parentObject)) {
+            objectIndex.register(this);
+        }
+    }
+    
     private void resetRootProperties() {
         setFxController(null);
         setNameSpaceFX(null);
@@ -0,0 +1,292 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lookup tables for the objects attached to an fxom document.
+ * FXOM mutators keep the tables up to date : searching an object by scene
+ * graph object or by fx:id does not need to walk the fxom tree.
+ * 
+ * An object is attached when it is the document root or one of its
+ * descendants.
+ */
+class FXOMObjectIndex {
+    
+    private final FXOMDocument fxomDocument;
+    private final Set<FXOMObject> objects = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Map<Object, List<FXOMObject>> sceneGraphObjects = new IdentityHashMap<>();
+    private final Map<String, List<FXOMObject>> fxIds = new LinkedHashMap<>();
+    private final Map<String, FXOMObject> fxIdView = new FxIdView();
+    
+    FXOMObjectIndex(FXOMDocument fxomDocument) {
+        assert fxomDocument != null;
+        this.fxomDocument = fxomDocument;
+    }
+    
+    public void reset(FXOMObject fxomRoot) {
+        objects.clear();
+        sceneGraphObjects.clear();
+        fxIds.clear();
+        if (fxomRoot != null) {
+            register(fxomRoot);
+        }
+    }
+    
+    public boolean contains(FXOMObject fxomObject) {
+        return objects.contains(fxomObject);
+    }
+    
+    /*
+     * Registers fxomObject and all its descendants.
+     */
+    public void register(FXOMObject fxomObject) {
+        assert fxomObject.getFxomDocument() == fxomDocument;
+        
+        if (objects.add(fxomObject)) {
+            if (isSearchable(fxomObject)) {
+                addEntry(sceneGraphObjects, fxomObject.getSceneGraphObject(), fxomObject);
+            }
+            addEntry(fxIds, fxomObject.getFxId(), fxomObject);
+        }
+        for (FXOMObject child : fxomObject.getChildObjects()) {
+            register(child);
+        }
+    }
+    
+    /*
+     * Unregisters fxomObject and all its descendants.
+     * Does nothing if fxomObject is not attached.
+     */
+    public void unregister(FXOMObject fxomObject) {
+        if (objects.remove(fxomObject)) {
+            if (isSearchable(fxomObject)) {
+                removeEntry(sceneGraphObjects, fxomObject.getSceneGraphObject(), fxomObject);
+            }
+            removeEntry(fxIds, fxomObject.getFxId(), fxomObject);
+            for (FXOMObject child : fxomObject.getChildObjects()) {
+                unregister(child);
+            }
+        }
+    }
+    
+    public void sceneGraphObjectDidChange(FXOMObject fxomObject, Object oldSceneGraphObject) {
+        assert contains(fxomObject);
+        
+        if (isSearchable(fxomObject)) {
+            removeEntry(sceneGraphObjects, oldSceneGraphObject, fxomObject);
+            addEntry(sceneGraphObjects, fxomObject.getSceneGraphObject(), fxomObject);
+        }
+    }
+    
+    public void fxIdDidChange(FXOMObject fxomObject, String oldFxId) {
+        assert contains(fxomObject);
+        
+        removeEntry(fxIds, oldFxId, fxomObject);
+        addEntry(fxIds, fxomObject.getFxId(), fxomObject);
+    }
+    
+    /*
+     * Same result as FXOMObject.searchWithSceneGraphObject() invoked on
+     * the document root.
+     */
+    public FXOMObject lookupSceneGraphObject(Object sceneGraphObject) {
+        final FXOMObject result;
+        
+        final List<FXOMObject> candidates = sceneGraphObjects.get(sceneGraphObject);
+        if ((sceneGraphObject == null) || ((candidates != null) && (candidates.size() >= 2))) {
+            // Rare : falls back on document order
+            result = searchFromRoot(sceneGraphObject);
+        } else if (candidates == null) {
+            result = null;
+        } else {
+            result = candidates.get(0);
+        }
+        
+        return result;
+    }
+    
+    /*
+     * Same result as FXOMObject.searchWithFxId() invoked on the document root.
+     */
+    public FXOMObject lookupFxId(String fxId) {
+        assert fxId != null;
+        
+        FXOMObject result = null;
+        int count = 0;
+        final List<FXOMObject> candidates = fxIds.get(fxId);
+        if (candidates != null) {
+            for (FXOMObject candidate : candidates) {
+                if (isSearchable(candidate)) {
+                    result = candidate;
+                    count++;
+                }
+            }
+        }
+        if (count >= 2) {
+            // Duplicated fx:id : the first one in document order wins
+            result = fxomDocument.getFxomRoot().searchWithFxId(fxId);
+        }
+        
+        return result;
+    }
+    
+    /*
+     * Live and unmodifiable view with the same content as
+     * FXOMObject.collectFxIds() invoked on the document root.
+     */
+    public Map<String, FXOMObject> getFxIds() {
+        return fxIdView;
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    /*
+     * fx:reference and fx:copy share their scene graph object with their
+     * source : searches ignore them like FXOMIntrinsic does.
+     */
+    private static boolean isSearchable(FXOMObject fxomObject) {
+        return (fxomObject instanceof FXOMIntrinsic == false)
+                || (((FXOMIntrinsic) fxomObject).getType() == FXOMIntrinsic.Type.FX_INCLUDE);
+    }
+    
+    private FXOMObject searchFromRoot(Object sceneGraphObject) {
+        final FXOMObject fxomRoot = fxomDocument.getFxomRoot();
+        return (fxomRoot == null) ? null : fxomRoot.searchWithSceneGraphObject(sceneGraphObject);
+    }
+    
+    private static <K> void addEntry(Map<K, List<FXOMObject>> map, K key, FXOMObject fxomObject) {
+        if (key != null) {
+            List<FXOMObject> entry = map.get(key);
+            if (entry == null) {
+                entry = new ArrayList<>(1);
+                map.put(key, entry);
+            }
+            entry.add(fxomObject);
+        }
+    }
+    
+    private static <K> void removeEntry(Map<K, List<FXOMObject>> map, K key, FXOMObject fxomObject) {
+        if (key != null) {
+            final List<FXOMObject> entry = map.get(key);
+            assert entry != null;
+            if (entry != null) {
+                entry.remove(fxomObject);
+                if (entry.isEmpty()) {
+                    map.remove(key);
+                }
+            }
+        }
+    }
+    
+    private FXOMObject getFxIdValue(String fxId) {
+        final FXOMObject result;
+        
+        final List<FXOMObject> entry = fxIds.get(fxId);
+        if (entry == null) {
+            result = null;
+        } else if (entry.size() == 1) {
+            result = entry.get(0);
+        } else {
+            // Duplicated fx:id : the last one in document order wins
+            result = fxomDocument.getFxomRoot().collectFxIds().get(fxId);
+        }
+        
+        return result;
+    }
+    
+    private class FxIdView extends AbstractMap<String, FXOMObject> {
+        
+        private final Set<Entry<String, FXOMObject>> entrySet = new AbstractSet<>() {
+            
+            @Override
+            public Iterator<Entry<String, FXOMObject>> iterator() {
+                final Iterator<String> it = fxIds.keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return it.hasNext();
+                    }
+                    
+                    @Override
+                    public Entry<String, FXOMObject> next() {
+                        final String fxId = it.next();
+                        return new SimpleImmutableEntry<>(fxId, getFxIdValue(fxId));
+                    }
+                };
+            }
+            
+            @Override
+            public int size() {
+                return fxIds.size();
+            }
+        };
+        
+        @Override
+        public Set<Entry<String, FXOMObject>> entrySet() {
+            return entrySet;
+        }
+        
+        @Override
+        public Set<String> keySet() {
+            return Collections.unmodifiableSet(fxIds.keySet());
+        }
+        
+        @Override
+        public boolean containsKey(Object key) {
+            return fxIds.containsKey(key);
+        }
+        
+        @Override
+        public FXOMObject get(Object key) {
+            return (key instanceof String) ? getFxIdValue((String) key) : null;
+        }
+        
+        @Override
+        public int size() {
+            return fxIds.size();
+        }
+    }
+}
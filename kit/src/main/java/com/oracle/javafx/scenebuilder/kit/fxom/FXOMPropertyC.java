@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -125,6 +126,14 @@ public class FXOMPropertyC extends FXOMProperty {
         
         final GlueElement newParentElement = newParentInstance.getGlueElement();
         glueElement.addToParent(index, newParentElement);
+        getFxomDocument().markDirty(newParentInstance);
+        
+        final FXOMObjectIndex objectIndex = getFxomDocument().getObjectIndex();
+        if (objectIndex.contains(newParentInstance)) {
+            for (FXOMObject value : values) {
+                objectIndex.register(value);
+            }
+        }
     }
 
     @Override
@@ -137,8 +146,14 @@ public class FXOMPropertyC extends FXOMProperty {
         assert glueElement.getParent() == currentParentInstance.getGlueElement();
         glueElement.removeFromParent();
         
+        final FXOMObjectIndex objectIndex = getFxomDocument().getObjectIndex();
+        for (FXOMObject value : values) {
+            objectIndex.unregister(value);
+        }
+        
         setParentInstance(null);
         currentParentInstance.removeProperty(this);
+        getFxomDocument().markDirty(currentParentInstance);
     }
  
     @Override
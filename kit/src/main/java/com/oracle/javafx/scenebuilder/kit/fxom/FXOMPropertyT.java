@@ -126,6 +126,10 @@ public class FXOMPropertyT extends FXOMProperty {
         }
         
         value = newValue;
+        
+        if (getParentInstance() != null) {
+            getFxomDocument().markDirty(getParentInstance());
+        }
     }
 
     public GlueElement getPropertyElement() {
@@ -164,6 +168,8 @@ public class FXOMPropertyT extends FXOMProperty {
             assert index <= newParentElement.getChildren().size();
             propertyElement.addToParent(index, newParentElement);
         }
+        
+        getFxomDocument().markDirty(newParentInstance);
     }
 
     
@@ -185,6 +191,7 @@ public class FXOMPropertyT extends FXOMProperty {
 
         setParentInstance(null);
         currentParentInstance.removeProperty(this);
+        getFxomDocument().markDirty(currentParentInstance);
     }
     
  
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2019, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -38,6 +38,9 @@ import com.oracle.javafx.scenebuilder.kit.metadata.property.value.DoubleArrayPro
 import com.oracle.javafx.scenebuilder.kit.metadata.property.value.list.ListValuePropertyMetadata;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
 
+import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueElement;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
+
 import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
@@ -47,7 +50,10 @@ import javafx.stage.Window;
 import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 /**
@@ -60,11 +66,15 @@ class FXOMRefresher {
         String fxmlText = null;
         try {
             fxmlText = document.getFxmlText(false);
+            // fxmlText has just been serialized from document's glue :
+            // newDocument copies it instead of parsing fxmlText again
             final FXOMDocument newDocument
                     = new FXOMDocument(fxmlText,
+                    document.getGlue(),
                     document.getLocation(),
                     document.getClassLoader(),
                     document.getResources());
+            document.setRefreshStatistics(newDocument.getLoadStatistics());
             final TransientStateBackup backup = new TransientStateBackup(document);
             // if the refresh should not take place (e.g. due to an error), remove a property from intrinsic
             if (newDocument.getSceneGraphRoot() == null && newDocument.getFxomRoot() == null) {
@@ -73,7 +83,7 @@ class FXOMRefresher {
                 refreshDocument(document, newDocument);
             }
             backup.restore();
-            synchronizeDividerPositions(document);
+            synchronizeDividerPositions(document.getFxomRoot());
         } catch (RuntimeException | IOException x) {
             final StringBuilder sb = new StringBuilder();
             sb.append("Bug in ");
@@ -96,6 +106,47 @@ class FXOMRefresher {
         }
     }
 
+    /**
+     * Refreshes the scene graph of the specified objects only : each dirty
+     * subtree is reloaded on its own and its new scene graph object replaces
+     * the old one in the parent scene graph object. Other scene graph objects
+     * of the document are left untouched.
+     * 
+     * When a dirty subtree cannot be reloaded in isolation, this method 
+     * falls back to {@link #refresh(FXOMDocument)}.
+     * 
+     * @param document the document to be refreshed (never null)
+     * @param dirtyObjects objects modified since the previous refresh
+     */
+    public void refresh(FXOMDocument document, Set<FXOMObject> dirtyObjects) {
+        assert document != null;
+        assert dirtyObjects != null;
+        
+        final Set<FXOMObject> subtreeRoots = collectSubtreeRoots(document, dirtyObjects);
+        if (subtreeRoots == null) {
+            refresh(document);
+        } else {
+            final TransientStateBackup backup = new TransientStateBackup(document);
+            boolean done = true;
+            for (FXOMObject subtreeRoot : subtreeRoots) {
+                if (refreshSubtree(subtreeRoot) == false) {
+                    done = false;
+                    break;
+                }
+            }
+            if (done) {
+                backup.restore();
+                for (FXOMObject subtreeRoot : subtreeRoots) {
+                    synchronizeDividerPositions(subtreeRoot);
+                }
+            } else {
+                // Some subtrees may have been patched already : full refresh
+                // reassigns all the scene graph objects anyway.
+                refresh(document);
+            }
+        }
+    }
+
     private void removeIntrinsicProperty(FXOMDocument document) {
         FXOMInstance fxomRoot = (FXOMInstance) document.getFxomRoot();
         if (fxomRoot != null) {
@@ -231,6 +282,263 @@ class FXOMRefresher {
         }
     }
 
+    /*
+     * Private (incremental refresh)
+     */
+    
+    /*
+     * Returns the flat set of objects whose subtree must be reloaded or
+     * null if a full refresh is required.
+     */
+    private Set<FXOMObject> collectSubtreeRoots(FXOMDocument document, Set<FXOMObject> dirtyObjects) {
+        final FXOMObject fxomRoot = document.getFxomRoot();
+        if (fxomRoot == null) {
+            return null;
+        }
+        
+        // Ignores objects which have been detached from the document since
+        final Set<FXOMObject> candidates = new HashSet<>();
+        for (FXOMObject dirtyObject : dirtyObjects) {
+            if ((dirtyObject.getFxomDocument() == document) 
+                    && ((dirtyObject == fxomRoot) || dirtyObject.isDescendantOf(fxomRoot))) {
+                candidates.add(dirtyObject);
+            }
+        }
+        if (candidates.isEmpty() || candidates.contains(fxomRoot)) {
+            return null;
+        }
+        
+        final List<FXOMObject[]> references = collectReferencePairs(fxomRoot);
+        final Set<FXOMObject> result = new HashSet<>();
+        for (FXOMObject candidate : FXOMNodes.flatten(candidates)) {
+            FXOMObject subtreeRoot = candidate;
+            while ((subtreeRoot != null) && (isReloadable(subtreeRoot, references) == false)) {
+                subtreeRoot = subtreeRoot.getParentObject();
+            }
+            if ((subtreeRoot == null) || (subtreeRoot == fxomRoot)) {
+                return null;
+            }
+            result.add(subtreeRoot);
+        }
+        
+        return FXOMNodes.flatten(result);
+    }
+    
+    /*
+     * Returns the list of [owner, target] pairs for each reference
+     * (fx:reference, fx:copy, $expression) found in the document. 
+     * target is null when it cannot be resolved in FXOM (binding expression,
+     * object declared in an fx:define section...).
+     */
+    private List<FXOMObject[]> collectReferencePairs(FXOMObject fxomRoot) {
+        final List<FXOMObject[]> result = new ArrayList<>();
+        final Map<String, FXOMObject> fxIds = fxomRoot.collectFxIds();
+        
+        for (FXOMObject o : FXOMNodes.serializeObjects(fxomRoot)) {
+            final Map<PropertyName, FXOMProperty> properties;
+            if (o instanceof FXOMInstance) {
+                properties = ((FXOMInstance) o).getProperties();
+            } else if (o instanceof FXOMIntrinsic) {
+                final FXOMIntrinsic intrinsic = (FXOMIntrinsic) o;
+                final String source = FXOMNodes.extractReferenceSource(intrinsic);
+                if (source != null) {
+                    result.add(new FXOMObject[] { o, fxIds.get(source) });
+                }
+                properties = intrinsic.getProperties();
+            } else {
+                properties = null;
+            }
+            if (properties != null) {
+                for (FXOMProperty p : properties.values()) {
+                    if (p instanceof FXOMPropertyT) {
+                        final FXOMPropertyT pt = (FXOMPropertyT) p;
+                        final String source = FXOMNodes.extractReferenceSource(pt);
+                        final PrefixedValue pv = new PrefixedValue(pt.getValue());
+                        if (source != null) {
+                            result.add(new FXOMObject[] { o, fxIds.get(source) });
+                        } else if (pv.isExpression() || pv.isBindingExpression()) {
+                            result.add(new FXOMObject[] { o, null });
+                        }
+                    }
+                }
+            }
+        }
+        
+        return result;
+    }
+    
+    /*
+     * Returns true if the subtree of fxomObject can be reloaded on its own
+     * and its scene graph object swapped in the parent scene graph object.
+     */
+    private boolean isReloadable(FXOMObject fxomObject, List<FXOMObject[]> references) {
+        
+        // #1 : fxomObject must be a resolved instance held by the property 
+        // of a resolved instance.
+        if ((fxomObject instanceof FXOMInstance) == false) {
+            return false;
+        }
+        final Object sceneGraphObject = fxomObject.getSceneGraphObject();
+        if ((sceneGraphObject == null) 
+                || (sceneGraphObject instanceof Scene)
+                || (sceneGraphObject instanceof Window)) {
+            return false;
+        }
+        final FXOMPropertyC parentProperty = fxomObject.getParentProperty();
+        if ((parentProperty == null) 
+                || (parentProperty.getParentInstance() == null)
+                || (parentProperty.getName().getResidenceClass() != null)) {
+            return false;
+        }
+        
+        // #2 : parent scene graph object must hold sceneGraphObject in a 
+        // way we know how to patch. SplitPane is excluded because replacing
+        // one of its items resets divider positions.
+        final Object parentSceneGraphObject = parentProperty.getParentInstance().getSceneGraphObject();
+        if ((parentSceneGraphObject == null)
+                || (parentSceneGraphObject instanceof SplitPane)
+                || (parentSceneGraphObject instanceof Scene)
+                || (parentSceneGraphObject instanceof Window)) {
+            return false;
+        }
+        final PropertyName parentPropertyName = parentProperty.getName();
+        if (lookupHeldValue(parentSceneGraphObject, parentPropertyName, sceneGraphObject) == HELD_NOWHERE) {
+            return false;
+        }
+        
+        // #3 : subtree must be standalone FXML
+        for (FXOMObject o : FXOMNodes.serializeObjects(fxomObject)) {
+            if ((o instanceof FXOMInstance) && (((FXOMInstance) o).getDeclaredClass() == null)) {
+                return false; // Unresolved instance
+            }
+            if ((o instanceof FXOMIntrinsic) && (((FXOMIntrinsic) o).getType() == FXOMIntrinsic.Type.FX_INCLUDE)) {
+                return false; // FXOMCloner does not preserve include attributes
+            }
+        }
+        if (containsDefineElement(fxomObject.getGlueElement())) {
+            return false;
+        }
+        
+        // #4 : no reference may cross subtree boundary
+        for (FXOMObject[] reference : references) {
+            final boolean ownerInside = isInside(reference[0], fxomObject);
+            final boolean targetInside = (reference[1] != null) && isInside(reference[1], fxomObject);
+            if (ownerInside != targetInside) {
+                return false;
+            }
+        }
+        
+        return true;
+    }
+    
+    private boolean refreshSubtree(FXOMObject subtreeRoot) {
+        final FXOMPropertyC parentProperty = subtreeRoot.getParentProperty();
+        final Object parentSceneGraphObject = parentProperty.getParentInstance().getSceneGraphObject();
+        final Object oldSceneGraphObject = subtreeRoot.getSceneGraphObject();
+        
+        boolean result;
+        try {
+            final FXOMDocument subtreeDocument = loadSubtree(subtreeRoot);
+            final FXOMObject newRoot = subtreeDocument.getFxomRoot();
+            if ((newRoot == null) 
+                    || (newRoot.getClass() != subtreeRoot.getClass())
+                    || (newRoot.getSceneGraphObject() == null)) {
+                result = false;
+            } else {
+                refreshFxomObject(subtreeRoot, newRoot);
+                result = replaceHeldValue(parentSceneGraphObject, parentProperty.getName(), 
+                        oldSceneGraphObject, subtreeRoot.getSceneGraphObject());
+            }
+        } catch (RuntimeException | IOException x) {
+            result = false;
+        }
+        
+        return result;
+    }
+    
+    /*
+     * Reloads subtreeRoot in a separate document. Contrary to 
+     * FXOMNodes.newDocument(), static properties of subtreeRoot are kept
+     * because they configure the new scene graph object for its parent.
+     */
+    private FXOMDocument loadSubtree(FXOMObject subtreeRoot) throws IOException {
+        final FXOMDocument document = subtreeRoot.getFxomDocument();
+        final FXOMDocument subtreeDocument = new FXOMDocument();
+        final FXOMCloner cloner = new FXOMCloner(subtreeDocument);
+        subtreeDocument.updateRoots(cloner.clone(subtreeRoot, true /* preserveCloneeFxId */), null);
+        
+        final FXOMDocument result = new FXOMDocument(subtreeDocument.getFxmlText(false),
+                subtreeDocument.getGlue(),
+                document.getLocation(),
+                document.getClassLoader(),
+                document.getResources());
+        document.setRefreshStatistics(result.getLoadStatistics());
+        
+        return result;
+    }
+    
+    private static boolean containsDefineElement(GlueElement element) {
+        boolean result = element.getTagName().equals("fx:define");
+        for (int i = 0, count = element.getChildren().size(); (i < count) && (result == false); i++) {
+            result = containsDefineElement(element.getChildren().get(i));
+        }
+        return result;
+    }
+    
+    private static boolean isInside(FXOMObject fxomObject, FXOMObject subtreeRoot) {
+        return (fxomObject == subtreeRoot) || fxomObject.isDescendantOf(subtreeRoot);
+    }
+    
+    private static final int HELD_NOWHERE = -2;
+    private static final int HELD_DIRECTLY = -1;
+    
+    /*
+     * Returns the index of value in the list held by the property,
+     * HELD_DIRECTLY if the property value is value itself,
+     * HELD_NOWHERE otherwise.
+     */
+    private static int lookupHeldValue(Object sceneGraphObject, PropertyName propertyName, Object value) {
+        int result = HELD_NOWHERE;
+        
+        try {
+            final Object propertyValue = propertyName.getValue(sceneGraphObject);
+            if (propertyValue == value) {
+                result = HELD_DIRECTLY;
+            } else if (propertyValue instanceof List) {
+                final List<?> items = (List<?>) propertyValue;
+                for (int i = 0, count = items.size(); (i < count) && (result == HELD_NOWHERE); i++) {
+                    if (items.get(i) == value) {
+                        result = i;
+                    }
+                }
+            }
+        } catch (RuntimeException x) {
+            // Introspection failed : result stays HELD_NOWHERE
+        }
+        
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static boolean replaceHeldValue(Object sceneGraphObject, PropertyName propertyName, 
+            Object oldValue, Object newValue) {
+        final boolean result;
+        
+        final int index = lookupHeldValue(sceneGraphObject, propertyName, oldValue);
+        if (index == HELD_DIRECTLY) {
+            propertyName.setValue(sceneGraphObject, newValue);
+            result = true;
+        } else if (index >= 0) {
+            final List<Object> items = (List<Object>) propertyName.getValue(sceneGraphObject);
+            items.set(index, newValue);
+            result = true;
+        } else {
+            result = false;
+        }
+        
+        return result;
+    }
+
     private FXOMInstance getFxomInstance(FXOMIntrinsic intrinsic) {
         FXOMInstance fxomInstance = new FXOMInstance(intrinsic.getFxomDocument(), intrinsic.getGlueElement());
         fxomInstance.setSceneGraphObject(intrinsic.getSourceSceneGraphObject());
@@ -257,8 +565,7 @@ class FXOMRefresher {
      * dividerPositions in FXOM.
      */
 
-    private void synchronizeDividerPositions(FXOMDocument document) {
-        final FXOMObject fxomRoot = document.getFxomRoot();
+    private void synchronizeDividerPositions(FXOMObject fxomRoot) {
         if (fxomRoot != null) {
             final Metadata metadata
                     = Metadata.getMetadata();
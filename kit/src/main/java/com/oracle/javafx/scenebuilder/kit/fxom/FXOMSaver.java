@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2019, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -35,6 +35,8 @@ package com.oracle.javafx.scenebuilder.kit.fxom;
 import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueDocument;
 import com.oracle.javafx.scenebuilder.kit.fxom.glue.GlueInstruction;
 
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -68,6 +70,26 @@ class FXOMSaver {
     }
     
     public String save(FXOMDocument fxomDocument) {
+        prepareSave(fxomDocument);
+        return fxomDocument.getGlue().toString();
+    }
+    
+    public void save(FXOMDocument fxomDocument, WritableByteChannel channel) throws IOException {
+        prepareSave(fxomDocument);
+        fxomDocument.getGlue().writeTo(channel);
+    }
+    
+    public byte[] saveSnapshot(FXOMDocument fxomDocument) {
+        prepareSave(fxomDocument);
+        return fxomDocument.getGlue().makeSnapshot();
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    private void prepareSave(FXOMDocument fxomDocument) {
         
         assert fxomDocument != null;
         assert fxomDocument.getGlue() != null;
@@ -76,15 +98,8 @@ class FXOMSaver {
             updateNameSpace(fxomDocument);
             updateImportInstructions(fxomDocument);
         }
-
-        return fxomDocument.getGlue().toString();
     }
     
-    
-    /*
-     * Private
-     */
-    
     private static final String NAME_SPACE_FX = "http://javafx.com/javafx/" + FXMLLoader.JAVAFX_VERSION;
     private static final String NAME_SPACE_FXML = "http://javafx.com/fxml/1";
     
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom.glue;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Attribute map of a GlueElement. Any change is reported to the element 
+ * which then drops the caches derived from its attributes.
+ */
+class GlueAttributes extends AbstractMap<String, String> {
+    
+    private final GlueElement owner;
+    private final Map<String, String> map = new HashMap<>();
+    private final EntrySet entrySet = new EntrySet();
+    
+    public GlueAttributes(GlueElement owner) {
+        assert owner != null;
+        this.owner = owner;
+    }
+    
+    /*
+     * Map
+     */
+    
+    @Override
+    public int size() {
+        return map.size();
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+    
+    @Override
+    public String get(Object key) {
+        return map.get(key);
+    }
+    
+    @Override
+    public String put(String key, String value) {
+        assert key != null;
+        final String result = map.put(key, value);
+        if ((result == null) || (result.equals(value) == false)) {
+            owner.attributesDidChange();
+        }
+        return result;
+    }
+    
+    @Override
+    public String remove(Object key) {
+        final boolean found = map.containsKey(key);
+        final String result = map.remove(key);
+        if (found) {
+            owner.attributesDidChange();
+        }
+        return result;
+    }
+    
+    @Override
+    public void clear() {
+        if (map.isEmpty() == false) {
+            map.clear();
+            owner.attributesDidChange();
+        }
+    }
+    
+    @Override
+    public Set<Map.Entry<String, String>> entrySet() {
+        return entrySet;
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    private class EntrySet extends AbstractSet<Map.Entry<String, String>> {
+        
+        @Override
+        public int size() {
+            return map.size();
+        }
+        
+        @Override
+        public Iterator<Map.Entry<String, String>> iterator() {
+            final Iterator<Map.Entry<String, String>> it = map.entrySet().iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+                
+                @Override
+                public Map.Entry<String, String> next() {
+                    return new Entry(it.next());
+                }
+                
+                @Override
+                public void remove() {
+                    it.remove();
+                    owner.attributesDidChange();
+                }
+            };
+        }
+    }
+    
+    private class Entry extends AbstractMap.SimpleEntry<String, String> {
+        
+        private static final long serialVersionUID = 1L;
+        private final transient Map.Entry<String, String> entry;
+        
+        Entry(Map.Entry<String, String> entry) {
+            super(entry);
+            this.entry = entry;
+        }
+        
+        @Override
+        public String setValue(String value) {
+            super.setValue(value);
+            final String result = entry.setValue(value);
+            owner.attributesDidChange();
+            return result;
+        }
+    }
+}
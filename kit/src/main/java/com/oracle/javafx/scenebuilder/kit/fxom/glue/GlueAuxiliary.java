@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -38,6 +39,7 @@ package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 public class GlueAuxiliary extends GlueNode {
     
     private final GlueDocument document;
+    private Runnable changeListener;
 
     public GlueAuxiliary(GlueDocument document) {
         this.document = document;
@@ -47,4 +49,34 @@ public class GlueAuxiliary extends GlueNode {
         return document;
     }
     
+    /*
+     * Invoked by subclasses when their data change.
+     */
+    void dataDidChange() {
+        if (changeListener != null) {
+            changeListener.run();
+        }
+    }
+    
+    /*
+     * Maintained by GlueAuxiliaryList : the listener of the list holding
+     * this auxiliary.
+     */
+    void setChangeListener(Runnable listener) {
+        this.changeListener = listener;
+    }
+    
+    void removeChangeListener(Runnable listener) {
+        if (this.changeListener == listener) {
+            this.changeListener = null;
+        }
+    }
+    
+    /*
+     * Returns a copy of this auxiliary in targetDocument.
+     */
+    GlueAuxiliary copy(GlueDocument targetDocument) {
+        return new GlueAuxiliary(targetDocument);
+    }
+    
 }
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom.glue;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * List of auxiliaries held by a GlueDocument or a GlueElement.
+ * The specified listener is invoked when the list or one of its 
+ * auxiliaries changes.
+ */
+class GlueAuxiliaryList extends AbstractList<GlueAuxiliary> implements RandomAccess {
+    
+    private final List<GlueAuxiliary> list = new ArrayList<>();
+    private final Runnable listener;
+    
+    public GlueAuxiliaryList(Runnable listener) {
+        assert listener != null;
+        this.listener = listener;
+    }
+    
+    /*
+     * List
+     */
+    
+    @Override
+    public GlueAuxiliary get(int index) {
+        return list.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return list.size();
+    }
+    
+    @Override
+    public GlueAuxiliary set(int index, GlueAuxiliary auxiliary) {
+        assert auxiliary != null;
+        final GlueAuxiliary result = list.set(index, auxiliary);
+        result.removeChangeListener(listener);
+        auxiliary.setChangeListener(listener);
+        listener.run();
+        return result;
+    }
+    
+    @Override
+    public void add(int index, GlueAuxiliary auxiliary) {
+        assert auxiliary != null;
+        list.add(index, auxiliary);
+        auxiliary.setChangeListener(listener);
+        modCount++;
+        listener.run();
+    }
+    
+    @Override
+    public GlueAuxiliary remove(int index) {
+        final GlueAuxiliary result = list.remove(index);
+        result.removeChangeListener(listener);
+        modCount++;
+        listener.run();
+        return result;
+    }
+}
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -61,6 +62,7 @@ public class GlueCharacters extends GlueAuxiliary {
 
     public void setData(String data) {
         this.data = data;
+        dataDidChange();
     }
     
     public void adjustIndentBy(int delta) {
@@ -105,6 +107,7 @@ public class GlueCharacters extends GlueAuxiliary {
         }
         
         data = newValue.toString();
+        dataDidChange();
     }
     
     public int guessIndent() {
@@ -140,4 +143,13 @@ public class GlueCharacters extends GlueAuxiliary {
         
         return result;
     }
+    
+    /*
+     * GlueAuxiliary
+     */
+    
+    @Override
+    GlueCharacters copy(GlueDocument targetDocument) {
+        return new GlueCharacters(targetDocument, type, data);
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -32,6 +33,10 @@
 package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 
 import java.io.IOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -41,8 +46,12 @@ import java.util.List;
  */
 public class GlueDocument extends GlueNode {
     
+    private static final int WRITE_BUFFER_SIZE = 8192;
+    
     private GlueElement rootElement;
-    private final List<GlueAuxiliary> header = new ArrayList<>();
+    private final List<GlueAuxiliary> header = new GlueAuxiliaryList(this::contentDidChange);
+    // Incremented each time the header, the root element or a node changes
+    private long revision;
     
     public GlueDocument() {
     }
@@ -56,6 +65,35 @@ public class GlueDocument extends GlueNode {
         }
     }
     
+    /**
+     * Creates a copy of the specified document without any XML parsing.
+     * The copy has the structure of the document loaded from source.toString() :
+     * synthetic elements are replaced by their children.
+     * 
+     * @param source a glue document (never null)
+     */
+    public GlueDocument(GlueDocument source) {
+        assert source != null;
+        GlueElement.copyAuxiliaries(source.header, header, this);
+        if (source.rootElement != null) {
+            rootElement = source.rootElement.copy(this, 0);
+            adjustRootElementIndentation();
+        }
+    }
+    
+    /**
+     * Creates a document from a snapshot returned by {@link #makeSnapshot()}
+     * without any XML parsing.
+     * 
+     * @param snapshot a glue snapshot (never null)
+     * @throws IOException if snapshot is malformed
+     */
+    public GlueDocument(byte[] snapshot) throws IOException {
+        assert snapshot != null;
+        GlueSnapshot.decode(snapshot, this);
+        adjustRootElementIndentation();
+    }
+    
     public GlueElement getRootElement() {
         return rootElement;
     }
@@ -65,6 +103,7 @@ public class GlueDocument extends GlueNode {
             newRootElement.removeFromParent();
         }
         this.rootElement = newRootElement;
+        contentDidChange();
     }
 
     public List<GlueAuxiliary> getHeader() {
@@ -99,15 +138,60 @@ public class GlueDocument extends GlueNode {
         return result;
     }
     
+    /**
+     * Writes the XML text of this document to the specified output.
+     * Nothing is written if this document has no root element.
+     * 
+     * @param out the output (never null)
+     * @throws IOException if the output fails
+     */
+    public void writeTo(Appendable out) throws IOException {
+        assert out != null;
+        if (rootElement != null) {
+            final GlueSerializer serializer = new GlueSerializer(this);
+            serializer.writeTo(out);
+        }
+    }
+    
+    /**
+     * Writes the XML text of this document encoded in UTF-8 to the specified 
+     * channel. The channel is not closed.
+     * 
+     * @param channel the output channel (never null)
+     * @throws IOException if the channel fails
+     */
+    public void writeTo(WritableByteChannel channel) throws IOException {
+        assert channel != null;
+        final Writer writer = Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(), WRITE_BUFFER_SIZE);
+        writeTo(writer);
+        writer.flush();
+    }
+    
     public static boolean isEmptyXmlText(String xmlText) {
         assert xmlText != null;
         return xmlText.trim().isEmpty();
     }
     
+    /**
+     * Returns a compact binary encoding of this document.
+     * Synthetic elements are replaced by their children : decoding the
+     * snapshot gives the document loaded from toString().
+     * 
+     * @return the snapshot of this document.
+     */
+    public byte[] makeSnapshot() {
+        return GlueSnapshot.encode(this);
+    }
+    
     /*
      * Object
      */
     
+    /**
+     * Returns the XML text of this document.
+     * 
+     * @return the XML text of this document (empty if there is no root element).
+     */
     @Override
     public String toString() {
         final String result;
@@ -120,11 +204,31 @@ public class GlueDocument extends GlueNode {
         return result;
     }
     
+    /**
+     * Returns the revision of this document. It changes each time the header,
+     * the root element or one of the nodes of this document changes : callers
+     * can keep it next to a result derived from this document (XML text...)
+     * and reuse that result while the revision is the same.
+     * 
+     * @return the revision of this document.
+     */
+    public long getRevision() {
+        return revision;
+    }
+    
     
     /*
      * Private
      */
     
+    /*
+     * Invoked when the header, the root element or a node of this document
+     * changes.
+     */
+    void contentDidChange() {
+        revision++;
+    }
+    
     private void adjustRootElementIndentation() {
         /*
          * By default, if a root element is empty and expressed like this:
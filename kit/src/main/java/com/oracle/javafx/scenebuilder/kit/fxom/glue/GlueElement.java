@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -32,9 +32,10 @@
  */
 package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 
+import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -53,14 +54,20 @@ public class GlueElement extends GlueNode {
     // The child elements of this XML tag
     private final List<GlueElement> children = new ArrayList<>();
     // Attributes of this tag. Example: key: "url" value: "file:/C:/Users/pedro/Documents/test.jpg"
-    private final Map<String, String> attributes = new HashMap<>();
-    private final List<GlueAuxiliary> front = new ArrayList<>();
-    private final List<GlueAuxiliary> tail = new ArrayList<>();
-    private final List<GlueAuxiliary> content = new ArrayList<>();
+    private final Map<String, String> attributes = new GlueAttributes(this);
+    private final Runnable auxiliaryListener = this::subtreeDidChange;
+    private final List<GlueAuxiliary> front = new GlueAuxiliaryList(auxiliaryListener);
+    private final List<GlueAuxiliary> tail = new GlueAuxiliaryList(auxiliaryListener);
+    private final List<GlueAuxiliary> content = new GlueAuxiliaryList(auxiliaryListener);
     private int indentDepth;
     private boolean synthetic;
     
     private GlueElement parent;
+    // Attributes sorted by GlueSerializer (null when out of date)
+    private List<Map.Entry<String, String>> sortedAttributes;
+    private Comparator<Map.Entry<String, String>> sortedAttributesComparator;
+    // True when this element or one of its descendants changed since last updateIndent()
+    private boolean subtreeChanged = true;
     
     public GlueElement(GlueDocument document, String tagName) {
         this(document, tagName, 0, true /* preset */);
@@ -105,6 +112,7 @@ public class GlueElement extends GlueNode {
         assert tagName != null;
         assert tagName.isEmpty() == false;
         this.tagName = tagName;
+        subtreeDidChange();
     }
 
     public List<GlueElement> getChildren() {
@@ -133,6 +141,8 @@ public class GlueElement extends GlueNode {
         }
         newParent.children.add(index, this);
         this.parent = newParent;
+        newParent.subtreeDidChange();
+        this.subtreeDidChange();
     }
     
     public void addBefore(GlueElement nextSibling) {
@@ -153,6 +163,7 @@ public class GlueElement extends GlueNode {
         assert parent.children.contains(this);
         
         parent.children.remove(this);
+        parent.subtreeDidChange();
         parent = null;
     }
     
@@ -185,6 +196,11 @@ public class GlueElement extends GlueNode {
     }
 
     public void updateIndent(int depth) {
+        if ((subtreeChanged == false) && (indentDepth == depth)) {
+            // Nothing changed in this subtree since previous update
+            return;
+        }
+        
         if (indentDepth != depth) {
             final int indentDelta = (depth - indentDepth) * INDENT_STEP;
             if (front.isEmpty()) {
@@ -215,6 +231,7 @@ public class GlueElement extends GlueNode {
         for (GlueElement child : children) {
             child.updateIndent(nextDepth);
         }
+        subtreeChanged = false;
     }
 
     public String getContentText() {
@@ -271,6 +288,7 @@ public class GlueElement extends GlueNode {
         }
         
         document = targetDocument;
+        subtreeDidChange();
         
         for (GlueElement child : children) {
             child.moveToDocument(targetDocument);
@@ -285,7 +303,10 @@ public class GlueElement extends GlueNode {
     }
 
     public void setSynthetic(boolean synthetic) {
-        this.synthetic = synthetic;
+        if (this.synthetic != synthetic) {
+            this.synthetic = synthetic;
+            subtreeDidChange();
+        }
     }
 
     
@@ -311,6 +332,96 @@ public class GlueElement extends GlueNode {
         return result;
     }
     
+    /*
+     * Attribute order cache
+     */
+    
+    /*
+     * Returns the attributes of this element sorted with comparator.
+     * Result is cached until attributes change. Entries share their strings
+     * with the attribute map : no text is copied.
+     */
+    List<Map.Entry<String, String>> getSortedAttributes(Comparator<Map.Entry<String, String>> comparator) {
+        assert comparator != null;
+        
+        if ((sortedAttributes == null) || (sortedAttributesComparator != comparator)) {
+            final List<Map.Entry<String, String>> entries = new ArrayList<>(attributes.size());
+            for (Map.Entry<String, String> e : attributes.entrySet()) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(e.getKey(), e.getValue()));
+            }
+            entries.sort(comparator);
+            sortedAttributes = Collections.unmodifiableList(entries);
+            sortedAttributesComparator = comparator;
+        }
+        
+        return sortedAttributes;
+    }
+    
+    void attributesDidChange() {
+        sortedAttributes = null;
+        subtreeDidChange();
+    }
+    
+    /*
+     * Records that this element (or one of its descendants) changed and
+     * bumps the revision of the document.
+     * Invariant: if an element is marked then its ancestors are marked.
+     */
+    void subtreeDidChange() {
+        GlueElement e = this;
+        while ((e != null) && (e.subtreeChanged == false)) {
+            e.subtreeChanged = true;
+            e = e.parent;
+        }
+        document.contentDidChange();
+    }
+    
+    /*
+     * Copy
+     */
+    
+    /*
+     * Returns a copy of this element and its descendants in targetDocument.
+     * Like GlueSerializer, synthetic elements are replaced by their children :
+     * the copy is the element tree GlueLoader would build from the serialized
+     * text of this element.
+     */
+    GlueElement copy(GlueDocument targetDocument, int depth) {
+        assert targetDocument != null;
+        assert synthetic == false;
+        
+        final GlueElement result = new GlueElement(targetDocument, tagName, depth, false /* preset */);
+        result.attributes.putAll(attributes);
+        copyAuxiliaries(front, result.front, targetDocument);
+        if (children.isEmpty()) {
+            copyAuxiliaries(content, result.content, targetDocument);
+        } else {
+            copyChildren(this, result, depth + 1);
+            copyAuxiliaries(tail, result.tail, targetDocument);
+        }
+        
+        return result;
+    }
+    
+    static void copyAuxiliaries(List<GlueAuxiliary> source, List<GlueAuxiliary> target, 
+            GlueDocument targetDocument) {
+        for (GlueAuxiliary auxiliary : source) {
+            target.add(auxiliary.copy(targetDocument));
+        }
+    }
+    
+    private static void copyChildren(GlueElement source, GlueElement target, int depth) {
+        for (GlueElement child : source.children) {
+            if (child.synthetic) {
+                copyChildren(child, target, depth);
+            } else {
+                final GlueElement childCopy = child.copy(target.document, depth);
+                childCopy.parent = target;
+                target.children.add(childCopy);
+            }
+        }
+    }
+    
     /*
      * Object
      */
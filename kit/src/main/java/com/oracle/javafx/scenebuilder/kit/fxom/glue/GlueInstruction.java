@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -54,5 +55,14 @@ public class GlueInstruction extends GlueAuxiliary {
         return data;
     }
     
+    /*
+     * GlueAuxiliary
+     */
+    
+    @Override
+    GlueInstruction copy(GlueDocument targetDocument) {
+        return new GlueInstruction(targetDocument, target, data);
+    }
+    
 
 }
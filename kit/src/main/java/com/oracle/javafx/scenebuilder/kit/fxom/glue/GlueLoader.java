@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -31,37 +32,40 @@
  */
 package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.Charset;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import org.xml.sax.Attributes;
-import org.xml.sax.ContentHandler;
-import org.xml.sax.ErrorHandler;
-import org.xml.sax.InputSource;
-import org.xml.sax.Locator;
-import org.xml.sax.SAXException;
+import javax.xml.stream.Location;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.xml.sax.SAXParseException;
-import org.xml.sax.XMLReader;
-import org.xml.sax.ext.LexicalHandler;
-import org.xml.sax.helpers.XMLReaderFactory;
 
 /**
- *
+ * Builds a GlueDocument from an XML stream.
  * 
+ * Parsing is done with a StAX pull parser. Parser factories are expensive
+ * to create : each thread keeps its own configured instance.
+ * Consecutive character events are merged in a single GlueCharacters.
  */
-class GlueLoader implements ContentHandler, ErrorHandler, LexicalHandler {
+class GlueLoader {
+    
+    private static final String MESSAGE_PREFIX = "Message: "; //NOI18N
     
+    private static final ThreadLocal<XMLInputFactory> INPUT_FACTORY
+            = ThreadLocal.withInitial(GlueLoader::makeInputFactory);
     
     private final GlueDocument document;
     private GlueElement currentElement;
     private int currentElementDepth = -1;
     private final List<GlueAuxiliary> auxiliaries = new ArrayList<>();
-    private final Map<String, String> prefixMappings = new HashMap<>();
+    private final StringBuilder pendingText = new StringBuilder();
+    private final Map<String, String> namePool = new HashMap<>();
 
     public GlueLoader(GlueDocument document) {
         this.document = document;
@@ -71,86 +75,108 @@ class GlueLoader implements ContentHandler, ErrorHandler, LexicalHandler {
         assert xmlText != null;
         assert GlueDocument.isEmptyXmlText(xmlText) == false;
         
-        final Charset utf8 = Charset.forName("UTF-8"); //NOI18N
-        try (final InputStream is = new ByteArrayInputStream(xmlText.getBytes(utf8))) {
-            load(is);
-        }
+        load(new StringReader(xmlText));
     }
     
-    public void load(InputStream is) throws IOException {
-        assert currentElement == null;
-        assert currentElementDepth == -1;
-        assert auxiliaries.isEmpty();
-        assert prefixMappings.isEmpty();
+    public void load(Reader reader) throws IOException {
+        assert reader != null;
         
         try {
-            XMLReader xr = XMLReaderFactory.createXMLReader();
-            xr.setContentHandler(this);
-            xr.setErrorHandler(this);
-            xr.setProperty("http://xml.org/sax/properties/lexical-handler", this); //NOI18N
-            xr.parse(new InputSource(is));
-        } catch(SAXException x) {
-            throw new IOException(x);
+            load(INPUT_FACTORY.get().createXMLStreamReader(reader));
+        } catch(XMLStreamException x) {
+            throw makeIOException(x);
         }
-        
-        assert currentElement == null;
-        assert currentElementDepth == -1;
-        assert auxiliaries.isEmpty();
-        assert prefixMappings.isEmpty();
     }
-
+    
+    
     /*
-     * ContentHandler
+     * Private
      */
     
-    @Override
-    public void setDocumentLocator(Locator locator) {
+    private static XMLInputFactory makeInputFactory() {
+        final XMLInputFactory result = XMLInputFactory.newInstance();
+        result.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        result.setProperty(XMLInputFactory.IS_COALESCING, false);
+        result.setProperty(XMLInputFactory.IS_REPLACING_ENTITY_REFERENCES, true);
+        result.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        result.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return result;
     }
-
-    @Override
-    public void startDocument() throws SAXException {
+    
+    private void load(XMLStreamReader xsr) throws XMLStreamException {
         assert currentElement == null;
         assert currentElementDepth == -1;
         assert auxiliaries.isEmpty();
-    }
-
-    @Override
-    public void endDocument() throws SAXException {
-        assert document != null;
+        
+        try {
+            while (xsr.hasNext()) {
+                final int event = xsr.next();
+                switch(event) {
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.SPACE:
+                        pendingText.append(xsr.getTextCharacters(), xsr.getTextStart(), xsr.getTextLength());
+                        break;
+                    case XMLStreamConstants.START_ELEMENT:
+                        flushPendingText();
+                        startElement(xsr);
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        flushPendingText();
+                        endElement(xsr);
+                        break;
+                    case XMLStreamConstants.COMMENT:
+                        flushPendingText();
+                        addAuxiliary(new GlueCharacters(document, GlueCharacters.Type.COMMENT, xsr.getText()));
+                        break;
+                    case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                        flushPendingText();
+                        processingInstruction(xsr.getPITarget(), xsr.getPIData());
+                        break;
+                    case XMLStreamConstants.START_DOCUMENT:
+                    case XMLStreamConstants.END_DOCUMENT:
+                        break;
+                    case XMLStreamConstants.DTD:
+                        throw new UnsupportedOperationException("dtd=" + xsr.getText()); //NOI18N
+                    case XMLStreamConstants.ENTITY_REFERENCE:
+                        throw new UnsupportedOperationException("name=" + xsr.getLocalName()); //NOI18N
+                    case XMLStreamConstants.CDATA:
+                        throw new UnsupportedOperationException();
+                    default:
+                        throw new UnsupportedOperationException("event=" + event); //NOI18N
+                }
+            }
+            flushPendingText();
+        } finally {
+            xsr.close();
+        }
+        
         assert currentElement == null;
         assert currentElementDepth == -1;
         assert auxiliaries.isEmpty();
     }
-
-    @Override
-    public void startPrefixMapping(String prefix, String uri) throws SAXException {
-        prefixMappings.put(prefix, uri);
-    }
-
-    @Override
-    public void endPrefixMapping(String prefix) throws SAXException {
-        assert prefixMappings.isEmpty();
-    }
-
-    @Override
-    public void startElement(String uri, String localName, String qName, Attributes atts) throws SAXException {
+    
+    private void startElement(XMLStreamReader xsr) {
         
         // Creates a new glue element and:
-        // - puts atts content in GlueElement.attributes map
-        // - puts prefixMappings content in GlueElement.attributes map
+        // - puts attributes in GlueElement.attributes map
+        // - puts namespace declarations in GlueElement.attributes map
         // - puts this.auxiliaries content in GlueElement.front
         
         currentElementDepth++;
-        final GlueElement newElement = new GlueElement(document, qName, currentElementDepth, false /* preset */);
+        final String tagName = makeQualifiedName(xsr.getPrefix(), xsr.getLocalName());
+        final GlueElement newElement = new GlueElement(document, tagName, currentElementDepth, false /* preset */);
         final Map<String, String> attributes = newElement.getAttributes();
-        for (int i = 0, count = atts.getLength(); i < count; i++) {
-            attributes.put(atts.getQName(i), atts.getValue(i));
+        for (int i = 0, count = xsr.getAttributeCount(); i < count; i++) {
+            final String name = makeQualifiedName(xsr.getAttributePrefix(i), xsr.getAttributeLocalName(i));
+            attributes.put(name, xsr.getAttributeValue(i));
         }
-        for (Map.Entry<String,String> e : prefixMappings.entrySet()) {
-            if (e.getKey().isEmpty()) {
-                newElement.getAttributes().put("xmlns", e.getValue()); //NOI18N
+        for (int i = 0, count = xsr.getNamespaceCount(); i < count; i++) {
+            final String prefix = xsr.getNamespacePrefix(i);
+            final String uri = xsr.getNamespaceURI(i);
+            if ((prefix == null) || prefix.isEmpty()) {
+                attributes.put("xmlns", uri); //NOI18N
             } else {
-                newElement.getAttributes().put("xmlns:" + e.getKey(), e.getValue()); //NOI18N
+                attributes.put(makeQualifiedName("xmlns", prefix), uri); //NOI18N
             }
         }
         newElement.getFront().addAll(auxiliaries);
@@ -165,13 +191,11 @@ class GlueLoader implements ContentHandler, ErrorHandler, LexicalHandler {
         
         currentElement = newElement;
         auxiliaries.clear();
-        prefixMappings.clear();
     }
 
-    @Override
-    public void endElement(String uri, String localName, String qName) throws SAXException {
+    private void endElement(XMLStreamReader xsr) {
         assert currentElement != null;
-        assert currentElement.getTagName().equals(qName);
+        assert currentElement.getTagName().equals(makeQualifiedName(xsr.getPrefix(), xsr.getLocalName()));
         assert currentElementDepth >= 0;
         
         if (currentElement.getChildren().isEmpty()) {
@@ -184,100 +208,68 @@ class GlueLoader implements ContentHandler, ErrorHandler, LexicalHandler {
         currentElementDepth--;
         auxiliaries.clear();
     }
-
-    @Override
-    public void characters(char[] ch, int start, int length) throws SAXException {
-        final String data = new String(ch, start, length);
-        final GlueAuxiliary auxiliary = new GlueCharacters(document, GlueCharacters.Type.TEXT, data);
-        
+    
+    private void processingInstruction(String target, String data) {
+        assert currentElement == null;
+        assert currentElementDepth == -1;
+        document.getHeader().add(new GlueInstruction(document, target, (data == null) ? "" : data)); //NOI18N
+    }
+    
+    private void flushPendingText() {
+        if (pendingText.length() > 0) {
+            // Like SAX, white spaces outside of the root element are ignored
+            if (currentElement != null) {
+                auxiliaries.add(new GlueCharacters(document, GlueCharacters.Type.TEXT, pendingText.toString()));
+            }
+            pendingText.setLength(0);
+        }
+    }
+    
+    private void addAuxiliary(GlueAuxiliary auxiliary) {
         if (currentElement == null) {
             document.getHeader().add(auxiliary);
         } else {
             auxiliaries.add(auxiliary);
         }
     }
-
-    @Override
-    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
-        characters(ch, start, length);
-    }
-
-    @Override
-    public void processingInstruction(String target, String data) throws SAXException {
-        assert currentElement == null;
-        assert currentElementDepth == -1;
-        document.getHeader().add(new GlueInstruction(document, target, data));
-    }
-
-    @Override
-    public void skippedEntity(String name) throws SAXException {
-        throw new UnsupportedOperationException("name=" + name); //NOI18N
-    }
     
     /*
-     * ErrorHandler
+     * Tag and attribute names come from a small vocabulary : sharing them
+     * avoids keeping one copy per element in large documents. The pool
+     * lives as long as this loader so nothing outlives the document.
      */
-    
-    @Override
-    public void warning(SAXParseException exception) throws SAXException {
-        throw exception;
-    }
-
-    @Override
-    public void error(SAXParseException exception) throws SAXException {
-        throw exception;
-    }
-
-    @Override
-    public void fatalError(SAXParseException exception) throws SAXException {
-        throw exception;
+    private String makeQualifiedName(String prefix, String localName) {
+        final String qualifiedName;
+        if ((prefix == null) || prefix.isEmpty()) {
+            qualifiedName = localName;
+        } else {
+            qualifiedName = prefix + ":" + localName; //NOI18N
+        }
+        return namePool.computeIfAbsent(qualifiedName, n -> n);
     }
     
-    
     /*
-     * LexicalHandler
+     * Keeps the error contract of the SAX based implementation : callers
+     * receive an IOException caused by a SAXParseException.
      */
-    @Override
-    public void startDTD(String name, String publicId, String systemId) throws SAXException {
-        throw new UnsupportedOperationException("name=" + name  //NOI18N
-                + ", publicId=" + publicId //NOI18N
-                + ", systemId=" + systemId); //NOI18N
-    }
-
-    @Override
-    public void endDTD() throws SAXException {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void startEntity(String name) throws SAXException {
-        throw new UnsupportedOperationException("name=" + name); //NOI18N
-    }
-
-    @Override
-    public void endEntity(String name) throws SAXException {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void startCDATA() throws SAXException {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void endCDATA() throws SAXException {
-        throw new UnsupportedOperationException();
-    }
-
-    @Override
-    public void comment(char[] ch, int start, int length) throws SAXException {
-        final String data = new String(ch, start, length);
-        final GlueAuxiliary auxiliary = new GlueCharacters(document, GlueCharacters.Type.COMMENT, data);
+    private static IOException makeIOException(XMLStreamException x) {
+        // Strips the "ParseError at [row,col]:[...]" prefix added by the JDK
+        // parser : SAXParseException already reports the location.
+        String message = x.getMessage();
+        final int messageIndex = (message == null) ? -1 : message.indexOf(MESSAGE_PREFIX);
+        if (messageIndex != -1) {
+            message = message.substring(messageIndex + MESSAGE_PREFIX.length());
+        }
         
-        if (currentElement == null) {
-            document.getHeader().add(auxiliary);
+        final Location location = x.getLocation();
+        final SAXParseException cause;
+        if (location == null) {
+            cause = new SAXParseException(message, null, null, -1, -1);
         } else {
-            auxiliaries.add(auxiliary);
+            cause = new SAXParseException(message, location.getPublicId(), location.getSystemId(),
+                    location.getLineNumber(), location.getColumnNumber());
         }
+        cause.initCause(x);
+        return new IOException(cause);
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Gluon and/or its affiliates.
+ * Copyright (c) 2018, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -32,11 +32,7 @@
  */
 package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 
-import java.util.AbstractMap.SimpleEntry;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Map;
+import java.io.IOException;
 
 /**
  *
@@ -58,13 +54,14 @@ class GlueSerializer {
     }
     
     
-    /*
-     * Object
+    /**
+     * Writes the XML text of the document to the specified output.
+     * 
+     * @param out the output (never null)
+     * @throws IOException if the output fails
      */
-    
-    @Override
-    public String toString() {
-        final XMLBuffer result = new XMLBuffer();
+    public void writeTo(Appendable out) throws IOException {
+        final XMLBuffer result = new XMLBuffer(out);
         
         result.addLineSeparator();
         result.addLineSeparator();
@@ -87,11 +84,27 @@ class GlueSerializer {
         
         serializeElement(document.getRootElement(), result);
         result.addLineSeparator();
-        
+        result.flush();
+    }
+    
+    
+    /*
+     * Object
+     */
+    
+    @Override
+    public String toString() {
+        final StringBuilder result = new StringBuilder();
+        try {
+            writeTo(result);
+        } catch(IOException x) {
+            // StringBuilder does not throw IOException
+            throw new IllegalStateException(x);
+        }
         return result.toString();
     }
     
-    private void serializeElement(GlueElement element, XMLBuffer xmlBuffer) {
+    private void serializeElement(GlueElement element, XMLBuffer xmlBuffer) throws IOException {
         if (element.isSynthetic()) {
             for (GlueElement child : element.getChildren()) {
                 serializeElement(child, xmlBuffer);
@@ -100,8 +113,7 @@ class GlueSerializer {
             for (GlueAuxiliary auxiliary : element.getFront()) {
                 serializeAuxiliary(auxiliary, xmlBuffer);
             }
-            xmlBuffer.beginElement(element.getTagName());
-            serializeAttributes(element, xmlBuffer);
+            xmlBuffer.beginElement(element.getTagName(), makeStartTag(element));
             if (element.getChildren().isEmpty()) {
                 for (GlueAuxiliary auxiliary : element.getContent()) {
                     serializeAuxiliary(auxiliary, xmlBuffer);
@@ -118,7 +130,7 @@ class GlueSerializer {
         }
     }
     
-    private void serializeAuxiliary(GlueAuxiliary auxiliary, XMLBuffer xmlBuffer) {
+    private void serializeAuxiliary(GlueAuxiliary auxiliary, XMLBuffer xmlBuffer) throws IOException {
         if (auxiliary instanceof GlueCharacters) {
             final GlueCharacters characters = (GlueCharacters) auxiliary;
             switch(characters.getType()) {
@@ -140,21 +152,13 @@ class GlueSerializer {
     }
     
     
-    private void serializeAttributes(GlueElement element, XMLBuffer xmlBuffer) {
-        
-        final Map<String, String> attributes = element.getAttributes();
-        final List<Map.Entry<String,String>> attrNames = new ArrayList<>();
-        for (Map.Entry<String, String> entry : attributes.entrySet()) {
-            attrNames.add(new SimpleEntry<>(entry.getKey(), entry.getValue()));
-        }
+    private String makeStartTag(GlueElement element) {
+        final XMLAttrComparator comparator;
         if (element.getTagName().equals("Color")) {
-            Collections.sort(attrNames, colorAttrComparator);
+            comparator = colorAttrComparator;
         } else {
-            Collections.sort(attrNames, attrComparator);
-        }
-
-        for (Map.Entry<String,String> e : attrNames) {
-            xmlBuffer.addAttribute(e.getKey(), e.getValue());
+            comparator = attrComparator;
         }
+        return XMLBuffer.makeStartTag(element.getTagName(), element.getSortedAttributes(comparator));
     }
 }
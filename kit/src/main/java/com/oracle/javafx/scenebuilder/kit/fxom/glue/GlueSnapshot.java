@@ -0,0 +1,328 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom.glue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of a glue document.
+ * 
+ * A snapshot holds the elements, attributes and auxiliaries of a document
+ * without any XML syntax : decoding it does not involve any XML parsing.
+ * Strings are stored once and then referenced by index : tag names, 
+ * attribute names and indentation text are mostly repeated strings.
+ * 
+ * Like GlueSerializer, synthetic elements are replaced by their children.
+ */
+class GlueSnapshot {
+    
+    private static final int MAGIC = 0x47534E50; // GSNP
+    private static final int VERSION = 1;
+    
+    // Auxiliary kinds
+    private static final int KIND_TEXT = 0;
+    private static final int KIND_COMMENT = 1;
+    private static final int KIND_INSTRUCTION = 2;
+    
+    // String references : 0 is null, 1 is a new string, n >= 2 is string #(n - 2)
+    private static final int STRING_NULL = 0;
+    private static final int STRING_NEW = 1;
+    private static final int STRING_INDEX_BASE = 2;
+    
+    public static byte[] encode(GlueDocument document) {
+        assert document != null;
+        
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            new Writer(bytes).writeDocument(document);
+        } catch(IOException x) {
+            // ByteArrayOutputStream does not throw IOException
+            throw new UncheckedIOException(x);
+        }
+        return bytes.toByteArray();
+    }
+    
+    public static void decode(byte[] snapshot, GlueDocument targetDocument) throws IOException {
+        assert snapshot != null;
+        assert targetDocument != null;
+        assert targetDocument.getRootElement() == null;
+        
+        new Reader(snapshot, targetDocument).readDocument();
+    }
+    
+    
+    /*
+     * Private
+     */
+    
+    private static class Writer {
+        
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+        
+        Writer(ByteArrayOutputStream bytes) {
+            this.out = new DataOutputStream(bytes);
+        }
+        
+        void writeDocument(GlueDocument document) throws IOException {
+            out.writeInt(MAGIC);
+            writeCount(VERSION);
+            writeAuxiliaries(document.getHeader());
+            final GlueElement rootElement = document.getRootElement();
+            if (rootElement == null) {
+                out.writeBoolean(false);
+            } else {
+                out.writeBoolean(true);
+                writeElement(rootElement);
+            }
+            out.flush();
+        }
+        
+        private void writeElement(GlueElement element) throws IOException {
+            assert element.isSynthetic() == false;
+            
+            writeString(element.getTagName());
+            final Map<String, String> attributes = element.getAttributes();
+            writeCount(attributes.size());
+            for (Map.Entry<String, String> e : attributes.entrySet()) {
+                writeString(e.getKey());
+                writeString(e.getValue());
+            }
+            writeAuxiliaries(element.getFront());
+            
+            final List<GlueElement> children = new ArrayList<>();
+            collectChildren(element, children);
+            writeCount(children.size());
+            if (children.isEmpty()) {
+                writeAuxiliaries(element.getContent());
+            } else {
+                for (GlueElement child : children) {
+                    writeElement(child);
+                }
+                writeAuxiliaries(element.getTail());
+            }
+        }
+        
+        private static void collectChildren(GlueElement element, List<GlueElement> result) {
+            for (GlueElement child : element.getChildren()) {
+                if (child.isSynthetic()) {
+                    collectChildren(child, result);
+                } else {
+                    result.add(child);
+                }
+            }
+        }
+        
+        private void writeAuxiliaries(List<GlueAuxiliary> auxiliaries) throws IOException {
+            writeCount(auxiliaries.size());
+            for (GlueAuxiliary auxiliary : auxiliaries) {
+                if (auxiliary instanceof GlueCharacters) {
+                    final GlueCharacters characters = (GlueCharacters) auxiliary;
+                    switch(characters.getType()) {
+                        case TEXT:
+                            out.writeByte(KIND_TEXT);
+                            break;
+                        case COMMENT:
+                            out.writeByte(KIND_COMMENT);
+                            break;
+                        default:
+                            throw new IllegalStateException("Unexpected type " + characters.getType()); //NOI18N
+                    }
+                    writeString(characters.getData());
+                } else {
+                    assert auxiliary instanceof GlueInstruction;
+                    final GlueInstruction instruction = (GlueInstruction) auxiliary;
+                    out.writeByte(KIND_INSTRUCTION);
+                    writeString(instruction.getTarget());
+                    writeString(instruction.getData());
+                }
+            }
+        }
+        
+        private void writeString(String s) throws IOException {
+            if (s == null) {
+                writeCount(STRING_NULL);
+            } else {
+                final Integer index = strings.get(s);
+                if (index == null) {
+                    strings.put(s, strings.size());
+                    writeCount(STRING_NEW);
+                    // Not writeUTF() : text may exceed 64K
+                    final byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+                    writeCount(utf8.length);
+                    out.write(utf8);
+                } else {
+                    writeCount(STRING_INDEX_BASE + index);
+                }
+            }
+        }
+        
+        private void writeCount(int count) throws IOException {
+            assert count >= 0;
+            // Variable length : 7 bits per byte, high bit set on all bytes but the last
+            int v = count;
+            while (v >= 0x80) {
+                out.writeByte((v & 0x7F) | 0x80);
+                v >>>= 7;
+            }
+            out.writeByte(v);
+        }
+    }
+    
+    
+    private static class Reader {
+        
+        private final DataInputStream in;
+        private final GlueDocument document;
+        private final List<String> strings = new ArrayList<>();
+        
+        Reader(byte[] snapshot, GlueDocument document) {
+            this.in = new DataInputStream(new ByteArrayInputStream(snapshot));
+            this.document = document;
+        }
+        
+        void readDocument() throws IOException {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a glue snapshot"); //NOI18N
+            }
+            final int version = readCount();
+            if (version != VERSION) {
+                throw new IOException("Unsupported glue snapshot version " + version); //NOI18N
+            }
+            readAuxiliaries(document.getHeader());
+            if (in.readBoolean()) {
+                document.setRootElement(readElement(0));
+            }
+            if (in.read() != -1) {
+                throw new IOException("Unexpected data at end of glue snapshot"); //NOI18N
+            }
+        }
+        
+        private GlueElement readElement(int depth) throws IOException {
+            final String tagName = readString();
+            if (tagName == null) {
+                throw new IOException("Missing tag name in glue snapshot"); //NOI18N
+            }
+            final GlueElement result = new GlueElement(document, tagName, depth, false /* preset */);
+            final Map<String, String> attributes = result.getAttributes();
+            for (int i = 0, count = readCount(); i < count; i++) {
+                final String name = readString();
+                final String value = readString();
+                attributes.put(name, value);
+            }
+            readAuxiliaries(result.getFront());
+            
+            final int childCount = readCount();
+            if (childCount == 0) {
+                readAuxiliaries(result.getContent());
+            } else {
+                for (int i = 0; i < childCount; i++) {
+                    readElement(depth + 1).addToParent(result);
+                }
+                readAuxiliaries(result.getTail());
+            }
+            
+            return result;
+        }
+        
+        private void readAuxiliaries(List<GlueAuxiliary> auxiliaries) throws IOException {
+            for (int i = 0, count = readCount(); i < count; i++) {
+                final int kind = in.readUnsignedByte();
+                switch(kind) {
+                    case KIND_TEXT:
+                        auxiliaries.add(new GlueCharacters(document, GlueCharacters.Type.TEXT, readString()));
+                        break;
+                    case KIND_COMMENT:
+                        auxiliaries.add(new GlueCharacters(document, GlueCharacters.Type.COMMENT, readString()));
+                        break;
+                    case KIND_INSTRUCTION:
+                        final String instructionTarget = readString();
+                        final String instructionData = readString();
+                        auxiliaries.add(new GlueInstruction(document, instructionTarget, instructionData));
+                        break;
+                    default:
+                        throw new IOException("Unknown auxiliary kind " + kind); //NOI18N
+                }
+            }
+        }
+        
+        private String readString() throws IOException {
+            final int ref = readCount();
+            final String result;
+            
+            if (ref == STRING_NULL) {
+                result = null;
+            } else if (ref == STRING_NEW) {
+                final byte[] utf8 = new byte[readCount()];
+                in.readFully(utf8);
+                result = new String(utf8, StandardCharsets.UTF_8);
+                strings.add(result);
+            } else {
+                final int index = ref - STRING_INDEX_BASE;
+                if (index >= strings.size()) {
+                    throw new IOException("Bad string reference in glue snapshot"); //NOI18N
+                }
+                result = strings.get(index);
+            }
+            
+            return result;
+        }
+        
+        private int readCount() throws IOException {
+            int result = 0;
+            int shift = 0;
+            int b;
+            do {
+                if (shift > 28) {
+                    throw new IOException("Malformed count in glue snapshot"); //NOI18N
+                }
+                b = in.readUnsignedByte();
+                result |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            if (result < 0) {
+                throw new IOException("Malformed count in glue snapshot"); //NOI18N
+            }
+            return result;
+        }
+    }
+}
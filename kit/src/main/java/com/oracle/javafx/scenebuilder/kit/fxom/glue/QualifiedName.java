@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -31,7 +32,9 @@
  */
 package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  *
@@ -39,6 +42,10 @@ import java.util.Objects;
  */
 class QualifiedName implements Comparable<QualifiedName> {
     
+    // Attribute names seen past this limit are parsed on each call
+    private static final int MAX_INSTANCES = 1024;
+    private static final Map<String, QualifiedName> INSTANCES = new ConcurrentHashMap<>();
+    
     private final String qualifier;
     private final String name;
 
@@ -59,6 +66,24 @@ class QualifiedName implements Comparable<QualifiedName> {
         }
     }
 
+    /*
+     * Returns a shared instance for the specified qualified name : attribute
+     * names come from a small vocabulary and are parsed over and over
+     * by XMLAttrComparator. The cache is bounded : documents with many
+     * distinct attribute names must not make it grow without limit.
+     */
+    public static QualifiedName valueOf(String qualifiedName) {
+        assert qualifiedName != null;
+        QualifiedName result = INSTANCES.get(qualifiedName);
+        if (result == null) {
+            result = new QualifiedName(qualifiedName);
+            if (INSTANCES.size() < MAX_INSTANCES) {
+                INSTANCES.putIfAbsent(qualifiedName, result);
+            }
+        }
+        return result;
+    }
+
     public String getQualifier() {
         return qualifier;
     }
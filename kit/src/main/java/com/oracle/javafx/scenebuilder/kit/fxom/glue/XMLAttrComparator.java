@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2018, Gluon and/or its affiliates.
+ * Copyright (c) 2018, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -53,8 +53,8 @@ class XMLAttrComparator implements Comparator<Map.Entry<String,String>> {
         final int result;
         
         if ((aoi1 == 2) && (aoi2 == 2)) {
-            final QualifiedName qn1 = new QualifiedName(attr1.getKey());
-            final QualifiedName qn2 = new QualifiedName(attr2.getKey());
+            final QualifiedName qn1 = QualifiedName.valueOf(attr1.getKey());
+            final QualifiedName qn2 = QualifiedName.valueOf(attr2.getKey());
             result = qn1.compareTo(qn2);
         } else {
             result = Integer.compare(aoi1, aoi2);
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -31,16 +32,25 @@
  */
 package com.oracle.javafx.scenebuilder.kit.fxom.glue;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
- * 
- * 
+ * Streams XML text to an Appendable. Characters are collected in a scratch
+ * buffer which is written to the output when full and on flush().
+ * Start tags are prepared with makeStartTag().
  */
 class XMLBuffer {
     
-    private final StringBuffer buffer = new StringBuffer();
+    private static final int SCRATCH_SIZE = 8192;
+    
+    private final Appendable out;
+    private final char[] scratch = new char[SCRATCH_SIZE];
+    private int scratchLength;
     private final List<String> elementStack = new ArrayList<>();
     private boolean tagOpened;
     
@@ -48,140 +58,196 @@ class XMLBuffer {
      * XMLBuffer
      */
     
-    public XMLBuffer() {
-        clear();
-    }
-    
-    public final void clear() {
-        elementStack.clear();
-        tagOpened = false;
-        buffer.delete(0, buffer.length());
-        buffer.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //NOI18N
+    public XMLBuffer(Appendable out) throws IOException {
+        assert out != null;
+        this.out = out;
+        append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>"); //NOI18N
     }
     
-    public void addProcessingInstruction(String target, String content) {
+    public void addProcessingInstruction(String target, String content) throws IOException {
         assert target != null;
         assert content != null;
         assert elementStack.isEmpty();
         assert tagOpened == false;
         
-        buffer.append("<?"); //NOI18N
-        buffer.append(target);
-        buffer.append(' ');
-        buffer.append(content);
-        buffer.append("?>"); //NOI18N
+        append("<?"); //NOI18N
+        append(target);
+        append(' ');
+        append(content);
+        append("?>"); //NOI18N
     }
     
-    public void beginElement(String elementName) {
+    /**
+     * Begins an element.
+     * 
+     * @param elementName the element name
+     * @param startTag the start tag returned by makeStartTag() for this element
+     * @throws IOException if the output fails
+     */
+    public void beginElement(String elementName, String startTag) throws IOException {
         assert elementName != null;
+        assert startTag.startsWith("<" + elementName); //NOI18N
         
         if (tagOpened) {
-            buffer.append(">"); //NOI18N
+            append('>');
         }
-        buffer.append('<');
-        buffer.append(elementName);
+        append(startTag);
         elementStack.add(elementName);
         tagOpened = true;
     }
     
-    public void addAttribute(String attributeName, String attributeValue) {
-        assert attributeName != null;
-        assert attributeValue != null;
-        assert tagOpened;
-        
-        buffer.append(' ');
-        buffer.append(attributeName);
-        buffer.append("=\""); //NOI18N
-        buffer.append(encodeToAttributeValue(attributeValue));
-        buffer.append('"');
-    }
-    
-    public void endElement() {
+    public void endElement() throws IOException {
         assert elementStack.isEmpty() == false;
         
-        final String elementName = elementStack.get(elementStack.size()-1);
-        elementStack.remove(elementStack.size()-1);
+        final String elementName = elementStack.remove(elementStack.size()-1);
         if (tagOpened) {
-            buffer.append(" />"); //NOI18N
+            append(" />"); //NOI18N
             tagOpened = false;
         } else {
-            buffer.append("</"); //NOI18N
-            buffer.append(elementName);
-            buffer.append(">"); //NOI18N
+            append("</"); //NOI18N
+            append(elementName);
+            append('>');
         }
     }
     
     
-    public void addText(String text) {
+    public void addText(String text) throws IOException {
         if (tagOpened) {
-            buffer.append(">"); //NOI18N
+            append('>');
             tagOpened = false;
         }
-        buffer.append(text);
+        append(text);
     }
     
     
-    public void addComment(String comment) {
+    public void addComment(String comment) throws IOException {
         assert tagOpened == false;
-        buffer.append("<!--"); //NOI18N
-        buffer.append(comment);
-        buffer.append("-->"); //NOI18N
+        append("<!--"); //NOI18N
+        append(comment);
+        append("-->"); //NOI18N
     }
     
-    public void addLineSeparator() {
+    public void addLineSeparator() throws IOException {
         if (tagOpened) {
-            buffer.append(">"); //NOI18N
+            append('>');
             tagOpened = false;
         }
-        buffer.append('\n');
+        append('\n');
     }
     
-    /*
-     * Object
+    /**
+     * Writes the pending characters to the output.
+     * 
+     * @throws IOException if the output fails
      */
-    
-    @Override
-    public String toString() {
+    public void flush() throws IOException {
         assert elementStack.isEmpty();
-        return buffer.toString();
+        writeScratch();
+    }
+    
+    /**
+     * Returns the text of a start tag without its closing bracket.
+     * Attribute values are encoded.
+     * 
+     * @param elementName the element name
+     * @param attributes the attributes in serialization order
+     * @return the start tag text (eg '&lt;Button text="OK"')
+     */
+    public static String makeStartTag(String elementName, List<Map.Entry<String, String>> attributes) {
+        assert elementName != null;
+        assert attributes != null;
+        
+        final StringBuilder result = new StringBuilder();
+        result.append('<');
+        result.append(elementName);
+        for (Map.Entry<String, String> e : attributes) {
+            assert e.getKey() != null;
+            assert e.getValue() != null;
+            result.append(' ');
+            result.append(e.getKey());
+            result.append("=\""); //NOI18N
+            appendAttributeValue(e.getValue(), result);
+            result.append('"');
+        }
+        
+        return result.toString();
     }
     
     /*
      * Private
      */    
     
+    private void append(char c) throws IOException {
+        if (scratchLength == scratch.length) {
+            writeScratch();
+        }
+        scratch[scratchLength++] = c;
+    }
+    
+    private void append(String s) throws IOException {
+        append(s, 0, s.length());
+    }
+    
+    private void append(String s, int start, int end) throws IOException {
+        while (start < end) {
+            if (scratchLength == scratch.length) {
+                writeScratch();
+            }
+            final int count = Math.min(end - start, scratch.length - scratchLength);
+            s.getChars(start, start + count, scratch, scratchLength);
+            scratchLength += count;
+            start += count;
+        }
+    }
     
-    private String encodeToAttributeValue(String s) {
-        final StringBuffer result = new StringBuffer();
+    private void writeScratch() throws IOException {
+        if (scratchLength > 0) {
+            if (out instanceof Writer) {
+                ((Writer) out).write(scratch, 0, scratchLength);
+            } else if (out instanceof StringBuilder) {
+                ((StringBuilder) out).append(scratch, 0, scratchLength);
+            } else {
+                out.append(CharBuffer.wrap(scratch, 0, scratchLength));
+            }
+            scratchLength = 0;
+        }
+    }
+    
+    private static void appendAttributeValue(String s, StringBuilder sb) {
+        int runStart = 0;
         
-        for (int i = 0; i < s.length(); i++) {
+        for (int i = 0, length = s.length(); i < length; i++) {
             final char c = s.charAt(i);
+            final String entity;
             switch (c) {
                 case '&': 
-                    result.append("&amp;");  //NOI18N
+                    entity = "&amp;";  //NOI18N
                     break;
                 case '<':
-                    result.append("&lt;"); //NOI18N
+                    entity = "&lt;"; //NOI18N
                     break;
                 case '>':
-                    result.append("&gt;"); //NOI18N
+                    entity = "&gt;"; //NOI18N
                     break;
                 case '"': 
-                    result.append("&quot;"); //NOI18N
+                    entity = "&quot;"; //NOI18N
                     break;
                 default :
-                    if (Character.isISOControl(c)) {
-                        result.append("&#"); //NOI18N
-                        result.append((int) c);
-                        result.append(';');
-                    } else {
-                        result.append(c);
-                    }
+                    entity = null;
                     break;
             }
+            if ((entity != null) || Character.isISOControl(c)) {
+                sb.append(s, runStart, i);
+                if (entity != null) {
+                    sb.append(entity);
+                } else {
+                    sb.append("&#"); //NOI18N
+                    sb.append((int) c);
+                    sb.append(';');
+                }
+                runStart = i + 1;
+            }
         }
-        
-        return result.toString();
+        sb.append(s, runStart, s.length());
     }
-
 }
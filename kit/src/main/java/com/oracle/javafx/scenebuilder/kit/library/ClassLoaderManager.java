@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps track of the class loaders built over the jars of the user library.
+ *
+ * A class loader is shared by all the requests with the same jar set and is
+ * reference counted: the library holds one reference and each document
+ * using it holds another one. The class loader is closed (and its jar files
+ * released) when the last reference is released.
+ */
+public class ClassLoaderManager {
+
+    private static final ClassLoaderManager DEFAULT = new ClassLoaderManager();
+    private static final Logger LOG = Logger.getLogger(ClassLoaderManager.class.getName());
+
+    private final Map<List<String>, ManagedClassLoader> loaders = new HashMap<>();
+
+    public static ClassLoaderManager getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns a class loader over the specified jars and folders. An open
+     * class loader is reused if none of the jars changed since it was built.
+     * The caller owns one reference and must release it with {@link #release}.
+     *
+     * @param paths jars, folders or modules (never null)
+     * @return a class loader (never null)
+     */
+    public synchronized ClassLoader acquire(Collection<Path> paths) {
+        assert paths != null;
+
+        final List<String> key = makeKey(paths);
+        ManagedClassLoader result = loaders.get(key);
+        if (result == null) {
+            result = new ManagedClassLoader(key, makeURLArrayFromPaths(paths));
+            loaders.put(key, result);
+            logStatistics("Created class loader"); //NOI18N
+        }
+        result.referenceCount++;
+
+        return result;
+    }
+
+    /**
+     * Adds a reference to the specified class loader.
+     * Does nothing if classLoader has not been built by this manager.
+     *
+     * @param classLoader a class loader or null
+     */
+    public synchronized void retain(ClassLoader classLoader) {
+        if (isManaged(classLoader)) {
+            ((ManagedClassLoader) classLoader).referenceCount++;
+        }
+    }
+
+    /**
+     * Removes a reference to the specified class loader and closes it
+     * if it was the last one.
+     * Does nothing if classLoader has not been built by this manager.
+     *
+     * @param classLoader a class loader or null
+     */
+    public synchronized void release(ClassLoader classLoader) {
+        if (isManaged(classLoader)) {
+            final ManagedClassLoader managedClassLoader = (ManagedClassLoader) classLoader;
+            assert managedClassLoader.referenceCount >= 1;
+            managedClassLoader.referenceCount--;
+            if (managedClassLoader.referenceCount == 0) {
+                loaders.remove(managedClassLoader.key);
+                try {
+                    managedClassLoader.close();
+                } catch (IOException x) {
+                    LOG.log(Level.WARNING, "Failed to close URL classloader: ", x); //NOI18N
+                }
+                logStatistics("Closed class loader"); //NOI18N
+            }
+        }
+    }
+
+    /**
+     * Returns the number of class loaders which are still referenced.
+     *
+     * @return the number of open class loaders.
+     */
+    public synchronized int getClassLoaderCount() {
+        return loaders.size();
+    }
+
+    /**
+     * Returns the number of classes defined by the open class loaders.
+     *
+     * @return the number of classes loaded from the user library jars.
+     */
+    public synchronized int getLoadedClassCount() {
+        int result = 0;
+        for (ManagedClassLoader l : loaders.values()) {
+            result += l.loadedClassCount.get();
+        }
+        return result;
+    }
+
+    /**
+     * Returns the metaspace currently used by the whole application.
+     * Classes of a closed class loader leave the metaspace once they are
+     * garbage collected.
+     *
+     * @return the used metaspace in bytes or -1 if the JVM does not report it.
+     */
+    public static long getMetaspaceUsage() {
+        long result = -1;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) { //NOI18N
+                result = pool.getUsage().getUsed();
+            }
+        }
+        return result;
+    }
+
+
+    /*
+     * Private
+     */
+
+    private boolean isManaged(ClassLoader classLoader) {
+        assert Thread.holdsLock(this);
+        return (classLoader instanceof ManagedClassLoader)
+                && (loaders.get(((ManagedClassLoader) classLoader).key) == classLoader);
+    }
+
+    private void logStatistics(String event) {
+        if (LOG.isLoggable(Level.FINE)) {
+            LOG.log(Level.FINE, "{0}: {1} class loader(s), {2} class(es), metaspace {3} KB", //NOI18N
+                    new Object[] { event, loaders.size(), getLoadedClassCount(), getMetaspaceUsage() / 1024 });
+        }
+    }
+
+    /*
+     * A jar is identified by its path, size and modification time:
+     * a modified jar requires a new class loader.
+     */
+    private static List<String> makeKey(Collection<Path> paths) {
+        final List<String> result = new ArrayList<>();
+        for (Path p : paths) {
+            final StringBuilder sb = new StringBuilder();
+            sb.append(p.toAbsolutePath());
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(p, BasicFileAttributes.class);
+                if (attributes.isDirectory() == false) {
+                    sb.append('|');
+                    sb.append(attributes.size());
+                    sb.append('|');
+                    sb.append(attributes.lastModifiedTime().toMillis());
+                }
+            } catch (IOException | UnsupportedOperationException x) {
+                // Missing file or module path: identified by its path only
+            }
+            result.add(sb.toString());
+        }
+        return result;
+    }
+
+    private static URL[] makeURLArrayFromPaths(Collection<Path> paths) {
+        final URL[] result = new URL[paths.size()];
+        int i = 0;
+        for (Path p : paths) {
+            try {
+                URL url = p.toUri().toURL();
+                if (url.toString().endsWith(".jar")) { //NOI18N
+                    result[i++] = new URL("jar", "", url + "!/"); // <-- jar:file/path/to/jar!/
+                } else {
+                    result[i++] = url; // <-- file:/path/to/folder/ or jrt:/module.name
+                }
+            } catch (MalformedURLException x) {
+                throw new RuntimeException("Bug in " + ClassLoaderManager.class.getSimpleName(), x); //NOI18N
+            }
+        }
+
+        return result;
+    }
+
+    private static class ManagedClassLoader extends URLClassLoader {
+
+        // Jars are explored by several threads : class loading must not
+        // be serialized on the loader instance
+        static {
+            ClassLoader.registerAsParallelCapable();
+        }
+
+        private final List<String> key;
+        private final AtomicInteger loadedClassCount = new AtomicInteger();
+        private int referenceCount; // Guarded by the manager
+
+        ManagedClassLoader(List<String> key, URL[] urls) {
+            super(urls);
+            this.key = key;
+        }
+
+        @Override
+        protected Class<?> findClass(String name) throws ClassNotFoundException {
+            final Class<?> result = super.findClass(name);
+            loadedClassCount.incrementAndGet();
+            return result;
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2022, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -32,11 +32,15 @@
  */
 package com.oracle.javafx.scenebuilder.kit.library;
 
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 
 /**
@@ -44,12 +48,32 @@ import javafx.collections.ObservableList;
  */
 public abstract class Library {
 
+    // Number of parsed item templates kept by a library
+    static final int TEMPLATE_CACHE_SIZE = 32;
+
     public Library() {
-        // no-op
+        itemsProperty.addListener((ListChangeListener<LibraryItem>) c -> {
+            while (c.next()) {
+                for (LibraryItem item : c.getRemoved()) {
+                    templates.remove(item);
+                }
+            }
+        });
+        // Templates refer to classes of the previous class loader
+        classLoaderProperty.addListener((ov, t, t1) -> templates.clear());
     }
 
     private final ObservableList<LibraryItem> itemsProperty = FXCollections.observableArrayList();
     private final ObjectProperty<ClassLoader> classLoaderProperty = new SimpleObjectProperty<>();
+    private final Map<LibraryItem, FXOMDocument> templates
+            = new LinkedHashMap<LibraryItem, FXOMDocument>(16, 0.75f, true /* accessOrder */) {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<LibraryItem, FXOMDocument> eldest) {
+            return size() > TEMPLATE_CACHE_SIZE;
+        }
+    };
 
     public ObservableList<LibraryItem> getItems() {
         return itemsProperty;
@@ -68,4 +92,18 @@ public abstract class Library {
     }
     
     public abstract Comparator<String> getSectionComparator();
+
+    /*
+     * Package private (see LibraryItem.instantiate())
+     */
+
+    FXOMDocument getTemplate(LibraryItem item) {
+        return templates.get(item);
+    }
+
+    void putTemplate(LibraryItem item, FXOMDocument template) {
+        assert item != null;
+        assert template != null;
+        templates.put(item, template);
+    }
 }
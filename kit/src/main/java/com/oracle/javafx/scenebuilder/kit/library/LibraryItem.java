@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -37,6 +37,9 @@ import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument.FXOMDocumentSwitch;
 
 import java.io.IOException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Objects;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -50,6 +53,7 @@ public class LibraryItem {
     private final String name;
     private final String section;
     private final String fxmlText;
+    private final Path fxmlFile;
     private final URL iconURL;
     private final Library library;
 
@@ -61,6 +65,30 @@ public class LibraryItem {
         this.name = name;
         this.section = section;
         this.fxmlText = fxmlText;
+        this.fxmlFile = null;
+        this.library = library;
+        this.iconURL = iconURL;
+    }
+
+    /**
+     * Creates an item whose FXML text is read from fxmlFile each time it is
+     * needed : the item does not keep it in memory.
+     * 
+     * @param name name of the item
+     * @param section section of the item
+     * @param fxmlFile path of an FXML file (never null)
+     * @param iconURL icon of the item
+     * @param library library of the item
+     */
+    public LibraryItem(String name, String section, Path fxmlFile, URL iconURL, Library library) {
+        assert name != null;
+        assert fxmlFile != null;
+        assert library != null;
+        
+        this.name = name;
+        this.section = section;
+        this.fxmlText = null;
+        this.fxmlFile = fxmlFile;
         this.library = library;
         this.iconURL = iconURL;
     }
@@ -74,7 +102,20 @@ public class LibraryItem {
     }
 
     public String getFxmlText() {
-        return fxmlText;
+        String result;
+        
+        try {
+            result = readFxmlText();
+        } catch(IOException e) {
+            Logger.getLogger(getClass().getName()).log(Level.WARNING, "Failed to read a library item: ", e);
+            result = ""; //NOI18N
+        }
+        
+        return result;
+    }
+
+    public Path getFxmlFile() {
+        return fxmlFile;
     }
 
     public URL getIconURL() {
@@ -85,11 +126,24 @@ public class LibraryItem {
         return library;
     }
     
+    /**
+     * Creates a new document holding the object described by this item.
+     * The FXML text is parsed and normalized on first use only : next
+     * documents are copied from a template kept by the library.
+     * 
+     * @return a new document or null if the item cannot be instantiated.
+     */
     public FXOMDocument instantiate() {
         FXOMDocument result;
         
         try {
-            result = new FXOMDocument(fxmlText, null, library.getClassLoader(), null, FXOMDocumentSwitch.NORMALIZED);
+            FXOMDocument template = library.getTemplate(this);
+            if ((template == null) || (template.getClassLoader() != library.getClassLoader())) {
+                template = new FXOMDocument(readFxmlText(), null, library.getClassLoader(), null,
+                        FXOMDocumentSwitch.NORMALIZED);
+                library.putTemplate(this, template);
+            }
+            result = new FXOMDocument(template);
         } catch(Error|IOException e) {
             Logger.getLogger(getClass().getName()).log(Level.WARNING, "Failed to instantiate a library item: ", e);
             result = null;
@@ -105,6 +159,7 @@ public class LibraryItem {
         hash = 67 * hash + Objects.hashCode(this.name);
         hash = 67 * hash + Objects.hashCode(this.section);
         hash = 67 * hash + Objects.hashCode(this.fxmlText);
+        hash = 67 * hash + Objects.hashCode(this.fxmlFile);
         hash = 67 * hash + Objects.hashCode(this.iconURL);
         hash = 67 * hash + Objects.hashCode(this.library);
         return hash;
@@ -131,6 +186,9 @@ public class LibraryItem {
         if (!Objects.equals(this.fxmlText, other.fxmlText)) {
             return false;
         }
+        if (!Objects.equals(this.fxmlFile, other.fxmlFile)) {
+            return false;
+        }
         if (!Objects.equals(this.iconURL, other.iconURL)) {
             return false;
         }
@@ -152,4 +210,20 @@ public class LibraryItem {
         
         return result.toString();
     }
+    
+    /*
+     * Private
+     */
+    
+    private String readFxmlText() throws IOException {
+        final String result;
+        
+        if (fxmlText != null) {
+            result = fxmlText;
+        } else {
+            result = new String(Files.readAllBytes(fxmlFile), StandardCharsets.UTF_8);
+        }
+        
+        return result;
+    }
 }
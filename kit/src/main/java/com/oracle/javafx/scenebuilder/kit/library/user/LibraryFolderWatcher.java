@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -32,14 +32,9 @@
  */
 package com.oracle.javafx.scenebuilder.kit.library.user;
 
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.LineNumberReader;
 import java.lang.module.ModuleReference;
-import java.net.MalformedURLException;
 import java.net.URL;
-import java.net.URLClassLoader;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -48,22 +43,34 @@ import java.nio.file.StandardWatchEventKinds;
 import java.nio.file.WatchEvent;
 import java.nio.file.WatchKey;
 import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 import com.oracle.javafx.scenebuilder.kit.editor.images.ImageUtils;
 import com.oracle.javafx.scenebuilder.kit.editor.panel.library.LibraryUtil;
 import com.oracle.javafx.scenebuilder.kit.i18n.I18N;
 import com.oracle.javafx.scenebuilder.kit.library.BuiltinLibrary;
+import com.oracle.javafx.scenebuilder.kit.library.ClassLoaderManager;
 import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
+import com.oracle.javafx.scenebuilder.kit.library.util.ExplorationCache;
 import com.oracle.javafx.scenebuilder.kit.library.util.FolderExplorer;
 import com.oracle.javafx.scenebuilder.kit.library.util.JarExplorer;
 import com.oracle.javafx.scenebuilder.kit.library.util.JarReport;
@@ -80,12 +87,27 @@ class LibraryFolderWatcher implements Runnable {
 
     private final UserLibrary library;
 
-    private enum FILE_TYPE {FXML, JAR, FOLDER_MARKER}
+    // File system events closer than this delay (ms) are processed together
+    private static final long EVENT_BURST_DELAY = 500;
+
+    // Upper bound of the number of jars explored in parallel
+    private static final int MAX_EXPLORATION_THREADS = 4;
 
     private static final List<String> JAVAFX_MODULES = Arrays.asList(
             "javafx-base", "javafx-graphics", "javafx-controls",
             "javafx-fxml", "javafx-media", "javafx-web", "javafx-swing");
 
+    // State of the previous exploration (only accessed from the watcher thread)
+    private final Map<Path, FileStamp> fxmlStamps = new HashMap<>();
+    private final Map<Path, LibraryItem> fxmlItems = new HashMap<>();
+    private final Map<Path, FileStamp> jarOrFolderStamps = new HashMap<>();
+    private final Map<Path, JarReport> jarOrFolderReports = new HashMap<>();
+    private final Map<Path, Collection<LibraryItem>> jarOrFolderItems = new HashMap<>();
+    // The same item may come from several jars or fxml files
+    private final Map<LibraryItem, Integer> publishedItemCounts = new HashMap<>();
+    private ClassLoader classLoader;
+    private boolean firstExplorationDone;
+
     public LibraryFolderWatcher(UserLibrary library) {
         this.library = library;
     }
@@ -126,21 +148,8 @@ class LibraryFolderWatcher implements Runnable {
         if (folder != null && folder.toFile().exists()) {
             boolean retry;
             do {
-                try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
-                    for (Path entry: stream) {
-                        if (LibraryUtil.isJarPath(entry)) {
-                            currentJarsOrFolders.add(entry);
-                        } else if (LibraryUtil.isFxmlPath(entry)) {
-                            currentFxmls.add(entry);
-                        } else if (LibraryUtil.isFolderMarkerPath(entry)) {
-                            // open folders marker file: every line should be a single folder entry
-                            // we scan the file and add the path to currentJarsOrFolders
-                            List<Path> folderPaths = LibraryUtil.getFolderPaths(entry);
-                            for (Path f : folderPaths) {
-                                currentJarsOrFolders.add(f);
-                            }
-                        }
-                    }
+                try {
+                    listLibraryFolder(currentFxmls, currentJarsOrFolders);
                     retry = false;
                 } catch(IOException x) {
                     Thread.sleep(2000 /* ms */);
@@ -154,8 +163,7 @@ class LibraryFolderWatcher implements Runnable {
         try {
             library.setExploring(true);
             try {
-                updateLibrary(currentFxmls);
-                exploreAndUpdateLibrary(currentJarsOrFolders);
+                updateLibrary(currentFxmls, currentJarsOrFolders);
             }
             finally {
                 library.setExploring(false);
@@ -192,58 +200,31 @@ class LibraryFolderWatcher implements Runnable {
                             wk = watchService.take();
                             assert wk == watchKey;
 
-                            boolean isDirty = false;
-                            for (WatchEvent<?> e: wk.pollEvents()) {
-                                final WatchEvent.Kind<?> kind = e.kind();
-                                final Object context = e.context();
-
-                                if (kind == StandardWatchEventKinds.ENTRY_CREATE
-                                        || kind == StandardWatchEventKinds.ENTRY_DELETE
-                                        || kind == StandardWatchEventKinds.ENTRY_MODIFY) {
-                                    assert context instanceof Path;
-                                    if (LibraryUtil.isJarPath((Path) context)) {
-                                        if (!hasJarBeenAdded((Path) context)) {
-                                            isDirty = true;
-                                        }
-                                    } else if (LibraryUtil.isFxmlPath((Path)context)){
-                                        isDirty = true;
-                                    } else if (LibraryUtil.isFolderMarkerPath((Path)context)) {
-                                        isDirty = true;
-                                    }
-                                } else {
-                                    assert kind == StandardWatchEventKinds.OVERFLOW;
+                            boolean isDirty = pollLibraryEvents(wk);
+
+                            // Events come in bursts (copy of a large jar, several
+                            // files saved at once...) : we wait for the end of the
+                            // burst before updating the library.
+                            while (isDirty && wk.reset()) {
+                                final WatchKey next = watchService.poll(EVENT_BURST_DELAY, TimeUnit.MILLISECONDS);
+                                if (next == null) {
+                                    break;
                                 }
+                                assert next == watchKey;
+                                pollLibraryEvents(next);
+                                wk = next;
                             }
 
-                            // We reconstruct a full set from scratch as soon as the
-                            // dirty flag is set.
+                            // Only the jars, folders and fxml files which changed
+                            // are explored again (see updateLibrary()).
                             if (isDirty) {
-                                // First put the builtin items in the library
                                 library.setExploring(true);
                                 try {
-                                    library.setItems(BuiltinLibrary.getLibrary().getItems());
-
-                                    // Now attempts to add the maven jars
-                                    List<Path> currentMavenJars = library.getAdditionalJarPaths().get();
-
                                     final Set<Path> fxmls = new HashSet<>();
-                                    fxmls.addAll(getAllFiles(FILE_TYPE.FXML));
-                            	    updateLibrary(fxmls);
-
-                                    final Set<Path> jarsAndFolders = new HashSet<>(currentMavenJars);
-                                    jarsAndFolders.addAll(getAllFiles(FILE_TYPE.JAR));
-
-                                    Set<Path> foldersMarkers = getAllFiles(FILE_TYPE.FOLDER_MARKER);
-                                    for (Path path : foldersMarkers) {
-                                        // open folders marker file: every line should be a single folder entry
-                                        // we scan the file and add the path to currentJarsOrFolders
-                                        List<Path> folderPaths = LibraryUtil.getFolderPaths(path);
-                                        for (Path f : folderPaths) {
-                                            jarsAndFolders.add(f);
-                                        }
-                                    }
-
-                            	    exploreAndUpdateLibrary(jarsAndFolders);
+                                    final Set<Path> jarsAndFolders
+                                            = new HashSet<>(library.getAdditionalJarPaths().get());
+                                    listLibraryFolder(fxmls, jarsAndFolders);
+                                    updateLibrary(fxmls, jarsAndFolders);
 
                                     library.updateExplorationCount(library.getExplorationCount()+1);
                                 }
@@ -273,165 +254,376 @@ class LibraryFolderWatcher implements Runnable {
         }
     }
 
-    private Set<Path> getAllFiles(FILE_TYPE fileType) throws IOException {
-        Set<Path> res = new HashSet<>();
-        final Path folder = Paths.get(library.getPath());
+    /*
+     * Drains the events of the specified key and returns true if one of them
+     * may change the library.
+     */
+    private static boolean pollLibraryEvents(WatchKey wk) {
+        boolean result = false;
+
+        for (WatchEvent<?> e: wk.pollEvents()) {
+            final WatchEvent.Kind<?> kind = e.kind();
+            final Object context = e.context();
 
-        try (DirectoryStream<Path> ds = Files.newDirectoryStream(folder)) {
-            for (Path p : ds) {
-                switch (fileType) {
-                    case FXML:
-                        if (LibraryUtil.isFxmlPath(p)) {
-                            res.add(p);
-                        }
-                        break;
-                    case JAR:
-                        if (LibraryUtil.isJarPath(p)) {
-                            res.add(p);
-                        }
-                        break;
-                    case FOLDER_MARKER:
-                        if (LibraryUtil.isFolderMarkerPath(p)) {
-                            res.add(p);
-                        }
-                        break;
-                    default:
-                        break;
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                // Some events are lost
+                result = true;
+            } else {
+                assert context instanceof Path;
+                final Path path = (Path) context;
+                if (LibraryUtil.isJarPath(path)
+                        || LibraryUtil.isFxmlPath(path)
+                        || LibraryUtil.isFolderMarkerPath(path)) {
+                    result = true;
                 }
             }
         }
 
-        return res;
+        return result;
     }
-    
-    
-    private boolean hasJarBeenAdded(Path context) {
-        boolean hasJarBeenAdded = false;
-        for (JarReport report : library.getJarReports()) {
-            if (report.getJar().getFileName().equals(context)) {
-                hasJarBeenAdded = true;
-                break;
+
+    /*
+     * Lists the user library folder once : fxml files go in fxmls, jars and
+     * folders listed in folder marker files go in jarsOrFolders.
+     */
+    private void listLibraryFolder(Set<Path> fxmls, Set<Path> jarsOrFolders) throws IOException {
+        final Path folder = Paths.get(library.getPath());
+
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(folder)) {
+            for (Path entry : stream) {
+                if (LibraryUtil.isJarPath(entry)) {
+                    jarsOrFolders.add(entry);
+                } else if (LibraryUtil.isFxmlPath(entry)) {
+                    fxmls.add(entry);
+                } else if (LibraryUtil.isFolderMarkerPath(entry)) {
+                    // open folders marker file: every line should be a single folder entry
+                    // we scan the file and add the path to jarsOrFolders
+                    jarsOrFolders.addAll(LibraryUtil.getFolderPaths(entry));
+                }
             }
         }
-        return hasJarBeenAdded;
     }
 
 
-    private void updateLibrary(Collection<Path> paths) throws IOException {
-        final List<LibraryItem> newItems = new ArrayList<>();
+    /*
+     * Brings the library in line with the specified fxml files, jars and
+     * folders. Only what changed since the previous invocation is read or
+     * explored again.
+     */
+    private void updateLibrary(Collection<Path> fxmls, Collection<Path> jarsOrFolders)
+            throws IOException, InterruptedException {
         
-        for (Path path : paths) {
-            newItems.add(makeLibraryItem(path));
+        // Fxml files
+        final Map<Path, FileStamp> newFxmlStamps = new HashMap<>();
+        for (Path fxml : fxmls) {
+            newFxmlStamps.put(fxml, FileStamp.of(fxml));
         }
-
-        library.addItems(newItems);
-        library.updateFxmlFileReports(paths);
+        final List<LibraryItem> obsoleteItems = new ArrayList<>();
+        final List<LibraryItem> newItems = new ArrayList<>();
+        for (Path fxml : new ArrayList<>(fxmlStamps.keySet())) {
+            if (newFxmlStamps.containsKey(fxml) == false) {
+                fxmlStamps.remove(fxml);
+                obsoleteItems.add(fxmlItems.remove(fxml));
+            }
+        }
+        for (Map.Entry<Path, FileStamp> e : newFxmlStamps.entrySet()) {
+            final Path fxml = e.getKey();
+            if (e.getValue().equals(fxmlStamps.get(fxml)) == false) {
+                final LibraryItem item = makeLibraryItem(fxml);
+                final LibraryItem previousItem = fxmlItems.put(fxml, item);
+                if (previousItem != null) {
+                    obsoleteItems.add(previousItem);
+                }
+                fxmlStamps.put(fxml, e.getValue());
+                newItems.add(item);
+            }
+        }
+        unpublishItems(obsoleteItems);
+        publishItems(newItems);
+        library.updateFxmlFileReports(fxmls);
         library.updateExplorationDate(new Date());
+
+        // Jars and folders
+        exploreAndUpdateLibrary(jarsOrFolders);
     }
     
     
-    private LibraryItem makeLibraryItem(Path path) throws IOException {
+    private LibraryItem makeLibraryItem(Path path) {
         final URL iconURL = ImageUtils.getNodeIconURL(null);
         String fileName = path.getFileName().toString();
         String itemName = fileName.substring(0, fileName.indexOf(".fxml")); //NOI18N
-        String fxmlText = ""; //NOI18N
-        StringBuilder buf = new StringBuilder();
-
-        try (LineNumberReader reader = new LineNumberReader(new InputStreamReader(new FileInputStream(path.toFile()), "UTF-8"))) { //NOI18N
-            String line;
-            while ((line = reader.readLine()) != null) {
-                buf.append(line).append("\n"); //NOI18N
-            }
-            
-            fxmlText = buf.toString();
-        }
 
-        final LibraryItem res = new LibraryItem(itemName, UserLibrary.TAG_USER_DEFINED, fxmlText, iconURL, library);
-        return res;
+        // FXML text is read on first use of the item
+        return new LibraryItem(itemName, UserLibrary.TAG_USER_DEFINED, path, iconURL, library);
     }
     
     
-    private void exploreAndUpdateLibrary(Collection<Path> modulesOrJarsOrFolders) throws IOException {
-
-        //  1) we create a classloader
-        //  2) we explore all the modules, jars, and folders
-        //  3) we construct a list of library items
-        //  4) we update the user library with the class loader and items
+    private void exploreAndUpdateLibrary(Collection<Path> modulesOrJarsOrFolders)
+            throws IOException, InterruptedException {
+
+        //  1) we compare with the previous exploration to find what should be explored
+        //  2) if the set of jars changed, we create a classloader and install it in the user library
+        //  3) we explore the modules, jars, and folders in parallel:
+        //     library items of each of them are published as soon as it is explored
+        //  4) we update the user library with the reports (in path order)
         //  5) on startup only, we allow opening files that may/may not rely on the user library
 
         // 1)
-        final ClassLoader classLoader;
-        if (modulesOrJarsOrFolders.isEmpty()) {
-            classLoader = null;
+        final Map<Path, FileStamp> newStamps = new TreeMap<>();
+        for (Path path : modulesOrJarsOrFolders) {
+            if (JAVAFX_MODULES.stream().noneMatch(getFileName(path)::startsWith)) {
+                newStamps.put(path, FileStamp.of(path));
+            }
+        }
+        boolean removedOrModified = false;
+        for (Map.Entry<Path, FileStamp> e : jarOrFolderStamps.entrySet()) {
+            if (e.getValue().equals(newStamps.get(e.getKey())) == false) {
+                removedOrModified = true;
+                if (newStamps.containsKey(e.getKey()) == false) {
+                    jarOrFolderReports.remove(e.getKey());
+                    unpublishItems(jarOrFolderItems.remove(e.getKey()));
+                }
+            }
+        }
+        final List<Path> paths = new ArrayList<>(newStamps.keySet());
+        final List<Path> addedPaths = new ArrayList<>(paths);
+        addedPaths.removeAll(jarOrFolderStamps.keySet());
+        final List<Path> pathsToExplore;
+        if (removedOrModified) {
+            // Remaining classes may depend on what changed: everything is explored
+            // again (the exploration cache keeps unchanged jars cheap).
+            pathsToExplore = paths;
         } else {
-            classLoader = new URLClassLoader(makeURLArrayFromPaths(modulesOrJarsOrFolders));
+            // Added jars may fix the classes which failed to load before
+            pathsToExplore = new ArrayList<>(addedPaths);
+            if (addedPaths.isEmpty() == false) {
+                for (Map.Entry<Path, JarReport> e : jarOrFolderReports.entrySet()) {
+                    if (hasFailures(e.getValue())) {
+                        pathsToExplore.add(e.getKey());
+                    }
+                }
+            }
         }
+        jarOrFolderStamps.clear();
+        jarOrFolderStamps.putAll(newStamps);
 
         // 2)
-        final List<JarReport> moduleOrJarOrFolderReports = new ArrayList<>();
-        for (Path currentModuleOrJarOrFolder : modulesOrJarsOrFolders) {
-            String jarName = currentModuleOrJarOrFolder.getName(currentModuleOrJarOrFolder.getNameCount() - 1).toString();
-            if (JAVAFX_MODULES.stream().anyMatch(jarName::startsWith)) {
-                continue;
+        // Items are published during exploration: class loader must be in place before.
+        // The library owns the reference acquired here and releases it when replaced.
+        if (removedOrModified || (addedPaths.isEmpty() == false)) {
+            if (paths.isEmpty()) {
+                classLoader = null;
+            } else {
+                classLoader = ClassLoaderManager.getDefault().acquire(paths);
             }
+            library.updateClassLoader(classLoader);
+        }
+
+        // 3)
+        if (pathsToExplore.isEmpty() == false) {
+            exploreInParallel(pathsToExplore);
+        }
 
-            JarReport jarReport;
-            String resultText = "";
-            Optional<ModuleReference> moduleReference = LibraryUtil.getModuleReference(currentModuleOrJarOrFolder);
-            if (moduleReference.isPresent()) {
-                LOGGER.info(I18N.getString("log.info.explore.module", moduleReference.get().descriptor()));
-                final ModuleExplorer explorer = new ModuleExplorer(moduleReference.get());
-                jarReport = explorer.explore();
-                resultText = I18N.getString("log.info.explore.module.results", jarName);
+        // 4)
+        if (pathsToExplore.isEmpty() == false || removedOrModified || (firstExplorationDone == false)) {
+            final List<JarReport> moduleOrJarOrFolderReports = new ArrayList<>();
+            for (Path path : paths) {
+                final JarReport jarReport = jarOrFolderReports.get(path);
+                if (jarReport != null) {
+                    moduleOrJarOrFolderReports.add(jarReport);
+                }
             }
-            else if (LibraryUtil.isJarPath(currentModuleOrJarOrFolder)) {
-                LOGGER.info(I18N.getString("log.info.explore.jar", currentModuleOrJarOrFolder));
-                final JarExplorer explorer = new JarExplorer(currentModuleOrJarOrFolder);
-                jarReport = explorer.explore(classLoader);
-                resultText = I18N.getString("log.info.explore.jar.results", jarName);
+            library.updateJarReports(new ArrayList<>(moduleOrJarOrFolderReports));
+            library.getOnFinishedUpdatingJarReports().accept(moduleOrJarOrFolderReports);
+            library.updateExplorationDate(new Date());
+        }
+        
+        // 5
+        // Fix for #45: mark end of first exploration
+        if (firstExplorationDone == false) {
+            firstExplorationDone = true;
+            library.updateFirstExplorationCompleted();
+        }
+    }
+    
+    
+    private void exploreInParallel(List<Path> paths) throws IOException, InterruptedException {
+        final ExplorationCache explorationCache = library.getExplorationCache();
+        final int parallelism = Math.max(1, Math.min(MAX_EXPLORATION_THREADS,
+                Runtime.getRuntime().availableProcessors()));
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        final ClassLoader explorationClassLoader = classLoader;
+        // Jars share the metaspace: its growth is only meaningful for the whole exploration
+        final long explorationStart = System.nanoTime();
+        final long metaspaceAtStart = ClassLoaderManager.getMetaspaceUsage();
+        library.updateExplorationProgress(0.0);
+        try {
+            final CompletionService<JarReport> completionService = new ExecutorCompletionService<>(pool);
+            final Map<Future<JarReport>, Path> futures = new HashMap<>();
+            for (Path path : paths) {
+                futures.put(completionService.submit(
+                        () -> explore(path, explorationClassLoader, explorationCache)), path);
             }
-            else if (Files.isDirectory(currentModuleOrJarOrFolder)) {
-                LOGGER.info(I18N.getString("log.info.explore.folder", currentModuleOrJarOrFolder));
-                final FolderExplorer explorer = new FolderExplorer(currentModuleOrJarOrFolder);
-                jarReport = explorer.explore(classLoader);
-                resultText = I18N.getString("log.info.explore.folder.results", jarName);
-            } else {
-                continue;
+
+            for (int i = 0; i < futures.size(); i++) {
+                final Future<JarReport> future = completionService.take();
+                final Path path = futures.get(future);
+                final JarReport jarReport = getReport(future);
+                unpublishItems(jarOrFolderItems.remove(path));
+                if (jarReport == null) {
+                    jarOrFolderReports.remove(path);
+                } else {
+                    final Collection<LibraryItem> items = makeLibraryItems(jarReport);
+                    jarOrFolderReports.put(path, jarReport);
+                    jarOrFolderItems.put(path, items);
+                    publishItems(items);
+                }
+                library.updateExplorationProgress((i + 1.0) / futures.size());
             }
+        } finally {
+            pool.shutdownNow();
+            library.updateExplorationProgress(1.0);
+        }
 
-            moduleOrJarOrFolderReports.add(jarReport);
+        final long metaspaceAtEnd = ClassLoaderManager.getMetaspaceUsage();
+        final long metaspaceUsage = ((metaspaceAtStart == -1) || (metaspaceAtEnd == -1))
+                ? -1 : Math.max(0, metaspaceAtEnd - metaspaceAtStart);
+        LOGGER.info(I18N.getString("log.info.explore.library.statistics", paths.size(),
+                (System.nanoTime() - explorationStart) / 1_000_000, metaspaceUsage / 1024));
 
-            StringBuilder sb = new StringBuilder(resultText).append("\n");
-            if (jarReport.getEntries().isEmpty()) {
-                sb.append("> ").append(I18N.getString("log.info.explore.no.results"));
+        if (explorationCache != null) {
+            try {
+                explorationCache.save(jarOrFolderStamps.keySet());
+            } catch (IOException x) {
+                LOGGER.log(Level.WARNING, "Unable to save exploration cache", x); //NOI18N
+            }
+        }
+    }
+    
+    
+    /*
+     * Explores a module, a jar or a folder. Invoked from the exploration
+     * pool: returns null if the path is not explorable.
+     */
+    private JarReport explore(Path moduleOrJarOrFolder, ClassLoader classLoader,
+            ExplorationCache explorationCache) throws IOException {
+        final String jarName = getFileName(moduleOrJarOrFolder);
+
+        JarReport jarReport;
+        String resultText = "";
+        Optional<ModuleReference> moduleReference = LibraryUtil.getModuleReference(moduleOrJarOrFolder);
+        if (moduleReference.isPresent()) {
+            LOGGER.info(I18N.getString("log.info.explore.module", moduleReference.get().descriptor()));
+            final ModuleExplorer explorer = new ModuleExplorer(moduleReference.get());
+            jarReport = explorer.explore();
+            resultText = I18N.getString("log.info.explore.module.results", jarName);
+        }
+        else if (LibraryUtil.isJarPath(moduleOrJarOrFolder)) {
+            LOGGER.info(I18N.getString("log.info.explore.jar", moduleOrJarOrFolder));
+            jarReport = (explorationCache == null) ? null
+                    : explorationCache.restore(moduleOrJarOrFolder, classLoader);
+            if (jarReport != null) {
+                LOGGER.info(I18N.getString("log.info.explore.cached", jarName));
             } else {
-                jarReport.getEntries().forEach(entry -> sb.append("> ").append(entry.toString()).append("\n"));
+                final JarExplorer explorer = new JarExplorer(moduleOrJarOrFolder);
+                jarReport = explorer.explore(classLoader);
+                if (explorationCache != null) {
+                    explorationCache.record(jarReport);
+                }
             }
-            LOGGER.info(sb.toString());
+            resultText = I18N.getString("log.info.explore.jar.results", jarName);
+        }
+        else if (Files.isDirectory(moduleOrJarOrFolder)) {
+            LOGGER.info(I18N.getString("log.info.explore.folder", moduleOrJarOrFolder));
+            final FolderExplorer explorer = new FolderExplorer(moduleOrJarOrFolder);
+            jarReport = explorer.explore(classLoader);
+            resultText = I18N.getString("log.info.explore.folder.results", jarName);
+        } else {
+            return null;
+        }
 
-            LOGGER.info(I18N.getString("log.info.explore.end", currentModuleOrJarOrFolder));
+        StringBuilder sb = new StringBuilder(resultText).append("\n");
+        if (jarReport.getEntries().isEmpty()) {
+            sb.append("> ").append(I18N.getString("log.info.explore.no.results"));
+        } else {
+            jarReport.getEntries().forEach(entry -> sb.append("> ").append(entry.toString()).append("\n"));
         }
+        LOGGER.info(sb.toString());
+        LOGGER.info(I18N.getString("log.info.explore.statistics",
+                jarReport.getClassFileCount(), jarReport.getLoadedClassCount(),
+                jarReport.getExplorationTime()));
 
-        // 3)
+        LOGGER.info(I18N.getString("log.info.explore.end", moduleOrJarOrFolder));
+
+        return jarReport;
+    }
+    
+    
+    private void publishItems(Collection<LibraryItem> items) {
         final List<LibraryItem> newItems = new ArrayList<>();
-        for (JarReport moduleOrJarOrFolderReport : moduleOrJarOrFolderReports) {
-            newItems.addAll(makeLibraryItems(moduleOrJarOrFolderReport));
+        for (LibraryItem item : items) {
+            if (publishedItemCounts.merge(item, 1, Integer::sum) == 1) {
+                newItems.add(item);
+            }
+        }
+        if (newItems.isEmpty() == false) {
+            library.addItems(newItems);
+        }
+    }
+    
+    
+    private void unpublishItems(Collection<LibraryItem> items) {
+        if (items == null) {
+            return;
+        }
+        final List<LibraryItem> obsoleteItems = new ArrayList<>();
+        for (LibraryItem item : items) {
+            final Integer count = publishedItemCounts.get(item);
+            assert count != null;
+            if (count == null || count == 1) {
+                publishedItemCounts.remove(item);
+                obsoleteItems.add(item);
+            } else {
+                publishedItemCounts.put(item, count - 1);
+            }
+        }
+        if (obsoleteItems.isEmpty() == false) {
+            library.removeItems(obsoleteItems);
+        }
+    }
+    
+    
+    private static boolean hasFailures(JarReport jarReport) {
+        for (JarReportEntry e : jarReport.getEntries()) {
+            if ((e.getStatus() == JarReportEntry.Status.CANNOT_LOAD)
+                    || (e.getStatus() == JarReportEntry.Status.CANNOT_INSTANTIATE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    
+    private static JarReport getReport(Future<JarReport> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException x) {
+            final Throwable cause = x.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IOException(cause);
+            }
         }
-
-        // 4)
-        library.updateClassLoader(classLoader);
-        // Remove duplicated items
-        library.addItems(newItems
-                .stream()
-                .distinct()
-                .collect(Collectors.toList()));
-        library.updateJarReports(new ArrayList<>(moduleOrJarOrFolderReports));
-        library.getOnFinishedUpdatingJarReports().accept(moduleOrJarOrFolderReports);
-        library.updateExplorationDate(new Date());
-        
-        // 5
-        // Fix for #45: mark end of first exploration
-        library.updateFirstExplorationCompleted();
+    }
+    
+    
+    private static String getFileName(Path path) {
+        return path.getName(path.getNameCount() - 1).toString();
     }
     
     
@@ -458,22 +650,55 @@ class LibraryFolderWatcher implements Runnable {
     }
     
     
-    private URL[] makeURLArrayFromPaths(Collection<Path> paths) {
-        final URL[] result = new URL[paths.size()];
-        int i = 0;
-        for (Path p : paths) {
+    /*
+     * Size and modification time of a file: used to detect that a file
+     * changed since the previous exploration. Folders always get the same
+     * stamp: their content is explored again only when the class loader
+     * is rebuilt.
+     */
+    private static final class FileStamp {
+        
+        private static final FileStamp FOLDER = new FileStamp(-1, -1);
+        private static final FileStamp MISSING = new FileStamp(-2, -2);
+        
+        private final long size;
+        private final long lastModified;
+        
+        private FileStamp(long size, long lastModified) {
+            this.size = size;
+            this.lastModified = lastModified;
+        }
+        
+        static FileStamp of(Path path) {
+            FileStamp result;
             try {
-                URL url = p.toUri().toURL();
-                if (url.toString().endsWith(".jar")) {
-                    result[i++] = new URL("jar", "", url + "!/"); // <-- jar:file/path/to/jar!/
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                if (attributes.isDirectory()) {
+                    result = FOLDER;
                 } else {
-                    result[i++] = url; // <-- file:/path/to/folder/ or jrt:/module.name
+                    result = new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis());
                 }
-            } catch (MalformedURLException x) {
-                throw new RuntimeException("Bug in " + getClass().getSimpleName(), x); //NOI18N
+            } catch (IOException x) {
+                result = MISSING;
             }
+            return result;
         }
         
-        return result;
+        @Override
+        public int hashCode() {
+            return Long.hashCode(size) * 31 + Long.hashCode(lastModified);
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof FileStamp)) {
+                return false;
+            }
+            final FileStamp other = (FileStamp) obj;
+            return (size == other.size) && (lastModified == other.lastModified);
+        }
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -39,7 +39,6 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.LineNumberReader;
 import java.io.PrintWriter;
-import java.net.URLClassLoader;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -56,16 +55,20 @@ import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.oracle.javafx.scenebuilder.kit.library.BuiltinSectionComparator;
+import com.oracle.javafx.scenebuilder.kit.library.ClassLoaderManager;
 import com.oracle.javafx.scenebuilder.kit.library.Library;
 import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
+import com.oracle.javafx.scenebuilder.kit.library.util.ExplorationCache;
 import com.oracle.javafx.scenebuilder.kit.library.util.JarReport;
 
 import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.ReadOnlyBooleanWrapper;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.ReadOnlyObjectProperty;
 import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleDoubleProperty;
 import javafx.beans.property.SimpleIntegerProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
@@ -91,6 +94,7 @@ public class UserLibrary extends Library {
     private final ObservableList<Path> previousFxmlFileReports = FXCollections.observableArrayList();
     private final SimpleIntegerProperty explorationCountProperty = new SimpleIntegerProperty();
     private final SimpleObjectProperty<Date> explorationDateProperty = new SimpleObjectProperty<>();
+    private final SimpleDoubleProperty explorationProgressProperty = new SimpleDoubleProperty(1.0);
     private final ReadOnlyBooleanWrapper firstExplorationCompleted = new ReadOnlyBooleanWrapper(false);
     private SimpleBooleanProperty exploring = new SimpleBooleanProperty();
 
@@ -106,6 +110,7 @@ public class UserLibrary extends Library {
     private Supplier<List<Path>> additionalJarPaths;
     private Supplier<List<String>> additionalFilter;
     private Consumer<List<JarReport>> onFinishedUpdatingJarReports;
+    private ExplorationCache explorationCache;
 
     /*
      * Public
@@ -129,6 +134,17 @@ public class UserLibrary extends Library {
     public void setAdditionalFilter(Supplier<List<String>> additionalFilter) {
         this.additionalFilter = additionalFilter;
     }
+
+    /**
+     * Sets the file where jar explorations are cached between sessions.
+     * Jars which did not change since the previous exploration are then
+     * neither explored nor trial instantiated again.
+     *
+     * @param cacheFile path of the cache file (null disables the cache)
+     */
+    public synchronized void setExplorationCacheFile(Path cacheFile) {
+        this.explorationCache = (cacheFile == null) ? null : new ExplorationCache(cacheFile);
+    }
     
     public String getPath() {
         return path;
@@ -212,6 +228,17 @@ public class UserLibrary extends Library {
     public ReadOnlyObjectProperty<Date> explorationDateProperty() {
         return explorationDateProperty;
     }
+
+    /**
+     * Returns the property holding the fraction of jars, modules and folders
+     * already explored. It goes from 0 to 1 during each exploration
+     * (each step is one explored jar) and remains 1 otherwise.
+     *
+     * @return the property holding the exploration progress.
+     */
+    public ReadOnlyDoubleProperty explorationProgressProperty() {
+        return explorationProgressProperty;
+    }
     
     public void setFilter(List<String> classnames) throws FileNotFoundException, IOException {
 //        if (classnames != null && classnames.size() > 0) { // empty classnames means "no filter", so we need to clear filters.txt file
@@ -309,6 +336,10 @@ public class UserLibrary extends Library {
         return getPath() + File.separator + filterFileName;
     }
     
+    synchronized ExplorationCache getExplorationCache() {
+        return explorationCache;
+    }
+    
     void updateJarReports(Collection<JarReport> newJarReports) {
         previousJarReports.setAll(jarReports);
         jarReports.setAll(newJarReports);
@@ -342,6 +373,14 @@ public class UserLibrary extends Library {
         }
     }
     
+    void removeItems(Collection<LibraryItem> items) {
+        if (Platform.isFxApplicationThread()) {
+            getItems().removeAll(items);
+        } else {
+            Platform.runLater(() -> getItems().removeAll(items));
+        }
+    }
+    
     void updateClassLoader(ClassLoader newClassLoader) {
         if (Platform.isFxApplicationThread()) {
             changeClassLoader(newClassLoader);
@@ -366,6 +405,14 @@ public class UserLibrary extends Library {
         }
     }
     
+    void updateExplorationProgress(double progress) {
+        if (Platform.isFxApplicationThread()) {
+            explorationProgressProperty.set(progress);
+        } else {
+            Platform.runLater(() -> explorationProgressProperty.set(progress));
+        }
+    }
+    
     void updateFirstExplorationCompleted() {
         if (Platform.isFxApplicationThread()) {
             firstExplorationCompleted.set(true);
@@ -402,22 +449,13 @@ public class UserLibrary extends Library {
         assert Platform.isFxApplicationThread();
         
         /*
-         * Before changing to the new class loader,
-         * we invoke URLClassLoader.close() on the existing one
-         * so that it releases its associated jar files.
+         * Documents listening to the class loader move to the new one first.
+         * Then the library releases the existing one: it is closed (and
+         * releases its associated jar files) if no document still uses it.
          */
         final ClassLoader classLoader = getClassLoader();
-        if (classLoader instanceof URLClassLoader) {
-            final URLClassLoader urlClassLoader = (URLClassLoader) classLoader;
-            try {
-                urlClassLoader.close();
-            } catch(IOException e) {
-                Logger.getLogger(getClass().getName()).log(Level.WARNING, "Failed to close URL classloader: ", e);
-            }
-        }
-        
-        // Now moves to the new class loader
         setClassLoader(newClassLoader);
+        ClassLoaderManager.getDefault().release(classLoader);
     }
     
     /*
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the access flags, the name and the super class name of a class file
+ * without defining the class. Only the constant pool, the few fields which
+ * follow it and the InnerClasses attribute are decoded : fields and methods
+ * are skipped.
+ */
+class ClassFileHeader {
+
+    static final int ACC_PUBLIC = 0x0001;
+    static final int ACC_INTERFACE = 0x0200;
+    static final int ACC_ABSTRACT = 0x0400;
+    static final int ACC_ANNOTATION = 0x2000;
+    static final int ACC_ENUM = 0x4000;
+
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final String INNER_CLASSES = "InnerClasses"; //NOI18N
+
+    private final int accessFlags;
+    private final String className;
+    private final String superName;
+    private final boolean nested;
+
+    private ClassFileHeader(int accessFlags, String className, String superName, boolean nested) {
+        this.accessFlags = accessFlags;
+        this.className = className;
+        this.superName = superName;
+        this.nested = nested;
+    }
+
+    public static ClassFileHeader read(byte[] bytes) throws IOException {
+        return read(new ByteArrayInputStream(bytes));
+    }
+
+    public static ClassFileHeader read(InputStream is) throws IOException {
+        final DataInputStream dis = new DataInputStream(is);
+
+        if (dis.readInt() != MAGIC) {
+            throw new IOException("Not a class file"); //NOI18N
+        }
+        dis.readUnsignedShort(); // minor_version
+        dis.readUnsignedShort(); // major_version
+
+        final int constantPoolCount = dis.readUnsignedShort();
+        final String[] utf8s = new String[constantPoolCount];
+        final int[] classNameIndexes = new int[constantPoolCount];
+        for (int i = 1; i < constantPoolCount; i++) {
+            final int tag = dis.readUnsignedByte();
+            switch (tag) {
+                case 1: // Utf8
+                    utf8s[i] = dis.readUTF();
+                    break;
+                case 7: // Class
+                    classNameIndexes[i] = dis.readUnsignedShort();
+                    break;
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    skip(dis, 2);
+                    break;
+                case 15: // MethodHandle
+                    skip(dis, 3);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    skip(dis, 4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    skip(dis, 8);
+                    i++; // Takes two entries
+                    break;
+                default:
+                    throw new IOException("Unexpected constant pool tag " + tag); //NOI18N
+            }
+        }
+
+        final int accessFlags = dis.readUnsignedShort();
+        final int classIndex = dis.readUnsignedShort();
+        final String className = getClassName(classIndex, utf8s, classNameIndexes);
+        final int superIndex = dis.readUnsignedShort();
+        final String superName = (superIndex == 0) ? null : getClassName(superIndex, utf8s, classNameIndexes);
+        if (className == null) {
+            throw new IOException("Malformed class file"); //NOI18N
+        }
+
+        skip(dis, 2 * dis.readUnsignedShort()); // interfaces
+        skipMembers(dis); // fields
+        skipMembers(dis); // methods
+        final boolean nested = readNested(dis, classIndex, utf8s);
+
+        return new ClassFileHeader(accessFlags, className, superName, nested);
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    /**
+     * @return the binary name of the class (ie package.Outer$Inner).
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * @return the binary name of the super class or null for java.lang.Object.
+     */
+    public String getSuperName() {
+        return superName;
+    }
+
+    /**
+     * Returns true if this class is public and neither abstract nor an
+     * interface, an annotation or an enum.
+     *
+     * @return true if this class may be instantiated from FXML.
+     */
+    public boolean isPublicConcreteClass() {
+        final int excluded = ACC_INTERFACE | ACC_ABSTRACT | ACC_ANNOTATION | ACC_ENUM;
+        return ((accessFlags & ACC_PUBLIC) != 0) && ((accessFlags & excluded) == 0);
+    }
+
+    /**
+     * Returns true if the InnerClasses attribute describes this class itself:
+     * it is a member, local or anonymous class. A '$' in the binary name is
+     * not enough to decide since top level classes may contain one.
+     *
+     * @return true if this class is nested in another class.
+     */
+    public boolean isNested() {
+        return nested;
+    }
+
+
+    /*
+     * Private
+     */
+
+    private static String getClassName(int classIndex, String[] utf8s, int[] classNameIndexes) throws IOException {
+        if ((classIndex <= 0) || (classIndex >= classNameIndexes.length)) {
+            throw new IOException("Malformed class file"); //NOI18N
+        }
+        final String internalName = utf8s[classNameIndexes[classIndex]];
+        return (internalName == null) ? null : internalName.replace('/', '.');
+    }
+
+    private static void skipMembers(DataInputStream dis) throws IOException {
+        final int memberCount = dis.readUnsignedShort();
+        for (int i = 0; i < memberCount; i++) {
+            skip(dis, 6); // access_flags, name_index, descriptor_index
+            skipAttributes(dis);
+        }
+    }
+
+    private static void skipAttributes(DataInputStream dis) throws IOException {
+        final int attributeCount = dis.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            skip(dis, 2); // attribute_name_index
+            skip(dis, dis.readInt());
+        }
+    }
+
+    private static boolean readNested(DataInputStream dis, int classIndex, String[] utf8s) throws IOException {
+        boolean result = false;
+
+        final int attributeCount = dis.readUnsignedShort();
+        for (int i = 0; (i < attributeCount) && (result == false); i++) {
+            final int nameIndex = dis.readUnsignedShort();
+            final int length = dis.readInt();
+            if ((nameIndex < utf8s.length) && INNER_CLASSES.equals(utf8s[nameIndex])) {
+                final int classCount = dis.readUnsignedShort();
+                for (int j = 0; j < classCount; j++) {
+                    // inner_class_info_index, outer_class_info_index, inner_name_index, flags
+                    result |= (dis.readUnsignedShort() == classIndex);
+                    skip(dis, 6);
+                }
+            } else {
+                skip(dis, length);
+            }
+        }
+
+        return result;
+    }
+
+    private static void skip(DataInputStream dis, int count) throws IOException {
+        if (dis.skipBytes(count) != count) {
+            throw new EOFException();
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * On-disk cache of jar explorations.
+ *
+ * A jar is identified by its path, its size, its modification time and the
+ * SHA-256 hash of its content. When size and time are unchanged, the jar is
+ * not even read; when only the time changed (a jar downloaded again for
+ * example), the hash decides.
+ *
+ * Only explorations where every class was instantiated successfully are
+ * cached: failures may depend on the other jars of the library and are
+ * re-explored each time. Cached classes are loaded again on restore but
+ * are not trial instantiated: the instantiation times measured during the
+ * exploration are restored instead.
+ */
+public class ExplorationCache {
+
+    private static final int MAGIC = 0x53424543; // SBEC
+    private static final int VERSION = 2;
+
+    private final Path cacheFile;
+    private Map<String, CachedJar> previousJars;
+    private final Map<String, CachedJar> currentJars = new HashMap<>();
+    private final Set<String> droppedJars = new HashSet<>();
+
+    public ExplorationCache(Path cacheFile) {
+        assert cacheFile != null;
+        this.cacheFile = cacheFile;
+    }
+
+    public Path getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Returns the cached report of the specified jar or null if the jar
+     * changed since it has been cached or if one of its classes cannot
+     * be loaded any more.
+     *
+     * @param jar path of a jar file
+     * @param classLoader class loader used to load the cached classes
+     * @return a jar report or null
+     */
+    public JarReport restore(Path jar, ClassLoader classLoader) {
+        assert jar != null;
+
+        final long startTime = System.nanoTime();
+        CachedJar cachedJar;
+        synchronized (this) {
+            cachedJar = getPreviousJars().get(jar.toString());
+        }
+        if (cachedJar != null) {
+            try {
+                cachedJar = validate(cachedJar, jar);
+            } catch (IOException x) {
+                cachedJar = null;
+            }
+        }
+
+        JarReport result;
+        if (cachedJar == null) {
+            result = null;
+        } else {
+            result = new JarReport(jar);
+            for (int i = 0; (result != null) && (i < cachedJar.classNames.size()); i++) {
+                final String entryName = cachedJar.entryNames.get(i);
+                final String className = cachedJar.classNames.get(i);
+                final long instantiationTime = cachedJar.instantiationTimes.get(i);
+                try {
+                    final Class<?> klass = classLoader.loadClass(className);
+                    result.getEntries().add(new JarReportEntry(entryName, JarReportEntry.Status.OK,
+                            null, klass, className, instantiationTime));
+                } catch (ClassNotFoundException | LinkageError x) {
+                    result = null;
+                }
+            }
+        }
+
+        if (result != null) {
+            final long explorationTime = (System.nanoTime() - startTime) / 1_000_000;
+            result.setStatistics(explorationTime, 0, result.getEntries().size());
+            synchronized (this) {
+                currentJars.put(jar.toString(), cachedJar);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Records the report of a freshly explored jar. Reports holding failed
+     * entries are not cached.
+     *
+     * @param report a report produced by JarExplorer
+     */
+    public void record(JarReport report) {
+        assert report != null;
+        assert report.getJar() != null;
+
+        final Path jar = report.getJar();
+        final List<String> entryNames = new ArrayList<>();
+        final List<String> classNames = new ArrayList<>();
+        final List<Long> instantiationTimes = new ArrayList<>();
+        boolean cacheable = true;
+        for (JarReportEntry entry : report.getEntries()) {
+            if (entry.getStatus() == JarReportEntry.Status.OK) {
+                entryNames.add(entry.getName());
+                classNames.add(entry.getKlass().getName());
+                instantiationTimes.add(entry.getInstantiationTime());
+            } else if (entry.getStatus() != JarReportEntry.Status.IGNORED) {
+                cacheable = false;
+            }
+        }
+
+        CachedJar cachedJar = null;
+        if (cacheable) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+                cachedJar = new CachedJar(attributes.size(), attributes.lastModifiedTime().toMillis(),
+                        computeHash(jar), entryNames, classNames, instantiationTimes);
+            } catch (IOException x) {
+                // Jar is not cached
+            }
+        }
+
+        // Jars may be explored in parallel : hashing is done outside the lock
+        synchronized (this) {
+            if (cachedJar == null) {
+                currentJars.remove(jar.toString());
+                droppedJars.add(jar.toString());
+            } else {
+                currentJars.put(jar.toString(), cachedJar);
+                droppedJars.remove(jar.toString());
+            }
+        }
+    }
+
+    /**
+     * Writes the cache file. Jars which are not part of the library any more
+     * are dropped; jars which have not been explored since the last save keep
+     * their previous cache entry.
+     *
+     * @param libraryJars the jars currently in the library
+     * @throws IOException if the cache file cannot be written
+     */
+    public synchronized void save(Collection<Path> libraryJars) throws IOException {
+        final Map<String, CachedJar> savedJars = new HashMap<>();
+        for (Path jar : libraryJars) {
+            final String key = jar.toString();
+            final CachedJar cachedJar;
+            if (currentJars.containsKey(key)) {
+                cachedJar = currentJars.get(key);
+            } else if (droppedJars.contains(key)) {
+                cachedJar = null;
+            } else {
+                cachedJar = getPreviousJars().get(key);
+            }
+            if (cachedJar != null) {
+                savedJars.put(key, cachedJar);
+            }
+        }
+
+
+        final Path tmpFile = cacheFile.resolveSibling(cacheFile.getFileName() + ".tmp"); //NOI18N
+        Files.createDirectories(cacheFile.toAbsolutePath().getParent());
+        try (DataOutputStream dos = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(tmpFile)))) {
+            dos.writeInt(MAGIC);
+            dos.writeInt(VERSION);
+            dos.writeInt(savedJars.size());
+            for (Map.Entry<String, CachedJar> e : savedJars.entrySet()) {
+                final CachedJar cachedJar = e.getValue();
+                dos.writeUTF(e.getKey());
+                dos.writeLong(cachedJar.size);
+                dos.writeLong(cachedJar.lastModified);
+                dos.writeInt(cachedJar.hash.length);
+                dos.write(cachedJar.hash);
+                dos.writeInt(cachedJar.classNames.size());
+                for (int i = 0; i < cachedJar.classNames.size(); i++) {
+                    dos.writeUTF(cachedJar.entryNames.get(i));
+                    dos.writeUTF(cachedJar.classNames.get(i));
+                    dos.writeLong(cachedJar.instantiationTimes.get(i));
+                }
+            }
+        }
+        Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+
+        previousJars = savedJars;
+        currentJars.clear();
+        droppedJars.clear();
+    }
+
+
+    /*
+     * Private
+     */
+
+    private Map<String, CachedJar> getPreviousJars() {
+        if (previousJars == null) {
+            try {
+                previousJars = load();
+            } catch (IOException x) {
+                // Missing or corrupted cache : everything is explored again
+                previousJars = new HashMap<>();
+            }
+        }
+        return previousJars;
+    }
+
+    private Map<String, CachedJar> load() throws IOException {
+        final Map<String, CachedJar> result = new HashMap<>();
+
+        try (DataInputStream dis = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+            if ((dis.readInt() != MAGIC) || (dis.readInt() != VERSION)) {
+                throw new IOException("Unexpected exploration cache format"); //NOI18N
+            }
+            final int jarCount = dis.readInt();
+            for (int j = 0; j < jarCount; j++) {
+                final String key = dis.readUTF();
+                final long size = dis.readLong();
+                final long lastModified = dis.readLong();
+                final byte[] hash = new byte[dis.readInt()];
+                dis.readFully(hash);
+                final int entryCount = dis.readInt();
+                final List<String> entryNames = new ArrayList<>();
+                final List<String> classNames = new ArrayList<>();
+                final List<Long> instantiationTimes = new ArrayList<>();
+                for (int i = 0; i < entryCount; i++) {
+                    entryNames.add(dis.readUTF());
+                    classNames.add(dis.readUTF());
+                    instantiationTimes.add(dis.readLong());
+                }
+                result.put(key, new CachedJar(size, lastModified, hash, entryNames, classNames, instantiationTimes));
+            }
+        } catch (NoSuchFileException x) {
+            // No cache yet
+        }
+
+        return result;
+    }
+
+    private static CachedJar validate(CachedJar cachedJar, Path jar) throws IOException {
+        final CachedJar result;
+
+        final BasicFileAttributes attributes = Files.readAttributes(jar, BasicFileAttributes.class);
+        final long lastModified = attributes.lastModifiedTime().toMillis();
+        if (attributes.size() != cachedJar.size) {
+            result = null;
+        } else if (lastModified == cachedJar.lastModified) {
+            result = cachedJar;
+        } else if (Arrays.equals(computeHash(jar), cachedJar.hash)) {
+            result = new CachedJar(cachedJar.size, lastModified, cachedJar.hash,
+                    cachedJar.entryNames, cachedJar.classNames, cachedJar.instantiationTimes);
+        } else {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private static byte[] computeHash(Path jar) throws IOException {
+        try (InputStream is = Files.newInputStream(jar)) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256"); //NOI18N
+            final byte[] buffer = new byte[64 * 1024];
+            int count;
+            while ((count = is.read(buffer)) != -1) {
+                digest.update(buffer, 0, count);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException x) {
+            throw new IOException(x);
+        }
+    }
+
+    private static class CachedJar {
+        final long size;
+        final long lastModified;
+        final byte[] hash;
+        final List<String> entryNames;
+        final List<String> classNames;
+        final List<Long> instantiationTimes;
+
+        CachedJar(long size, long lastModified, byte[] hash, List<String> entryNames, List<String> classNames,
+                List<Long> instantiationTimes) {
+            assert entryNames.size() == classNames.size();
+            assert instantiationTimes.size() == classNames.size();
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+            this.entryNames = Collections.unmodifiableList(entryNames);
+            this.classNames = Collections.unmodifiableList(classNames);
+            this.instantiationTimes = Collections.unmodifiableList(instantiationTimes);
+        }
+    }
+}
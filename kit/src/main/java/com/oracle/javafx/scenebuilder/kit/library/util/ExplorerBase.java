@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2020, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2020, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -39,11 +39,59 @@ import javafx.scene.Node;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.lang.reflect.Modifier;
 import java.nio.charset.Charset;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
 
 abstract class ExplorerBase {
 
+    private static final Logger LOG = Logger.getLogger(ExplorerBase.class.getName());
+
+    // Trial instantiations lasting longer are abandoned (in ms)
+    static final long DEFAULT_INSTANTIATION_TIMEOUT = 5000;
+
+    // A constructor which never returns cannot be stopped: its daemon thread
+    // is abandoned and a new one is created for the next trials. Once that
+    // many abandoned constructors are still running, no more trials are run
+    // and the classes are reported as CANNOT_INSTANTIATE (explored again later).
+    static final int MAX_ABANDONED_INSTANTIATIONS = 4;
+    private static final ExecutorService INSTANTIATION_EXECUTOR = Executors.newCachedThreadPool(r -> {
+        final Thread result = new Thread(r, "Trial instantiation"); //NOI18N
+        result.setDaemon(true);
+        return result;
+    });
+
+    // Jars are explored by several threads but third party controls are not
+    // expected to be thread safe (static state, lazy singletons...) : only
+    // one trial instantiation runs at a time, as with a sequential exploration.
+    // Abandoned constructors still running are the exception : the lock is
+    // released at timeout, so each entry reports how many were running.
+    private static final Lock INSTANTIATION_LOCK = new ReentrantLock();
+    private static final AtomicInteger ABANDONED_INSTANTIATION_COUNT = new AtomicInteger();
+
+    // States of a trial instantiation
+    private static final int RUNNING = 0;
+    private static final int FINISHED = 1;
+    private static final int ABANDONED = 2;
+
+    private long instantiationTimeout = DEFAULT_INSTANTIATION_TIMEOUT;
+    private NodeClassFilter nodeClassFilter;
+    private ClassLoader nodeClassFilterLoader;
+    private long explorationStart;
+    // Entries of a large jar may be explored by several threads
+    private final AtomicInteger classFileCount = new AtomicInteger();
+    private final AtomicInteger loadedClassCount = new AtomicInteger();
+
     static Object instantiateWithFXMLLoader(Class<?> klass, ClassLoader classLoader) throws IOException {
         Object result;
 
@@ -63,6 +111,47 @@ abstract class ExplorerBase {
         return result;
     }
 
+    /*
+     * Same as instantiateWithFXMLLoader() but runs on a separate thread and
+     * gives up after the instantiation timeout. Calls from several exploring
+     * threads are serialized.
+     */
+    Object instantiateWithTimeout(Class<?> klass, ClassLoader classLoader) throws IOException, TimeoutException {
+        try {
+            INSTANTIATION_LOCK.lockInterruptibly();
+        } catch (InterruptedException x) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Exploration interrupted"); //NOI18N
+        }
+        try {
+            final int abandonedCount = ABANDONED_INSTANTIATION_COUNT.get();
+            if (abandonedCount >= MAX_ABANDONED_INSTANTIATIONS) {
+                throw new IOException(klass.getName() + " not instantiated: " //NOI18N
+                        + abandonedCount + " timed out instantiations are still running"); //NOI18N
+            }
+            return instantiateOnExecutor(klass, classLoader);
+        } finally {
+            INSTANTIATION_LOCK.unlock();
+        }
+    }
+
+    /*
+     * Returns the number of timed out instantiations whose constructor
+     * is still running.
+     */
+    static int getAbandonedInstantiationCount() {
+        return ABANDONED_INSTANTIATION_COUNT.get();
+    }
+
+    long getInstantiationTimeout() {
+        return instantiationTimeout;
+    }
+
+    void setInstantiationTimeout(long instantiationTimeout) {
+        assert instantiationTimeout > 0;
+        this.instantiationTimeout = instantiationTimeout;
+    }
+
     String makeClassName(String entryName, String separator) {
         final String result;
 
@@ -79,10 +168,23 @@ abstract class ExplorerBase {
         return result;
     }
 
+    void beginExploration() {
+        explorationStart = System.nanoTime();
+        classFileCount.set(0);
+        loadedClassCount.set(0);
+    }
+
+    void endExploration(JarReport report) {
+        final long explorationTime = (System.nanoTime() - explorationStart) / 1_000_000;
+        report.setStatistics(explorationTime, classFileCount.get(), loadedClassCount.get());
+    }
+
     JarReportEntry exploreEntry(String entryName, ClassLoader classLoader, String className) {
         JarReportEntry.Status status;
         Throwable entryException;
         Class<?> entryClass = null;
+        long instantiationTime = -1;
+        int abandonedInstantiationCount = 0;
 
         // Filtering out what starts with com.javafx. is bound to DTL-6378.
         if (className == null || className.startsWith("java.") //NOI18N
@@ -94,7 +196,14 @@ abstract class ExplorerBase {
             status = JarReportEntry.Status.IGNORED;
             entryClass = null;
             entryException = null;
+        } else if (isNodeCandidate(classLoader, className) == false) {
+            // Class file header shows that it is not a public concrete Node:
+            // we don't even load it.
+            status = JarReportEntry.Status.IGNORED;
+            entryClass = null;
+            entryException = null;
         } else {
+            loadedClassCount.incrementAndGet();
             try {
                 // Some reading explaining why using Class.forName is not appropriate:
                 // http://blog.osgi.org/2011/05/what-you-should-know-about-class.html
@@ -110,9 +219,17 @@ abstract class ExplorerBase {
                     entryClass = null;
                     entryException = null;
                 } else {
-                    instantiateWithFXMLLoader(entryClass, classLoader);
-                    status = JarReportEntry.Status.OK;
-                    entryException = null;
+                    final long instantiationStart = System.nanoTime();
+                    abandonedInstantiationCount = ABANDONED_INSTANTIATION_COUNT.get();
+                    try {
+                        instantiateWithTimeout(entryClass, classLoader);
+                        status = JarReportEntry.Status.OK;
+                        entryException = null;
+                    } catch (TimeoutException x) {
+                        status = JarReportEntry.Status.TIMED_OUT;
+                        entryException = x;
+                    }
+                    instantiationTime = (System.nanoTime() - instantiationStart) / 1_000_000;
                 }
             } catch (RuntimeException | IOException x) {
                 status = JarReportEntry.Status.CANNOT_INSTANTIATE;
@@ -124,6 +241,75 @@ abstract class ExplorerBase {
             }
         }
 
-        return new JarReportEntry(entryName, status, entryException, entryClass, className);
+        return new JarReportEntry(entryName, status, entryException, entryClass, className, instantiationTime,
+                abandonedInstantiationCount);
+    }
+
+
+    /*
+     * Private
+     */
+
+    private Object instantiateOnExecutor(Class<?> klass, ClassLoader classLoader)
+            throws IOException, TimeoutException {
+        // RUNNING -> FINISHED when the constructor returns, RUNNING -> ABANDONED at timeout
+        final AtomicInteger state = new AtomicInteger(RUNNING);
+        final Future<Object> future = INSTANTIATION_EXECUTOR.submit(() -> {
+            try {
+                return instantiateWithFXMLLoader(klass, classLoader);
+            } finally {
+                if (state.compareAndSet(RUNNING, FINISHED) == false) {
+                    final int abandonedCount = ABANDONED_INSTANTIATION_COUNT.decrementAndGet();
+                    LOG.info(klass.getName() + " constructor returned after timeout, " //NOI18N
+                            + abandonedCount + " timed out instantiation(s) still running"); //NOI18N
+                }
+            }
+        });
+        try {
+            return future.get(instantiationTimeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException x) {
+            future.cancel(true);
+            // Counted before the state changes so that the constructor thread
+            // never decrements a count which has not been incremented yet
+            final int abandonedCount = ABANDONED_INSTANTIATION_COUNT.incrementAndGet();
+            if (state.compareAndSet(RUNNING, ABANDONED)) {
+                LOG.warning(klass.getName() + " constructor abandoned after " + instantiationTimeout //NOI18N
+                        + " ms, " + abandonedCount + " timed out instantiation(s) still running"); //NOI18N
+            } else {
+                ABANDONED_INSTANTIATION_COUNT.decrementAndGet();
+            }
+            throw new TimeoutException(klass.getName() + " not instantiated after " //NOI18N
+                    + instantiationTimeout + " ms"); //NOI18N
+        } catch (ExecutionException x) {
+            // Unchecked causes are rethrown as is so that exploreEntry()
+            // reports the same status as a direct instantiation
+            final Throwable cause = x.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IOException(cause);
+            }
+        } catch (InterruptedException x) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Exploration interrupted"); //NOI18N
+        }
+    }
+
+    private boolean isNodeCandidate(ClassLoader classLoader, String className) {
+        classFileCount.incrementAndGet();
+        return (classLoader == null) || getNodeClassFilter(classLoader).isCandidate(className);
+    }
+
+    private synchronized NodeClassFilter getNodeClassFilter(ClassLoader classLoader) {
+        if (nodeClassFilterLoader != classLoader) {
+            nodeClassFilter = new NodeClassFilter(classLoader);
+            nodeClassFilterLoader = classLoader;
+        }
+        return nodeClassFilter;
     }
 }
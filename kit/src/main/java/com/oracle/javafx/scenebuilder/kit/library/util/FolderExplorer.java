@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020, Gluon and/or its affiliates.
+ * Copyright (c) 2019, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -54,6 +54,7 @@ public class FolderExplorer extends ExplorerBase {
     public JarReport explore(ClassLoader classLoader) throws IOException {
         final JarReport result = new JarReport(rootFolderPath);
 
+        beginExploration();
         try (Stream<Path> stream = Files.walk(rootFolderPath).filter(p -> !p.toFile().isDirectory())) {
             stream.forEach(p -> {
                 JarReportEntry explored = exploreEntry(rootFolderPath, p, classLoader);
@@ -61,6 +62,7 @@ public class FolderExplorer extends ExplorerBase {
                     result.getEntries().add(explored);
             });
         };
+        endExploration(result);
 
         return result;
     }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2020, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -36,7 +36,11 @@ import com.oracle.javafx.scenebuilder.kit.library.util.JarReportEntry.Status;
 
 import java.io.IOException;
 import java.nio.file.Path;
-import java.util.Enumeration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
@@ -46,6 +50,9 @@ import java.util.jar.JarFile;
  */
 public class JarExplorer extends ExplorerBase {
     
+    // When explored from a fork join pool, jars with more entries are split
+    private static final int ENTRIES_PER_TASK = 1000;
+    
     private final Path jar;
     
     public JarExplorer(Path jar) {
@@ -58,15 +65,21 @@ public class JarExplorer extends ExplorerBase {
     public JarReport explore(ClassLoader classLoader) throws IOException {
         final JarReport result = new JarReport(jar);
         
+        beginExploration();
         try (JarFile jarFile = new JarFile(jar.toFile())) {
-            final Enumeration<JarEntry> e = jarFile.entries();
-            while (e.hasMoreElements()) {
-                final JarEntry entry = e.nextElement();
-                JarReportEntry explored = exploreEntry(entry, classLoader);
+            final List<JarEntry> entries = Collections.list(jarFile.entries());
+            final List<JarReportEntry> exploredEntries;
+            if (ForkJoinTask.inForkJoinPool() && (entries.size() > ENTRIES_PER_TASK)) {
+                exploredEntries = new ExploreEntriesTask(entries, classLoader).invoke();
+            } else {
+                exploredEntries = exploreEntries(entries, classLoader);
+            }
+            for (JarReportEntry explored : exploredEntries) {
                 if (explored.getStatus() != Status.IGNORED)
                     result.getEntries().add(explored);
             }
         }
+        endExploration(result);
         
         return result;
     }
@@ -75,6 +88,14 @@ public class JarExplorer extends ExplorerBase {
      * Private
      */
     
+    private List<JarReportEntry> exploreEntries(List<JarEntry> entries, ClassLoader classLoader) {
+        final List<JarReportEntry> result = new ArrayList<>();
+        for (JarEntry entry : entries) {
+            result.add(exploreEntry(entry, classLoader));
+        }
+        return result;
+    }
+    
     private JarReportEntry exploreEntry(JarEntry entry, ClassLoader classLoader) {
         if (entry.isDirectory()) {
             return new JarReportEntry(entry.getName(), JarReportEntry.Status.IGNORED, null, null, null);
@@ -83,5 +104,42 @@ public class JarExplorer extends ExplorerBase {
             return super.exploreEntry(entry.getName(), classLoader, className);
         }
     }
+    
+    /*
+     * Explores a range of entries, splitting it in halves until it is small
+     * enough. Results are concatenated in entry order.
+     */
+    private class ExploreEntriesTask extends RecursiveTask<List<JarReportEntry>> {
+        
+        private static final long serialVersionUID = 1L;
+        
+        private final transient List<JarEntry> entries;
+        private final transient ClassLoader classLoader;
+        
+        ExploreEntriesTask(List<JarEntry> entries, ClassLoader classLoader) {
+            this.entries = entries;
+            this.classLoader = classLoader;
+        }
+        
+        @Override
+        protected List<JarReportEntry> compute() {
+            final List<JarReportEntry> result;
+            
+            if (entries.size() <= ENTRIES_PER_TASK) {
+                result = exploreEntries(entries, classLoader);
+            } else {
+                final int middle = entries.size() / 2;
+                final ExploreEntriesTask head = new ExploreEntriesTask(entries.subList(0, middle), classLoader);
+                final ExploreEntriesTask tail
+                        = new ExploreEntriesTask(entries.subList(middle, entries.size()), classLoader);
+                head.fork();
+                final List<JarReportEntry> tailResult = tail.compute();
+                result = new ArrayList<>(head.join());
+                result.addAll(tailResult);
+            }
+            
+            return result;
+        }
+    }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -48,6 +48,9 @@ public class JarReport {
     private final Path jar;
     private final ObservableList<JarReportEntry> entries = FXCollections.observableArrayList();
     private boolean hasControlsFromExternalPlugin = false;
+    private long explorationTime = -1;
+    private int classFileCount;
+    private int loadedClassCount;
 
     public JarReport(Path jar) {
         this.jar = jar;
@@ -73,5 +76,32 @@ public class JarReport {
     }
 
     public boolean hasControlsFromExternalPlugin() { return hasControlsFromExternalPlugin; }
+
+    /**
+     * @return the time spent exploring the jar in milliseconds (-1 if unknown).
+     */
+    public long getExplorationTime() {
+        return explorationTime;
+    }
+
+    /**
+     * @return the number of class files which have been examined.
+     */
+    public int getClassFileCount() {
+        return classFileCount;
+    }
+
+    /**
+     * @return the number of classes which have actually been loaded.
+     */
+    public int getLoadedClassCount() {
+        return loadedClassCount;
+    }
+
+    void setStatistics(long explorationTime, int classFileCount, int loadedClassCount) {
+        this.explorationTime = explorationTime;
+        this.classFileCount = classFileCount;
+        this.loadedClassCount = loadedClassCount;
+    }
     
 }
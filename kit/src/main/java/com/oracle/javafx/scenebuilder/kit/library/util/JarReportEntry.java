@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2017, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -45,6 +45,7 @@ public class JarReportEntry {
         IGNORED,
         CANNOT_LOAD,
         CANNOT_INSTANTIATE,
+        TIMED_OUT,
         OK
     }
     
@@ -53,10 +54,24 @@ public class JarReportEntry {
     private final Class<?> klass;
     private final Throwable exception;
     private final String className;
+    private final long instantiationTime;
+    private final int abandonedInstantiationCount;
 
     public JarReportEntry(String name, Status status, Throwable exception, Class<?> klass, String className) {
+        this(name, status, exception, klass, className, -1);
+    }
+
+    public JarReportEntry(String name, Status status, Throwable exception, Class<?> klass, String className,
+            long instantiationTime) {
+        this(name, status, exception, klass, className, instantiationTime, 0);
+    }
+
+    public JarReportEntry(String name, Status status, Throwable exception, Class<?> klass, String className,
+            long instantiationTime, int abandonedInstantiationCount) {
         assert name != null;
+        assert abandonedInstantiationCount >= 0;
         assert (klass != null) || (status != Status.OK);
+        assert (klass != null) || (status != Status.TIMED_OUT);
         assert (exception == null) || (status != Status.OK);
         
         this.name = name;
@@ -64,6 +79,8 @@ public class JarReportEntry {
         this.klass = klass;
         this.exception = exception;
         this.className = className;
+        this.instantiationTime = instantiationTime;
+        this.abandonedInstantiationCount = abandonedInstantiationCount;
     }
 
     public String getName() {
@@ -81,6 +98,23 @@ public class JarReportEntry {
     public Throwable getException() {
         return exception;
     }
+
+    /**
+     * @return the time spent in the trial instantiation in milliseconds
+     * (-1 if the class has not been instantiated during this exploration).
+     */
+    public long getInstantiationTime() {
+        return instantiationTime;
+    }
+
+    /**
+     * @return the number of timed out instantiations whose constructor was
+     * still running when the trial instantiation started. Those constructors
+     * may have run concurrently with this one (0 if none).
+     */
+    public int getAbandonedInstantiationCount() {
+        return abandonedInstantiationCount;
+    }
     
     public boolean isNode() {
         return klass != null && Node.class.isAssignableFrom(klass);
@@ -101,6 +135,7 @@ public class JarReportEntry {
                 assert klass != null;
                 sb.append(klass.getCanonicalName());
                 sb.append(" - OK"); //NOI18N
+                appendInstantiationTime(sb);
                 break;
             case CANNOT_LOAD:
                 assert klass == null;
@@ -115,6 +150,12 @@ public class JarReportEntry {
                 sb.append(" - CANNOT_INSTANTIATE - "); //NOI18N
                 sb.append(exception.getMessage());
                 break;
+            case TIMED_OUT:
+                assert klass != null;
+                sb.append(klass.getCanonicalName());
+                sb.append(" - TIMED_OUT"); //NOI18N
+                appendInstantiationTime(sb);
+                break;
             case IGNORED:
                 assert klass == null;
                 sb.append(name);
@@ -126,4 +167,21 @@ public class JarReportEntry {
         
         return sb.toString();
     }
+    
+    /*
+     * Private
+     */
+    
+    private void appendInstantiationTime(StringBuilder sb) {
+        if (instantiationTime != -1) {
+            sb.append(" - "); //NOI18N
+            sb.append(instantiationTime);
+            sb.append(" ms"); //NOI18N
+        }
+        if (abandonedInstantiationCount > 0) {
+            sb.append(" - concurrent with "); //NOI18N
+            sb.append(abandonedInstantiationCount);
+            sb.append(" abandoned instantiation(s)"); //NOI18N
+        }
+    }
 }
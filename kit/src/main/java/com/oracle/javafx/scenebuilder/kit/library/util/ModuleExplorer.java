@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2024, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -52,6 +52,7 @@ public class ModuleExplorer extends ExplorerBase {
     public JarReport explore() throws IOException {
         ClassLoader classLoader = module.getClassLoader();
         final JarReport result = new JarReport(moduleReference.location().map(Path::of).orElse(null));
+        beginExploration();
         try (ModuleReader reader = moduleReference.open()) {
             reader.list().forEach(cl -> {
                 if (cl.endsWith(".class")) {
@@ -63,6 +64,7 @@ public class ModuleExplorer extends ExplorerBase {
                 }
             });
         }
+        endExploration(result);
         
         return result;
     }
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import javafx.scene.Node;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decides from class file headers whether a class may be a Node subclass
+ * worth loading. Super classes are resolved through the resources of the
+ * class loader, so chains spanning several jars of the set are followed
+ * without defining any class. Platform classes (java, javafx...) are
+ * checked with the class loader since they are defined anyway.
+ *
+ * When a class file cannot be found or read, the answer is true: the caller
+ * then loads the class and reports the problem as before.
+ */
+class NodeClassFilter {
+
+    // Resolution results are shared by all the explorers using the same class loader
+    private static final Map<ClassLoader, Map<String, Boolean>> extendsNodeCaches = new WeakHashMap<>();
+
+    private final ClassLoader classLoader;
+    private final Map<String, Boolean> extendsNodeCache;
+
+    public NodeClassFilter(ClassLoader classLoader) {
+        assert classLoader != null;
+        this.classLoader = classLoader;
+        this.extendsNodeCache = getExtendsNodeCache(classLoader);
+    }
+
+    /**
+     * Returns true if the class is public, concrete, not nested and
+     * transitively extends javafx.scene.Node (or if this cannot be decided).
+     * Nested classes are skipped like ExplorerBase skips '$' entries but
+     * super classes are followed even when they are nested.
+     *
+     * @param className the binary name of a class
+     * @return false if the class can safely be skipped.
+     */
+    public boolean isCandidate(String className) {
+        final boolean result;
+
+        final ClassFileHeader header = readHeader(className);
+        if (header == null) {
+            result = true;
+        } else if ((header.isPublicConcreteClass() == false) || header.isNested()) {
+            result = false;
+        } else {
+            result = extendsNode(header.getSuperName());
+        }
+
+        return result;
+    }
+
+
+    /*
+     * Private
+     */
+
+    private static synchronized Map<String, Boolean> getExtendsNodeCache(ClassLoader classLoader) {
+        return extendsNodeCaches.computeIfAbsent(classLoader, k -> new ConcurrentHashMap<>());
+    }
+
+    private boolean extendsNode(String superName) {
+        final List<String> chain = new ArrayList<>();
+        Boolean result = null;
+
+        String current = superName;
+        while (result == null) {
+            if (current == null) {
+                // We reached java.lang.Object
+                result = Boolean.FALSE;
+            } else if (extendsNodeCache.containsKey(current)) {
+                result = extendsNodeCache.get(current);
+            } else if (chain.contains(current)) {
+                // Circular hierarchy : class cannot be loaded anyway
+                result = Boolean.FALSE;
+            } else {
+                chain.add(current);
+                if (isPlatformClass(current)) {
+                    result = isPlatformNodeClass(current);
+                } else {
+                    final ClassFileHeader header = readHeader(current);
+                    if (header == null) {
+                        result = Boolean.TRUE;
+                    } else {
+                        current = header.getSuperName();
+                    }
+                }
+            }
+        }
+
+        for (String className : chain) {
+            extendsNodeCache.put(className, result);
+        }
+
+        return result;
+    }
+
+    private boolean isPlatformNodeClass(String className) {
+        boolean result;
+
+        try {
+            result = Node.class.isAssignableFrom(classLoader.loadClass(className));
+        } catch (ClassNotFoundException | LinkageError x) {
+            result = true;
+        }
+
+        return result;
+    }
+
+    private ClassFileHeader readHeader(String className) {
+        ClassFileHeader result;
+
+        final String resourceName = className.replace('.', '/') + ".class"; //NOI18N
+        try (InputStream is = classLoader.getResourceAsStream(resourceName)) {
+            result = (is == null) ? null : ClassFileHeader.read(is);
+        } catch (IOException x) {
+            result = null;
+        }
+
+        return result;
+    }
+
+    private static boolean isPlatformClass(String className) {
+        return className.startsWith("java.") || className.startsWith("javax.") //NOI18N
+                || className.startsWith("javafx.") || className.startsWith("jdk.") //NOI18N
+                || className.startsWith("com.sun.") || className.startsWith("sun."); //NOI18N
+    }
+}
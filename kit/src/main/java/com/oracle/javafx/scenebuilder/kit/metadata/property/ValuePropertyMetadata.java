@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -95,7 +96,21 @@ public abstract class ValuePropertyMetadata extends PropertyMetadata {
         assert fxomInstance.getSceneGraphObject() != null;
         getName().setValue(fxomInstance.getSceneGraphObject(), value);
     }
-    
+
+    /**
+     * Returns true if setting this value with setValueObject() and then
+     * with setValueInSceneGraphObject() produces the same scene graph object
+     * state as a reconstruction of the scene graph.
+     * When true, callers may skip the scene graph refresh.
+     *
+     * @param fxomInstance an fxom instance (never null)
+     * @param value a value conform with the property typing
+     * @return true if value can be applied in place to the scene graph object.
+     */
+    public boolean canApplyValueInSceneGraphObject(FXOMInstance fxomInstance, Object value) {
+        return false;
+    }
+
     /**
      * Gets the property value in the scene graph object.
      * Result might be different from getValueObject().
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -53,5 +54,10 @@ public class BooleanPropertyMetadata extends TextEncodablePropertyMetadata<java.
     public Boolean makeValueFromString(String string) {
         return Boolean.valueOf(string);
     }
+
+    @Override
+    protected boolean isSceneGraphValueVerbatim() {
+        return true;
+    }
     
 }
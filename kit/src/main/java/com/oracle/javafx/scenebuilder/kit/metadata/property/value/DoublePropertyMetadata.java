@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -152,4 +153,9 @@ public class DoublePropertyMetadata extends TextEncodablePropertyMetadata<java.l
     public Double makeValueFromString(String string) {
         return Double.valueOf(string);
     }
+
+    @Override
+    protected boolean isSceneGraphValueVerbatim() {
+        return true;
+    }
 }
@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -56,5 +57,10 @@ public class IntegerPropertyMetadata extends TextEncodablePropertyMetadata<Integ
     public Integer makeValueFromString(String string) {
         return Integer.valueOf(string);
     }
+
+    @Override
+    protected boolean isSceneGraphValueVerbatim() {
+        return true;
+    }
     
 }
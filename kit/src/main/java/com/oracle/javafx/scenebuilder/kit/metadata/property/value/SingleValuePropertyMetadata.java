@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -44,6 +45,7 @@ import com.oracle.javafx.scenebuilder.kit.metadata.util.InspectorPath;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PrefixedValue;
 import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
 import java.util.Objects;
+import javafx.fxml.FXMLLoader;
 
 /**
  *
@@ -136,7 +138,16 @@ public abstract class SingleValuePropertyMetadata<T> extends ValuePropertyMetada
     public T makeValueFromProperty(FXOMPropertyT fxomProperty) {
         return makeValueFromString(fxomProperty.getValue());
     }
-    
+
+    /*
+     * Returns true if values of this property are handed as is to the
+     * scene graph object by FXMLLoader. Subclasses with plain scalar values
+     * override this routine to enable canApplyValueInSceneGraphObject().
+     */
+    protected boolean isSceneGraphValueVerbatim() {
+        return false;
+    }
+
     /*
      * ValuePropertyMetadata
      */
@@ -159,4 +170,52 @@ public abstract class SingleValuePropertyMetadata<T> extends ValuePropertyMetada
     public void setValueObject(FXOMInstance fxomInstance, Object valueObject) {
         setValue(fxomInstance, valueClass.cast(valueObject));
     }
+
+    @Override
+    public boolean canApplyValueInSceneGraphObject(FXOMInstance fxomInstance, Object value) {
+        final boolean result;
+
+        if ((isSceneGraphValueVerbatim() == false)
+                || (isReadWrite() == false)
+                || (valueClass.isInstance(value) == false)
+                || Objects.equals(value, getDefaultValueObject())) {
+            // Default value removes the fxom property : the scene graph
+            // object then gets its own default which may differ.
+            result = false;
+        } else {
+            final T v = valueClass.cast(value);
+            final FXOMProperty fxomProperty = fxomInstance.getProperties().get(getName());
+            if ((canMakeStringFromValue(v) == false)
+                    || (isLoadedVerbatim(makeStringFromValue(v)) == false)) {
+                // Resource keys, locations, expressions... are resolved by FXMLLoader
+                result = false;
+            } else if (fxomProperty == null) {
+                result = true;
+            } else if (fxomProperty instanceof FXOMPropertyT) {
+                // Current value may be a binding expression
+                final String currentValue = ((FXOMPropertyT) fxomProperty).getValue();
+                result = new PrefixedValue(currentValue).isPlainString();
+            } else {
+                result = false;
+            }
+        }
+
+        return result;
+    }
+
+    /*
+     * Private
+     */
+
+    /*
+     * FXMLLoader resolves or unescapes strings starting with one of its
+     * prefixes (even plain strings like "\%key" or "%%key") : only the other
+     * strings give the same scene graph value as a refresh.
+     */
+    private static boolean isLoadedVerbatim(String s) {
+        return (s.startsWith(FXMLLoader.ESCAPE_PREFIX) == false)
+                && (s.startsWith(FXMLLoader.RELATIVE_PATH_PREFIX) == false)
+                && (s.startsWith(FXMLLoader.RESOURCE_KEY_PREFIX) == false)
+                && (s.startsWith(FXMLLoader.EXPRESSION_PREFIX) == false);
+    }
 }
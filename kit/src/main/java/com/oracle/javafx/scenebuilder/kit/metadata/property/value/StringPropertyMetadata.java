@@ -1,4 +1,5 @@
 /*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -112,6 +113,11 @@ public class StringPropertyMetadata extends TextEncodablePropertyMetadata<String
         return string;
     }
 
+    @Override
+    protected boolean isSceneGraphValueVerbatim() {
+        return true;
+    }
+
     @Override
     public FXOMInstance makeFxomInstanceFromValue(String value, FXOMDocument fxomDocument) {
         final FXOMInstance result;
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2016, 2026, Gluon and/or its affiliates.
  * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
@@ -161,6 +161,7 @@ public class DesignHierarchyMask {
 
     private final FXOMObject fxomObject;
     private Map<PropertyName, ComponentPropertyMetadata> propertyMetadataMap; // Initialized lazily
+    private Class<?> propertyMetadataClass; // Class of the scene graph object described by propertyMetadataMap
 
     public DesignHierarchyMask(FXOMObject fxomObject) {
         assert fxomObject != null;
@@ -652,8 +653,13 @@ public class DesignHierarchyMask {
     }
 
     private void queryPropertyMetadata() {
-        if (propertyMetadataMap == null) {
+        // Masks may outlive a scene graph refresh (see hierarchy panel) :
+        // class of the scene graph object may have mutated since last query
+        final Object sceneGraphObject = fxomObject.getSceneGraphObject();
+        final Class<?> sceneGraphClass = sceneGraphObject == null ? null : sceneGraphObject.getClass();
+        if (propertyMetadataMap == null || propertyMetadataClass != sceneGraphClass) {
             propertyMetadataMap = new HashMap<>();
+            propertyMetadataClass = sceneGraphClass;
             if (fxomObject instanceof FXOMInstance fxomInstance) {
                 if (fxomInstance.getSceneGraphObject() != null) {
                     final Class<?> componentClass = fxomInstance.getSceneGraphObject().getClass();
@@ -932,8 +938,10 @@ public class DesignHierarchyMask {
     }
 
     // External providers
-    private final Collection<ExternalDesignHierarchyMaskProvider> externalDesignHierarchyMaskProviders = getExternalDesignHierarchyMaskProviders();
-    private final Collection<ExternalSectionProvider> externalItemProviders = getExternalItemProviders();
+    // Loaded once : masks are created for every item of the hierarchy panel
+    private static final Collection<ExternalDesignHierarchyMaskProvider> externalDesignHierarchyMaskProviders
+            = getExternalDesignHierarchyMaskProviders();
+    private static final Collection<ExternalSectionProvider> externalItemProviders = getExternalItemProviders();
 
     private boolean isExternalNonResizable(Object object) {
         for (ExternalDesignHierarchyMaskProvider provider : externalDesignHierarchyMaskProviders) {
@@ -988,14 +996,14 @@ public class DesignHierarchyMask {
         return null;
     }
 
-    private Collection<ExternalDesignHierarchyMaskProvider> getExternalDesignHierarchyMaskProviders() {
+    private static Collection<ExternalDesignHierarchyMaskProvider> getExternalDesignHierarchyMaskProviders() {
         ServiceLoader<ExternalDesignHierarchyMaskProvider> loader = ServiceLoader.load(ExternalDesignHierarchyMaskProvider.class);
         Collection<ExternalDesignHierarchyMaskProvider> providers = new ArrayList<>();
         loader.iterator().forEachRemaining(providers::add);
         return providers;
     }
 
-    private Collection<ExternalSectionProvider> getExternalItemProviders() {
+    private static Collection<ExternalSectionProvider> getExternalItemProviders() {
         ServiceLoader<ExternalSectionProvider> loader = ServiceLoader.load(ExternalSectionProvider.class);
         Collection<ExternalSectionProvider> providers = new ArrayList<>();
         loader.iterator().forEachRemaining(providers::add);
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2024, Gluon and/or its affiliates.
+ * Copyright (c) 2024, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -38,6 +38,7 @@ module com.gluonhq.scenebuilder.kit {
     requires javafx.media;
     requires transitive javafx.web;
     requires java.logging;
+    requires java.management;
 
     requires java.net.http;
     requires static jakarta.json;
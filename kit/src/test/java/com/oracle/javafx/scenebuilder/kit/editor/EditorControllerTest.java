@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EditorControllerTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "\n" //NOI18N
+            + "<Button text=\"Hello\" xmlns=\"http://javafx.com/javafx/17\" " //NOI18N
+            + "xmlns:fx=\"http://javafx.com/fxml/1\" />\n"; //NOI18N
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_fxml_text_is_written_to_file() throws Exception {
+        final EditorController editor = new EditorController();
+        editor.setFxmlText(FXML_TEXT, false);
+        final Path file = tempDir.resolve("Hello.fxml");
+        Files.writeString(file, "previous content which is longer than the new one " + FXML_TEXT);
+
+        editor.writeFxmlText(false, file);
+
+        assertEquals(editor.getFxmlText(false), Files.readString(file));
+        assertEquals(List.of(file), listFiles());
+    }
+
+    @Test
+    public void that_failed_serialization_keeps_the_original_file() throws Exception {
+        final Path file = tempDir.resolve("Hello.fxml");
+        Files.writeString(file, FXML_TEXT);
+
+        assertThrows(IOException.class, () -> EditorController.writeFile(file, channel -> {
+            channel.write(ByteBuffer.wrap("<?xml".getBytes(StandardCharsets.UTF_8)));
+            throw new IOException("Serialization failed");
+        }));
+        assertThrows(IllegalStateException.class, () -> EditorController.writeFile(file, channel -> {
+            channel.write(ByteBuffer.wrap("<?xml".getBytes(StandardCharsets.UTF_8)));
+            throw new IllegalStateException("Serializer bug");
+        }));
+
+        assertEquals(FXML_TEXT, Files.readString(file));
+        assertEquals(List.of(file), listFiles());
+    }
+
+    @Test
+    public void that_failed_serialization_leaves_no_new_file() throws Exception {
+        final Path file = tempDir.resolve("New.fxml");
+
+        assertThrows(IOException.class, () -> EditorController.writeFile(file, channel -> {
+            channel.write(ByteBuffer.wrap("<?xml".getBytes(StandardCharsets.UTF_8)));
+            throw new IOException("Serialization failed");
+        }));
+
+        assertFalse(Files.exists(file));
+        assertEquals(List.of(), listFiles());
+    }
+
+    private List<Path> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(tempDir)) {
+            return files.collect(Collectors.toList());
+        }
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2022, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -31,7 +31,11 @@
  */
 package com.oracle.javafx.scenebuilder.kit.editor;
 
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
 import com.oracle.javafx.scenebuilder.kit.editor.job.Job;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import javafx.scene.layout.Pane;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -114,6 +118,60 @@ public class JobManagerTest {
         assertThrows(IllegalStateException.class, () -> jobManager.push(invalidJob));
     }
 
+    @Test
+    public void undo_stack_is_bounded_by_memory() {
+        var boundedManager = new JobManager(editor, 10, 10_000);
+
+        for (int i = 0; i < 5; i++) {
+            boundedManager.push(new PayloadJob(editor, 2_000));
+        }
+
+        assertThat(boundedManager.getUndoStack()).hasSize(2);
+        assertThat(boundedManager.undoMemoryProperty().get()).isBetween(8_000L, 10_000L);
+
+        boundedManager.undo();
+        boundedManager.push(new PayloadJob(editor, 10));
+
+        assertThat(boundedManager.getRedoStack()).isEmpty();
+        assertThat(boundedManager.undoMemoryProperty().get()).isLessThan(5_000L);
+
+        boundedManager.clear();
+
+        assertThat(boundedManager.undoMemoryProperty().get()).isZero();
+    }
+
+    @Test
+    public void most_recent_job_is_kept_above_memory_budget() {
+        var boundedManager = new JobManager(editor, 10, 100);
+
+        boundedManager.push(new PayloadJob(editor, 1_000));
+        boundedManager.push(new PayloadJob(editor, 1_000));
+
+        assertThat(boundedManager.getUndoStack()).hasSize(1);
+        assertTrue(boundedManager.canUndo());
+    }
+
+    @Test
+    public void detached_object_is_estimated_with_its_scene_graph() throws Exception {
+        JfxInitializer.initialize();
+        var fxmlText = "<?import javafx.scene.layout.*?>"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\"><children>"
+                + "<Pane><children><Region/><Region/><Region/></children></Pane>"
+                + "<Region/>"
+                + "</children></VBox>";
+        var fxomDocument = new FXOMDocument(fxmlText, null, getClass().getClassLoader(), null);
+        var pane = fxomDocument.getFxomRoot().collectObjectWithSceneGraphObjectClass(Pane.class).get(0);
+
+        fxomDocument.beginUpdate();
+        pane.removeFromParentProperty();
+        fxomDocument.endUpdate();
+
+        var estimate = new JobMemoryEstimator().estimate(new DetachJob(editor, pane));
+
+        // Pane and its three Region children
+        assertThat(estimate).isGreaterThanOrEqualTo(4 * JobMemoryEstimator.NODE_SIZE);
+    }
+
     private static class DummyJob extends Job {
 
         private int executes = 0;
@@ -165,4 +223,24 @@ public class JobManagerTest {
             jobManager.push(new DummyJob(getEditorController()));
         }
     }
-}
\ No newline at end of file
+
+    private static class PayloadJob extends DummyJob {
+
+        private final String payload;
+
+        public PayloadJob(EditorController editorController, int payloadLength) {
+            super(editorController);
+            this.payload = "x".repeat(payloadLength);
+        }
+    }
+
+    private static class DetachJob extends DummyJob {
+
+        private final FXOMObject removedObject;
+
+        public DetachJob(EditorController editorController, FXOMObject removedObject) {
+            super(editorController);
+            this.removedObject = removedObject;
+        }
+    }
+}
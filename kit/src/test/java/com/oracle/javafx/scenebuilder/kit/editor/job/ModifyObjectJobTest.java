@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.job;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.job.atomic.ModifyObjectJob;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMInstance;
+import com.oracle.javafx.scenebuilder.kit.metadata.Metadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.property.ValuePropertyMetadata;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+import javafx.scene.control.Button;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class ModifyObjectJobTest {
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void simple_value_is_applied_to_existing_scene_graph_object() throws Exception {
+        var editor = loadEditor();
+        var button = (FXOMInstance) editor.getFxomDocument().searchWithFxId("button");
+        var sceneGraphButton = button.getSceneGraphObject();
+
+        editor.getJobManager().push(makeJob(button, "layoutX", 50.0, editor));
+
+        assertSame(sceneGraphButton, button.getSceneGraphObject());
+        assertEquals(50.0, ((Button) button.getSceneGraphObject()).getLayoutX());
+        assertEquals(50.0, queryProperty(button, "layoutX").getValueObject(button));
+
+        editor.getJobManager().undo();
+
+        assertSame(sceneGraphButton, button.getSceneGraphObject());
+        assertEquals(233.0, ((Button) button.getSceneGraphObject()).getLayoutX());
+    }
+
+    @Test
+    public void default_value_rebuilds_scene_graph_object() throws Exception {
+        var editor = loadEditor();
+        var button = (FXOMInstance) editor.getFxomDocument().searchWithFxId("button");
+        var sceneGraphButton = button.getSceneGraphObject();
+
+        editor.getJobManager().push(makeJob(button, "layoutX", 0.0, editor));
+
+        assertNotSame(sceneGraphButton, button.getSceneGraphObject());
+        assertEquals(0.0, ((Button) button.getSceneGraphObject()).getLayoutX());
+    }
+
+    @Test
+    public void plain_string_is_applied_to_existing_scene_graph_object() throws Exception {
+        var editor = loadEditor();
+        var button = (FXOMInstance) editor.getFxomDocument().searchWithFxId("button");
+        var sceneGraphButton = button.getSceneGraphObject();
+
+        editor.getJobManager().push(makeJob(button, "text", "Hello", editor));
+
+        assertSame(sceneGraphButton, button.getSceneGraphObject());
+        assertEquals("Hello", ((Button) button.getSceneGraphObject()).getText());
+    }
+
+    @Test
+    public void escaped_strings_rebuild_scene_graph_object() throws Exception {
+        assertTextLoadedAs("\\%key", "%key");
+        assertTextLoadedAs("%%key", "%key");
+        assertTextLoadedAs("@@x", "@x");
+        assertTextLoadedAs("$$x", "$x");
+    }
+
+    /*
+     * FXMLLoader unescapes the value : the scene graph object must show the
+     * same text as after a full refresh.
+     */
+    private void assertTextLoadedAs(String value, String expectedText) throws Exception {
+        var editor = loadEditor();
+        var button = (FXOMInstance) editor.getFxomDocument().searchWithFxId("button");
+        var sceneGraphButton = button.getSceneGraphObject();
+
+        editor.getJobManager().push(makeJob(button, "text", value, editor));
+
+        assertNotSame(sceneGraphButton, button.getSceneGraphObject(), value);
+        assertEquals(expectedText, ((Button) button.getSceneGraphObject()).getText(), value);
+        editor.getFxomDocument().refreshSceneGraph();
+        assertEquals(expectedText, ((Button) button.getSceneGraphObject()).getText(), value);
+    }
+
+    private EditorController loadEditor() throws Exception {
+        var editor = new EditorController();
+        editor.setFxmlText(
+                Files.readString(Paths.get(getClass().getResource("basic.fxml").toURI())),
+                false
+        );
+        return editor;
+    }
+
+    private static ValuePropertyMetadata queryProperty(FXOMInstance instance, String name) {
+        return Metadata.getMetadata().queryValueProperty(instance, new PropertyName(name));
+    }
+
+    private static ModifyObjectJob makeJob(FXOMInstance instance, String name, Object value,
+            EditorController editor) {
+        return new ModifyObjectJob(instance, queryProperty(instance, name), value, editor);
+    }
+}
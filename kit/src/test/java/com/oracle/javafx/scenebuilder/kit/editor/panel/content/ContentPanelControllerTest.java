@@ -0,0 +1,245 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.job.DeleteObjectJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.InsertAsSubComponentJob;
+import com.oracle.javafx.scenebuilder.kit.editor.panel.content.driver.outline.NodeOutline;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMCloner;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+
+public class ContentPanelControllerTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<?import javafx.scene.layout.HBox?>\n" //NOI18N
+            + "<?import javafx.scene.layout.VBox?>\n" //NOI18N
+            + "<VBox fx:id=\"root\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+            + "  <children>\n" //NOI18N
+            + "    <HBox fx:id=\"row\">\n" //NOI18N
+            + "      <children>\n" //NOI18N
+            + "        <Button fx:id=\"a\" />\n" //NOI18N
+            + "        <Button fx:id=\"b\" />\n" //NOI18N
+            + "      </children>\n" //NOI18N
+            + "    </HBox>\n" //NOI18N
+            + "    <Button fx:id=\"c\" />\n" //NOI18N
+            + "  </children>\n" //NOI18N
+            + "</VBox>\n"; //NOI18N
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_outlines_follow_document_order() throws Exception {
+        waitFor(() -> {
+            final ContentPanelController panel = makeOutlinedPanel();
+            final FXOMDocument fxomDocument = panel.getEditorController().getFxomDocument();
+
+            // Breadth first : row and c come before the buttons of row
+            assertOutlines(panel, find(fxomDocument, "root"), find(fxomDocument, "row"),
+                    find(fxomDocument, "c"), find(fxomDocument, "a"), find(fxomDocument, "b"));
+            return null;
+        });
+    }
+
+    @Test
+    public void that_added_objects_are_outlined_at_their_position() throws Exception {
+        waitFor(() -> {
+            final ContentPanelController panel = makeOutlinedPanel();
+            final EditorController editor = panel.getEditorController();
+            final FXOMDocument fxomDocument = editor.getFxomDocument();
+            final FXOMObject root = find(fxomDocument, "root");
+            final FXOMObject row = find(fxomDocument, "row");
+            final FXOMObject c = find(fxomDocument, "c");
+
+            final Map<FXOMObject, Snapshot> before = snapshot(panel, root, row, c);
+            final FXOMObject first = new FXOMCloner(fxomDocument).clone(c);
+            editor.getJobManager().push(new InsertAsSubComponentJob(first, root, 0, editor));
+            final FXOMObject middle = new FXOMCloner(fxomDocument).clone(c);
+            editor.getJobManager().push(new InsertAsSubComponentJob(middle, row, 1, editor));
+
+            assertOutlines(panel, root, first, row, c,
+                    find(fxomDocument, "a"), middle, find(fxomDocument, "b"));
+            assertReused(panel, before);
+            return null;
+        });
+    }
+
+    @Test
+    public void that_removed_objects_lose_their_outline() throws Exception {
+        waitFor(() -> {
+            final ContentPanelController panel = makeOutlinedPanel();
+            final EditorController editor = panel.getEditorController();
+            final FXOMDocument fxomDocument = editor.getFxomDocument();
+            final FXOMObject root = find(fxomDocument, "root");
+            final FXOMObject row = find(fxomDocument, "row");
+            final FXOMObject a = find(fxomDocument, "a");
+            final FXOMObject b = find(fxomDocument, "b");
+            final FXOMObject c = find(fxomDocument, "c");
+
+            final Map<FXOMObject, Snapshot> before = snapshot(panel, root, row, b, c);
+            editor.getJobManager().push(new DeleteObjectJob(a, editor));
+
+            assertNull(panel.lookupOutline(a));
+            assertOutlines(panel, root, row, c, b);
+            assertReused(panel, before);
+
+            editor.getJobManager().push(new DeleteObjectJob(row, editor));
+
+            assertNull(panel.lookupOutline(row));
+            assertNull(panel.lookupOutline(b));
+            assertOutlines(panel, root, c);
+            return null;
+        });
+    }
+
+    @Test
+    public void that_rebuilt_objects_get_a_new_outline() throws Exception {
+        waitFor(() -> {
+            final ContentPanelController panel = makeOutlinedPanel();
+            final FXOMDocument fxomDocument = panel.getEditorController().getFxomDocument();
+            final FXOMObject[] objects = {
+                find(fxomDocument, "root"), find(fxomDocument, "row"), find(fxomDocument, "c"),
+                find(fxomDocument, "a"), find(fxomDocument, "b")
+            };
+
+            final Map<FXOMObject, Snapshot> before = snapshot(panel, objects);
+            // Every object gets a new scene graph object
+            fxomDocument.refreshSceneGraph();
+
+            assertOutlines(panel, objects);
+            for (FXOMObject o : objects) {
+                assertNotSame(before.get(o).sceneGraphObject, o.getSceneGraphObject());
+                assertNotSame(before.get(o).outline, panel.lookupOutline(o));
+                assertSame(o.getSceneGraphObject(), panel.lookupOutline(o).getSceneGraphObject());
+            }
+            return null;
+        });
+    }
+
+    /*
+     * Private
+     */
+
+    private static ContentPanelController makeOutlinedPanel() throws Exception {
+        final EditorController editor = new EditorController();
+        final ContentPanelController result = new ContentPanelController(editor);
+        new Scene(result.getPanelRoot());
+        editor.setFxmlText(FXML_TEXT, false);
+        result.setOutlinesVisible(true);
+        return result;
+    }
+
+    private static FXOMObject find(FXOMDocument fxomDocument, String fxId) {
+        final FXOMObject result = fxomDocument.searchWithFxId(fxId);
+        assertNotNull(result, fxId);
+        return result;
+    }
+
+    private static void assertOutlines(ContentPanelController panel, FXOMObject... objects) {
+        final List<Node> expected = new ArrayList<>();
+        for (FXOMObject o : objects) {
+            final NodeOutline outline = panel.lookupOutline(o);
+            assertNotNull(outline);
+            expected.add(outline.getRootNode());
+        }
+        assertEquals(expected, panel.getOutlineLayer().getChildren());
+    }
+
+    /*
+     * Outlines of objects which kept their scene graph object are not rebuilt.
+     */
+    private static void assertReused(ContentPanelController panel, Map<FXOMObject, Snapshot> before) {
+        for (Map.Entry<FXOMObject, Snapshot> e : before.entrySet()) {
+            final FXOMObject o = e.getKey();
+            if (o.getSceneGraphObject() == e.getValue().sceneGraphObject) {
+                assertSame(e.getValue().outline, panel.lookupOutline(o));
+            } else {
+                assertNotSame(e.getValue().outline, panel.lookupOutline(o));
+            }
+        }
+    }
+
+    private static Map<FXOMObject, Snapshot> snapshot(ContentPanelController panel, FXOMObject... objects) {
+        final Map<FXOMObject, Snapshot> result = new IdentityHashMap<>();
+        for (FXOMObject o : objects) {
+            result.put(o, new Snapshot(o.getSceneGraphObject(), panel.lookupOutline(o)));
+        }
+        return result;
+    }
+
+    private static <T> T waitFor(Callable<T> callable) throws Exception {
+        final FutureTask<T> task = new FutureTask<>(callable);
+        if (Platform.isFxApplicationThread()) {
+            return callable.call();
+        } else {
+            Platform.runLater(task);
+            return task.get();
+        }
+    }
+
+    private static class Snapshot {
+        final Object sceneGraphObject;
+        final NodeOutline outline;
+
+        Snapshot(Object sceneGraphObject, NodeOutline outline) {
+            this.sceneGraphObject = sceneGraphObject;
+            this.outline = outline;
+        }
+    }
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
+
+public class GuideIndexTest {
+
+    private static final double THRESHOLD = 5.0;
+
+    @Test
+    public void testHorizontalLineIndex() {
+        final Random random = new Random(1);
+        final List<HorizontalSegment> lines = makeHorizontalLines(random, 3000);
+        final HorizontalLineIndex index = new HorizontalLineIndex();
+        lines.forEach(index::addLine);
+
+        for (int i = 0; i < 500; i++) {
+            final Bounds b = makeBounds(random);
+            final double centerY = (b.getMinY() + b.getMaxY()) / 2.0;
+            assertEquals(matchReference(lines, HorizontalSegment::getY1, b.getMinY(), true),
+                    index.matchNorth(b, THRESHOLD));
+            assertEquals(matchReference(lines, HorizontalSegment::getY1, b.getMaxY(), true),
+                    index.matchSouth(b, THRESHOLD));
+            assertEquals(matchReference(lines, HorizontalSegment::getY1, centerY, true),
+                    index.matchCenter(b, THRESHOLD));
+        }
+    }
+
+    @Test
+    public void testVerticalLineIndex() {
+        final Random random = new Random(2);
+        final List<VerticalSegment> lines = makeVerticalLines(random, 3000);
+        final VerticalLineIndex index = new VerticalLineIndex();
+        lines.forEach(index::addLine);
+
+        for (int i = 0; i < 500; i++) {
+            final Bounds b = makeBounds(random);
+            final Point2D p = new Point2D(b.getMinX(), b.getMinY());
+            assertEquals(matchReference(lines, VerticalSegment::getX1, b.getMinX(), true),
+                    index.matchWest(b, THRESHOLD));
+            assertEquals(matchReference(lines, VerticalSegment::getX1, b.getMaxX(), true),
+                    index.matchEast(b, THRESHOLD));
+            final List<VerticalSegment> crossing = new ArrayList<>();
+            for (VerticalSegment l : lines) {
+                if (p.getY() >= l.getY1() && p.getY() <= l.getY2()) {
+                    crossing.add(l);
+                }
+            }
+            assertEquals(matchReference(crossing, VerticalSegment::getX1, p.getX(), true),
+                    index.matchPoint(p, THRESHOLD));
+        }
+    }
+
+    @Test
+    public void testSegmentIndex() {
+        final Random random = new Random(3);
+        final List<AbstractSegment> segments = new ArrayList<>();
+        segments.addAll(makeHorizontalLines(random, 1500));
+        segments.addAll(makeVerticalLines(random, 1500));
+        final SegmentIndex index = new SegmentIndex();
+        segments.forEach(index::addSegment);
+
+        for (int i = 0; i < 500; i++) {
+            final double length = random.nextInt(400);
+            assertEquals(matchReference(segments, AbstractSegment::getLength, length, false),
+                    index.match(length, THRESHOLD));
+        }
+    }
+
+    @Test
+    public void testPointIndex() {
+        final Random random = new Random(4);
+        final List<Point2D> points = new ArrayList<>();
+        final PointIndex index = new PointIndex();
+        for (int i = 0; i < 3000; i++) {
+            final Point2D p = new Point2D(random.nextDouble() * 2000, random.nextDouble() * 2000);
+            points.add(p);
+            index.addPoint(p);
+        }
+
+        for (int i = 0; i < 500; i++) {
+            final Point2D target = new Point2D(random.nextDouble() * 2000, random.nextDouble() * 2000);
+            final List<Point2D> expected = new ArrayList<>();
+            double bestDelta = Double.MAX_VALUE;
+            for (Point2D p : points) {
+                final double delta = target.distance(p);
+                if (delta < THRESHOLD) {
+                    if (MathUtils.equals(delta, bestDelta)) {
+                        expected.add(p);
+                    } else if (delta < bestDelta) {
+                        bestDelta = delta;
+                        expected.clear();
+                        expected.add(p);
+                    }
+                }
+            }
+            expected.sort(new PointComparator());
+            assertEquals(expected, index.match(target, THRESHOLD));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        final HorizontalLineIndex index = new HorizontalLineIndex();
+        index.addLine(new HorizontalSegment(0, 100, 50));
+        assertEquals(1, index.matchNorth(new BoundingBox(0, 52, 10, 10), THRESHOLD).size());
+        index.clear();
+        assertTrue(index.isEmpty());
+        assertTrue(index.matchNorth(new BoundingBox(0, 52, 10, 10), THRESHOLD).isEmpty());
+        index.addLine(new HorizontalSegment(0, 100, 10));
+        index.addLine(new HorizontalSegment(0, 100, 54));
+        assertEquals(List.of(54.0), index.matchNorth(new BoundingBox(0, 52, 10, 10), THRESHOLD)
+                .stream().map(HorizontalSegment::getY1).toList());
+    }
+
+    /*
+     * Excluded from the default test run: mvn test -DexcludedTestGroups= -Dgroups=benchmark
+     */
+    @Test
+    @Tag("benchmark")
+    public void benchmark() {
+        final Random random = new Random(5);
+        final int lineCount = 5000;
+        final int queryCount = 2000;
+        final List<HorizontalSegment> lines = makeHorizontalLines(random, lineCount);
+        final HorizontalLineIndex index = new HorizontalLineIndex();
+        lines.forEach(index::addLine);
+        final List<Bounds> queries = new ArrayList<>();
+        for (int i = 0; i < queryCount; i++) {
+            queries.add(makeBounds(random));
+        }
+
+        // Reference sorts and scans all the lines on each query like the former implementation
+        int referenceMatches = 0;
+        final long t0 = System.nanoTime();
+        for (Bounds b : queries) {
+            referenceMatches += matchReference(lines, HorizontalSegment::getY1, b.getMinY(), true).size();
+        }
+        final long t1 = System.nanoTime();
+        int indexMatches = 0;
+        for (Bounds b : queries) {
+            indexMatches += index.matchNorth(b, THRESHOLD).size();
+        }
+        final long t2 = System.nanoTime();
+
+        assertEquals(referenceMatches, indexMatches);
+        System.out.printf("Guide match on %d lines: linear %.1f us, indexed %.1f us%n",
+                lineCount, (t1 - t0) / 1000.0 / queryCount, (t2 - t1) / 1000.0 / queryCount);
+    }
+
+    /*
+     * Private
+     */
+
+    private static List<HorizontalSegment> makeHorizontalLines(Random random, int count) {
+        final List<HorizontalSegment> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final double x1 = random.nextInt(2000);
+            // Integer coordinates so that several lines share the same y
+            result.add(new HorizontalSegment(x1, x1 + random.nextInt(400), random.nextInt(2000)));
+        }
+        return result;
+    }
+
+    private static List<VerticalSegment> makeVerticalLines(Random random, int count) {
+        final List<VerticalSegment> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final double y1 = random.nextInt(2000);
+            result.add(new VerticalSegment(random.nextInt(2000), y1, y1 + random.nextInt(400)));
+        }
+        return result;
+    }
+
+    private static Bounds makeBounds(Random random) {
+        return new BoundingBox(random.nextDouble() * 2000, random.nextDouble() * 2000,
+                1 + random.nextDouble() * 300, 1 + random.nextDouble() * 300);
+    }
+
+    /*
+     * Brute force matching: sorts objects (stable) and scans all of them.
+     */
+    private static <T> List<T> matchReference(List<T> objects, ToDoubleFunction<T> coordinate,
+            double target, boolean descending) {
+        final List<T> sorted = new ArrayList<>(objects);
+        final Comparator<T> comparator = Comparator.comparingDouble(coordinate);
+        sorted.sort(descending ? comparator.reversed() : comparator);
+        double bestDelta = Double.MAX_VALUE;
+        final List<T> result = new ArrayList<>();
+        for (T o : sorted) {
+            final double delta = Math.abs(coordinate.applyAsDouble(o) - target);
+            if (delta < THRESHOLD) {
+                if (MathUtils.equals(delta, bestDelta)) {
+                    result.add(o);
+                } else if (delta < bestDelta) {
+                    bestDelta = delta;
+                    result.clear();
+                    result.add(o);
+                }
+            }
+        }
+        return result;
+    }
+}
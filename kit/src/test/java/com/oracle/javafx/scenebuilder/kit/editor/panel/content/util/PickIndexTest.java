@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.content.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+
+public class PickIndexTest {
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_pick_index_returns_picker_results() throws Exception {
+        waitFor(() -> {
+            final Pane root = makeDocument(10, 10);
+            final Pane rotated = (Pane) root.getChildren().get(3);
+            rotated.setRotate(30);
+            root.getChildren().get(5).setVisible(false);
+            final Line line = new Line(0, 0, 500, 400);
+            root.getChildren().add(line);
+            final Node excluded = root.getChildren().get(7);
+
+            final Picker picker = new Picker();
+            picker.getExcludes().add(excluded);
+            final PickIndex pickIndex = new PickIndex();
+            pickIndex.reset(root, n -> true);
+
+            for (double x = -5; x < 1100; x += 7) {
+                for (double y = -5; y < 900; y += 7) {
+                    assertEquals(picker.pick(root, x, y), pickIndex.pick(root, x, y, picker.getExcludes()),
+                            "(" + x + ", " + y + ")");
+                }
+            }
+            final Node startNode = root.getChildren().get(12);
+            assertEquals(picker.pick(startNode, 125, 185), pickIndex.pick(startNode, 125, 185, picker.getExcludes()));
+            return null;
+        });
+    }
+
+    @Test
+    public void that_moved_and_filtered_nodes_are_handled() throws Exception {
+        waitFor(() -> {
+            final Pane root = makeDocument(2, 2);
+            final Pane container = (Pane) root.getChildren().get(0);
+            final PickIndex pickIndex = new PickIndex();
+            pickIndex.reset(root, n -> n instanceof Pane);
+
+            assertEquals(List.of(container, root), pickIndex.pick(root, 5, 5, Set.of()));
+            container.relocate(300, 300);
+            assertEquals(List.of(root), pickIndex.pick(root, 5, 5, Set.of()));
+            // Outside root bounds
+            assertEquals(List.of(container), pickIndex.pick(root, 305, 305, Set.of()));
+
+            final Pane other = (Pane) root.getChildren().get(1);
+            other.getChildren().add(container);
+            container.relocate(0, 0);
+            assertEquals(List.of(container, other, root),
+                    pickIndex.pick(root, other.getLayoutX() + 5, other.getLayoutY() + 5, Set.of()));
+
+            assertNull(pickIndex.pick(root, 1000, 1000, Set.of()));
+            assertFalse(pickIndex.isIndexing(new Pane()));
+            return null;
+        });
+    }
+
+    @Test
+    public void that_pick_index_matches_picker_on_5000_nodes() throws Exception {
+        waitFor(() -> {
+            // 50 x 10 containers holding 9 rectangles each
+            final Pane root = makeDocument(50, 10);
+            final Picker picker = new Picker();
+            final PickIndex pickIndex = new PickIndex();
+            pickIndex.reset(root, n -> true);
+
+            for (int i = 0; i < 2000; i++) {
+                final double x = (i * 37) % 5000;
+                final double y = (i * 53) % 900;
+                assertEquals(picker.pick(root, x, y), pickIndex.pick(root, x, y, Set.of()));
+            }
+            return null;
+        });
+    }
+
+    /*
+     * Excluded from the default test run: mvn test -DexcludedTestGroups= -Dgroups=benchmark
+     */
+    @Test
+    @Tag("benchmark")
+    public void benchmark_pick_on_5000_nodes() throws Exception {
+        waitFor(() -> {
+            final Pane root = makeDocument(50, 10);
+            final Picker picker = new Picker();
+            final PickIndex pickIndex = new PickIndex();
+            pickIndex.reset(root, n -> true);
+
+            final int pickCount = 2000;
+            final long t0 = System.nanoTime();
+            for (int i = 0; i < pickCount; i++) {
+                picker.pick(root, (i * 37) % 5000, (i * 53) % 900);
+            }
+            final long t1 = System.nanoTime();
+            for (int i = 0; i < pickCount; i++) {
+                pickIndex.pick(root, (i * 37) % 5000, (i * 53) % 900, Set.of());
+            }
+            final long t2 = System.nanoTime();
+
+            System.out.printf("Pick on %d nodes: Picker %.1f us, PickIndex %.1f us%n", //NOI18N
+                    countNodes(root), (t1 - t0) / 1000.0 / pickCount, (t2 - t1) / 1000.0 / pickCount);
+            return null;
+        });
+    }
+
+    /*
+     * columns x rows containers (100 x 80) holding 3 x 3 rectangles.
+     */
+    private static Pane makeDocument(int columns, int rows) {
+        final Pane root = new Pane();
+        root.resize(columns * 100, rows * 90);
+        for (int c = 0; c < columns; c++) {
+            for (int r = 0; r < rows; r++) {
+                final Pane container = new Pane();
+                container.relocate(c * 100, r * 90);
+                container.resize(100, 80);
+                for (int i = 0; i < 9; i++) {
+                    final Rectangle rectangle = new Rectangle(20, 20);
+                    rectangle.relocate(5 + (i % 3) * 30, 5 + (i / 3) * 25);
+                    container.getChildren().add(rectangle);
+                }
+                root.getChildren().add(container);
+            }
+        }
+        new Scene(root);
+        return root;
+    }
+
+    private static int countNodes(Node node) {
+        int result = 1;
+        if (node instanceof Pane) {
+            for (Node child : ((Pane) node).getChildren()) {
+                result += countNodes(child);
+            }
+        }
+        return result;
+    }
+
+    private static <T> T waitFor(Callable<T> callable) throws Exception {
+        final FutureTask<T> task = new FutureTask<>(callable);
+        if (Platform.isFxApplicationThread()) {
+            return callable.call();
+        } else {
+            Platform.runLater(task);
+            return task.get();
+        }
+    }
+}
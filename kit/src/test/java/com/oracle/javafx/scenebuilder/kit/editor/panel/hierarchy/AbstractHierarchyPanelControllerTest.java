@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.hierarchy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.FutureTask;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.TreeItem;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.editor.EditorController;
+import com.oracle.javafx.scenebuilder.kit.editor.job.BatchJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.DeleteObjectJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.InsertAsAccessoryJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.InsertAsSubComponentJob;
+import com.oracle.javafx.scenebuilder.kit.editor.job.atomic.RemoveObjectJob;
+import com.oracle.javafx.scenebuilder.kit.editor.panel.hierarchy.treeview.HierarchyTreeViewController;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMCloner;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMObject;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.DesignHierarchyMask.Accessory;
+
+public class AbstractHierarchyPanelControllerTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n" //NOI18N
+            + "<?import javafx.scene.control.Button?>\n" //NOI18N
+            + "<?import javafx.scene.control.Label?>\n" //NOI18N
+            + "<?import javafx.scene.layout.BorderPane?>\n" //NOI18N
+            + "<?import javafx.scene.layout.HBox?>\n" //NOI18N
+            + "<?import javafx.scene.layout.VBox?>\n" //NOI18N
+            + "<VBox fx:id=\"root\" xmlns:fx=\"http://javafx.com/fxml/1\">\n" //NOI18N
+            + "  <children>\n" //NOI18N
+            + "    <HBox fx:id=\"left\">\n" //NOI18N
+            + "      <children>\n" //NOI18N
+            + "        <VBox fx:id=\"box\">\n" //NOI18N
+            + "          <children>\n" //NOI18N
+            + "            <Button fx:id=\"a\" />\n" //NOI18N
+            + "          </children>\n" //NOI18N
+            + "        </VBox>\n" //NOI18N
+            + "      </children>\n" //NOI18N
+            + "    </HBox>\n" //NOI18N
+            + "    <HBox fx:id=\"right\" />\n" //NOI18N
+            + "    <BorderPane fx:id=\"pane\">\n" //NOI18N
+            + "      <top>\n" //NOI18N
+            + "        <Button fx:id=\"t\" />\n" //NOI18N
+            + "      </top>\n" //NOI18N
+            + "      <center>\n" //NOI18N
+            + "        <Label fx:id=\"x\" />\n" //NOI18N
+            + "      </center>\n" //NOI18N
+            + "    </BorderPane>\n" //NOI18N
+            + "  </children>\n" //NOI18N
+            + "</VBox>\n"; //NOI18N
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_moved_objects_keep_their_tree_item() throws Exception {
+        waitFor(() -> {
+            final HierarchyTreeViewController panel = makePanel();
+            final EditorController editor = panel.getEditorController();
+            final FXOMDocument fxomDocument = editor.getFxomDocument();
+            final FXOMObject left = find(fxomDocument, "left");
+            final FXOMObject right = find(fxomDocument, "right");
+            final FXOMObject box = find(fxomDocument, "box");
+            final TreeItem<HierarchyItem> boxItem = panel.lookupTreeItem(box);
+            final TreeItem<HierarchyItem> aItem = panel.lookupTreeItem(find(fxomDocument, "a"));
+            boxItem.setExpanded(true);
+            // Children of right are loaded, as for a displayed row
+            assertTrue(panel.lookupTreeItem(right).isLeaf());
+
+            // To a parent walked after the previous one
+            move(editor, box, right);
+
+            assertSame(boxItem, panel.lookupTreeItem(box));
+            assertTrue(boxItem.isExpanded());
+            assertEquals(List.of(aItem), boxItem.getChildren());
+            assertEquals(List.of(boxItem), panel.lookupTreeItem(right).getChildren());
+            assertTrue(panel.lookupTreeItem(left).getChildren().isEmpty());
+
+            // To a parent walked before the previous one
+            move(editor, box, left);
+
+            assertSame(boxItem, panel.lookupTreeItem(box));
+            assertTrue(boxItem.isExpanded());
+            assertEquals(List.of(aItem), boxItem.getChildren());
+            assertEquals(List.of(boxItem), panel.lookupTreeItem(left).getChildren());
+            assertTrue(panel.lookupTreeItem(right).getChildren().isEmpty());
+            assertSame(panel.lookupTreeItem(left), boxItem.getParent());
+            return null;
+        });
+    }
+
+    @Test
+    public void that_place_holders_are_reused_by_position() throws Exception {
+        waitFor(() -> {
+            final HierarchyTreeViewController panel = makePanel();
+            final EditorController editor = panel.getEditorController();
+            final FXOMDocument fxomDocument = editor.getFxomDocument();
+            final FXOMObject pane = find(fxomDocument, "pane");
+            final FXOMObject t = find(fxomDocument, "t");
+            final TreeItem<HierarchyItem> paneItem = panel.lookupTreeItem(pane);
+            // top, left, center, right, bottom
+            final List<TreeItem<HierarchyItem>> before = new ArrayList<>(paneItem.getChildren());
+            assertEquals(5, before.size());
+
+            final BatchJob job = new BatchJob(editor);
+            job.addSubJob(new RemoveObjectJob(t, editor));
+            job.addSubJob(new InsertAsAccessoryJob(t, pane, Accessory.BOTTOM, editor));
+            editor.getJobManager().push(job);
+
+            final List<TreeItem<HierarchyItem>> after = paneItem.getChildren();
+            assertSame(paneItem, panel.lookupTreeItem(pane));
+            assertEquals(5, after.size());
+            assertNotSame(before.get(0), after.get(0));
+            assertTrue(after.get(0).getValue().isEmpty());
+            assertSame(before.get(1), after.get(1));
+            assertSame(before.get(2), after.get(2));
+            assertSame(before.get(3), after.get(3));
+            assertNotSame(before.get(4), after.get(4));
+            assertSame(t, after.get(4).getValue().getFxomObject());
+            assertSame(after.get(4), panel.lookupTreeItem(t));
+            return null;
+        });
+    }
+
+    @Test
+    public void that_expanded_state_survives_removal() throws Exception {
+        waitFor(() -> {
+            final HierarchyTreeViewController panel = makePanel();
+            final EditorController editor = panel.getEditorController();
+            final FXOMDocument fxomDocument = editor.getFxomDocument();
+            final FXOMObject left = find(fxomDocument, "left");
+            final FXOMObject box = find(fxomDocument, "box");
+            final TreeItem<HierarchyItem> boxItem = panel.lookupTreeItem(box);
+            boxItem.setExpanded(true);
+            assertFalse(panel.lookupTreeItem(left).isExpanded());
+
+            editor.getJobManager().push(new DeleteObjectJob(left, editor));
+
+            assertNull(panel.lookupTreeItem(box));
+
+            editor.getJobManager().undo();
+
+            final TreeItem<HierarchyItem> newBoxItem = panel.lookupTreeItem(box);
+            assertNotNull(newBoxItem);
+            assertNotSame(boxItem, newBoxItem);
+            assertTrue(newBoxItem.isExpanded());
+            assertFalse(panel.lookupTreeItem(left).isExpanded());
+            return null;
+        });
+    }
+
+    @Test
+    public void that_collapsed_branches_are_not_built() throws Exception {
+        waitFor(() -> {
+            final HierarchyTreeViewController panel = makePanel();
+            final FXOMDocument fxomDocument = panel.getEditorController().getFxomDocument();
+
+            assertNotNull(panel.peekTreeItem(fxomDocument.getFxomRoot()));
+            // box is collapsed (or not even built)
+            assertNull(panel.peekTreeItem(find(fxomDocument, "a")));
+            return null;
+        });
+    }
+
+    @Test
+    public void that_lookup_builds_the_ancestor_chain() throws Exception {
+        waitFor(() -> {
+            final HierarchyTreeViewController panel = makePanel();
+            final FXOMDocument fxomDocument = panel.getEditorController().getFxomDocument();
+            final FXOMObject a = find(fxomDocument, "a");
+            assertNull(panel.peekTreeItem(a));
+
+            final TreeItem<HierarchyItem> aItem = panel.lookupTreeItem(a);
+
+            assertNotNull(aItem);
+            assertSame(aItem, panel.peekTreeItem(a));
+            assertSame(a, aItem.getValue().getFxomObject());
+            final TreeItem<HierarchyItem> boxItem = panel.peekTreeItem(find(fxomDocument, "box"));
+            final TreeItem<HierarchyItem> leftItem = panel.peekTreeItem(find(fxomDocument, "left"));
+            assertSame(boxItem, aItem.getParent());
+            assertSame(leftItem, boxItem.getParent());
+            assertSame(panel.peekTreeItem(fxomDocument.getFxomRoot()), leftItem.getParent());
+            assertSame(aItem, panel.lookupTreeItem(a));
+            return null;
+        });
+    }
+
+    @Test
+    public void that_revisions_only_update_loaded_tree_items() throws Exception {
+        waitFor(() -> {
+            final HierarchyTreeViewController panel = makePanel();
+            final EditorController editor = panel.getEditorController();
+            final FXOMDocument fxomDocument = editor.getFxomDocument();
+            final FXOMObject a = find(fxomDocument, "a");
+            final FXOMObject box = find(fxomDocument, "box");
+            final TreeItem<HierarchyItem> rootItem = panel.lookupTreeItem(fxomDocument.getFxomRoot());
+            final TreeItem<HierarchyItem> leftItem = panel.lookupTreeItem(find(fxomDocument, "left"));
+
+            // Inserted in a branch whose children were never requested
+            final FXOMObject copy = new FXOMCloner(fxomDocument).clone(a);
+            editor.getJobManager().push(new InsertAsSubComponentJob(copy, box, -1, editor));
+
+            assertSame(rootItem, panel.peekTreeItem(fxomDocument.getFxomRoot()));
+            assertSame(leftItem, panel.peekTreeItem(find(fxomDocument, "left")));
+            assertNull(panel.peekTreeItem(a));
+            assertNull(panel.peekTreeItem(copy));
+
+            // Branch is built from the current document when requested
+            final TreeItem<HierarchyItem> boxItem = panel.lookupTreeItem(box);
+            assertEquals(2, boxItem.getChildren().size());
+            assertSame(panel.peekTreeItem(a), boxItem.getChildren().get(0));
+            assertSame(panel.peekTreeItem(copy), boxItem.getChildren().get(1));
+            return null;
+        });
+    }
+
+    /*
+     * Private
+     */
+
+    private static HierarchyTreeViewController makePanel() throws Exception {
+        final EditorController editor = new EditorController();
+        final HierarchyTreeViewController result = new HierarchyTreeViewController(editor);
+        new Scene(result.getPanelRoot());
+        editor.setFxmlText(FXML_TEXT, false);
+        return result;
+    }
+
+    private static FXOMObject find(FXOMDocument fxomDocument, String fxId) {
+        final FXOMObject result = fxomDocument.searchWithFxId(fxId);
+        assertNotNull(result, fxId);
+        return result;
+    }
+
+    /*
+     * Moves fxomObject in a single update, like a drag and drop.
+     */
+    private static void move(EditorController editor, FXOMObject fxomObject, FXOMObject newParent) {
+        final BatchJob job = new BatchJob(editor);
+        job.addSubJob(new RemoveObjectJob(fxomObject, editor));
+        job.addSubJob(new InsertAsSubComponentJob(fxomObject, newParent, -1, editor));
+        editor.getJobManager().push(job);
+    }
+
+    private static <T> T waitFor(Callable<T> callable) throws Exception {
+        final FutureTask<T> task = new FutureTask<>(callable);
+        if (Platform.isFxApplicationThread()) {
+            return callable.call();
+        } else {
+            Platform.runLater(task);
+            return task.get();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.library;
+
+import com.oracle.javafx.scenebuilder.kit.library.Library;
+import com.oracle.javafx.scenebuilder.kit.library.LibraryItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LibraryItemIndexTest {
+
+    private final Library library = new Library() {
+        @Override
+        public Comparator<String> getSectionComparator() {
+            return Comparator.naturalOrder();
+        }
+    };
+
+    @Test
+    public void that_matches_are_ranked() {
+        final LibraryItemIndex index = new LibraryItemIndex(List.of(
+                item("ToggleButton", "Controls"),
+                item("Button", "Controls"),
+                item("MenuButton", "Menu"),
+                item("Accordion (empty)", "Containers"),
+                item("ButtonBar", "Containers"),
+                item("Rectangle", "Shapes")));
+
+        assertEquals(List.of("Button", "ButtonBar", "MenuButton", "ToggleButton"), names(index.search("button")));
+        // Qualifiers are part of the name
+        assertEquals(List.of("Accordion (empty)"), names(index.search("EMPT")));
+        // Section matches come last
+        assertEquals(List.of("MenuButton"), names(index.search("menu")));
+        assertEquals(List.of("Rectangle"), names(index.search("shape")));
+        assertTrue(index.search("").isEmpty());
+        assertTrue(index.search("xyz").isEmpty());
+    }
+
+    @Test
+    public void that_typing_narrows_previous_matches() {
+        final List<LibraryItem> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add(item("Control" + i, "Custom"));
+        }
+        final LibraryItemIndex index = new LibraryItemIndex(items);
+
+        assertEquals(5000, index.search("c").size());
+        assertEquals(5000, index.search("co").size());
+        assertEquals(1111, index.search("control1").size());
+        assertEquals(111, index.search("control12").size());
+        assertEquals(List.of("Control123", "Control1230", "Control1231"),
+                names(index.search("control123")).subList(0, 3));
+        // Deleting a character widens the search again
+        assertEquals(1111, index.search("control1").size());
+        assertEquals(List.of("Control4999"), names(index.search("l4999")));
+    }
+
+    private LibraryItem item(String name, String section) {
+        return new LibraryItem(name, section, "", null, library);
+    }
+
+    private static List<String> names(List<LibraryItem> items) {
+        final List<String> result = new ArrayList<>();
+        for (LibraryItem item : items) {
+            result.add(item.getName());
+        }
+        return result;
+    }
+}
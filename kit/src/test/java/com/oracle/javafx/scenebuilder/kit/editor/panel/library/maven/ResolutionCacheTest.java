@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven;
+
+import org.eclipse.aether.artifact.Artifact;
+import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.repository.RemoteRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResolutionCacheTest {
+
+    private static final RemoteRepository CENTRAL
+            = new RemoteRepository.Builder("central", "default", "https://repo.maven.apache.org/maven2/").build();
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void that_resolutions_are_saved_across_instances() throws Exception {
+        final Path cacheFile = tempDir.resolve("cache.properties");
+        final Artifact artifact = new DefaultArtifact("org.example:widgets:1.0");
+        final Path jar = makeFile("widgets-1.0.jar");
+        final Path dependency = makeFile("tool-2.0.jar");
+
+        final ResolutionCache cache = new ResolutionCache(cacheFile);
+        assertNull(cache.get(ResolutionCache.ARTIFACT, artifact, CENTRAL));
+        cache.put(ResolutionCache.ARTIFACT, artifact, CENTRAL, List.of(jar));
+        cache.put(ResolutionCache.DEPENDENCIES, artifact, CENTRAL, List.of(dependency));
+
+        final ResolutionCache reloaded = new ResolutionCache(cacheFile);
+        assertEquals(List.of(jar), reloaded.get(ResolutionCache.ARTIFACT, artifact, CENTRAL));
+        assertEquals(List.of(dependency), reloaded.get(ResolutionCache.DEPENDENCIES, artifact, CENTRAL));
+        assertNull(reloaded.get(ResolutionCache.ARTIFACT, artifact, null));
+        assertNull(reloaded.get(ResolutionCache.ARTIFACT, new DefaultArtifact("org.example:widgets:1.1"), CENTRAL));
+    }
+
+    @Test
+    public void that_entries_with_missing_files_are_ignored() throws Exception {
+        final Artifact artifact = new DefaultArtifact("org.example:widgets:1.0");
+        final Path jar = makeFile("widgets-1.0.jar");
+
+        final ResolutionCache cache = new ResolutionCache(null);
+        cache.put(ResolutionCache.ARTIFACT, artifact, null, List.of(jar));
+        assertEquals(List.of(jar), cache.get(ResolutionCache.ARTIFACT, artifact, null));
+
+        Files.delete(jar);
+        assertNull(cache.get(ResolutionCache.ARTIFACT, artifact, null));
+    }
+
+    @Test
+    public void that_empty_dependencies_are_cached() {
+        final Artifact artifact = new DefaultArtifact("org.example:widgets:1.0");
+
+        final ResolutionCache cache = new ResolutionCache(null);
+        cache.put(ResolutionCache.DEPENDENCIES, artifact, CENTRAL, List.of());
+        assertEquals(List.of(), cache.get(ResolutionCache.DEPENDENCIES, artifact, CENTRAL));
+    }
+
+    @Test
+    public void that_snapshots_are_not_cached() throws Exception {
+        final Artifact artifact = new DefaultArtifact("org.example:widgets:1.0-SNAPSHOT");
+        final Path jar = makeFile("widgets-1.0-SNAPSHOT.jar");
+
+        final ResolutionCache cache = new ResolutionCache(null);
+        cache.put(ResolutionCache.ARTIFACT, artifact, CENTRAL, List.of(jar));
+        assertNull(cache.get(ResolutionCache.ARTIFACT, artifact, CENTRAL));
+    }
+
+    private Path makeFile(String name) throws IOException {
+        return Files.write(tempDir.resolve(name), new byte[] { 1 }).toAbsolutePath();
+    }
+}
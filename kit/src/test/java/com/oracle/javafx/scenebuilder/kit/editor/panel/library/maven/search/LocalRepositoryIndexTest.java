@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.editor.panel.library.maven.search;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LocalRepositoryIndexTest {
+
+    private static final FileTime LAST_YEAR = FileTime.fromMillis(System.currentTimeMillis() - 365L * 24 * 3600 * 1000);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void that_folders_with_jars_are_indexed() throws Exception {
+        final Path repository = tempDir.resolve("repository");
+        makeFile(repository, "org/example/widgets/1.0/widgets-1.0.jar");
+        makeFile(repository, "org/example/widgets/1.1/widgets-1.1.jar");
+        makeFile(repository, "com/acme/tool/2.0/tool-2.0.pom");
+
+        final LocalRepositoryIndex index = new LocalRepositoryIndex(repository, null);
+        assertEquals(List.of("org.example:widgets:[0,)"), index.search("example"));
+        assertTrue(index.search("acme").isEmpty());
+
+        makeFile(repository, "com/acme/tool/2.0/tool-2.0.jar");
+        Files.delete(repository.resolve("org/example/widgets/1.0/widgets-1.0.jar"));
+        Files.delete(repository.resolve("org/example/widgets/1.1/widgets-1.1.jar"));
+        index.update().get();
+        assertEquals(List.of("com.acme:tool:[0,)"), index.search("acme"));
+        assertTrue(index.search("example").isEmpty());
+    }
+
+    @Test
+    public void that_saved_index_is_updated_from_folder_times() throws Exception {
+        final Path repository = tempDir.resolve("repository");
+        final Path indexFile = tempDir.resolve("index.bin");
+        makeFile(repository, "org/example/widgets/1.0/widgets-1.0.jar");
+        makeFile(repository, "com/acme/tool/2.0/tool-2.0.pom");
+        setFolderTimes(repository, LAST_YEAR);
+        new LocalRepositoryIndex(repository, indexFile).update().get();
+        assertTrue(Files.exists(indexFile));
+
+        // Folder time is unchanged : the folder is not listed again
+        makeFile(repository, "com/acme/tool/2.0/tool-2.0.jar");
+        Files.setLastModifiedTime(repository.resolve("com/acme/tool/2.0"), LAST_YEAR);
+        // New folder changes the time of its parent
+        makeFile(repository, "org/example/gadgets/1.0/gadgets-1.0.jar");
+
+        final LocalRepositoryIndex index = new LocalRepositoryIndex(repository, indexFile);
+        index.update().get();
+        assertEquals(List.of("org.example:gadgets:[0,)", "org.example:widgets:[0,)"), index.search("org"));
+        assertTrue(index.search("acme").isEmpty());
+    }
+
+    private static void makeFile(Path repository, String path) throws IOException {
+        final Path file = repository.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, path);
+    }
+
+    private static void setFolderTimes(Path repository, FileTime time) throws IOException {
+        try (Stream<Path> paths = Files.walk(repository)) {
+            for (Path folder : paths.filter(Files::isDirectory).collect(Collectors.toList())) {
+                Files.setLastModifiedTime(folder, time);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.List;
+
+import javafx.scene.layout.VBox;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+
+public class FXOMArchiveTest {
+
+    private static final int LABEL_COUNT = 1000;
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_archive_text_matches_new_document_text() throws Exception {
+        FXOMObject box = load().searchWithFxId("box");
+
+        FXOMArchive archive = new FXOMArchive(List.of(box));
+
+        assertEquals(FXOMNodes.newDocument(box).getFxmlText(false), archive.getEntries().get(0).getFxmlText());
+    }
+
+    @Test
+    public void that_document_without_scene_graph_is_not_left_updating() throws Exception {
+        FXOMObject box = load().searchWithFxId("box");
+
+        FXOMDocument document = FXOMNodes.newDocumentWithoutSceneGraph(box);
+
+        assertFalse(document.isUpdateOnGoing());
+        assertEquals(FXOMDocument.RefreshMode.NONE, document.getRefreshMode());
+        assertNull(document.getFxomRoot().getSceneGraphObject());
+        assertNull(document.getSceneGraphRoot());
+        assertEquals(FXOMNodes.newDocument(box).getFxmlText(false), document.getFxmlText(false));
+    }
+
+    @Test
+    public void that_decoded_objects_have_scene_graph_objects() throws Exception {
+        FXOMDocument source = load();
+        FXOMObject box = source.searchWithFxId("box");
+        FXOMDocument target = new FXOMDocument();
+
+        List<FXOMObject> decoded = new FXOMArchive(List.of(box)).decode(target);
+
+        assertEquals(1, decoded.size());
+        assertSame(target, decoded.get(0).getFxomDocument());
+        assertTrue(decoded.get(0).getSceneGraphObject() instanceof VBox);
+        assertEquals(LABEL_COUNT, ((VBox) decoded.get(0).getSceneGraphObject()).getChildren().size());
+    }
+
+    @Test
+    public void that_archive_survives_serialization() throws Exception {
+        FXOMObject box = load().searchWithFxId("box");
+        FXOMArchive archive = new FXOMArchive(List.of(box));
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(archive);
+        }
+        FXOMArchive copy;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            copy = (FXOMArchive) ois.readObject();
+        }
+
+        assertEquals(archive.getEntries().get(0).getFxmlText(), copy.getEntries().get(0).getFxmlText());
+    }
+
+    /*
+     * Private
+     */
+
+    private static FXOMDocument load() throws Exception {
+        StringBuilder fxmlText = new StringBuilder();
+        fxmlText.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n\n");
+        fxmlText.append("<?import javafx.scene.control.Label?>\n");
+        fxmlText.append("<?import javafx.scene.layout.VBox?>\n\n");
+        fxmlText.append("<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n   <children>\n");
+        fxmlText.append("      <VBox fx:id=\"box\">\n         <children>\n");
+        for (int i = 0; i < LABEL_COUNT; i++) {
+            fxmlText.append("            <Label fx:id=\"label").append(i).append("\" text=\"Label ");
+            fxmlText.append(i).append("\" />\n");
+        }
+        fxmlText.append("         </children>\n      </VBox>\n   </children>\n</VBox>\n");
+        return new FXOMDocument(fxmlText.toString(), null, null, null);
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+
+public class FXOMClonerTest {
+
+    private static final String FXML_TEXT
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n\n"
+            + "<?import javafx.scene.control.Button?>\n"
+            + "<?import javafx.scene.control.Label?>\n"
+            + "<?import javafx.scene.layout.VBox?>\n\n"
+            + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+            + "   <children>\n"
+            + "      <VBox fx:id=\"box\">\n"
+            + "         <children>\n"
+            + "            <Button fx:id=\"button\" text=\"A\" />\n"
+            + "            <Button fx:id=\"button1\" text=\"B\" />\n"
+            + "            <Label fx:id=\"labelA\" labelFor=\"$button\" text=\"A\" />\n"
+            + "            <Label fx:id=\"labelB\" labelFor=\"$button1\" text=\"B\" />\n"
+            + "         </children>\n"
+            + "      </VBox>\n"
+            + "   </children>\n"
+            + "</VBox>\n";
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_renamed_fx_ids_keep_references_consistent() throws Exception {
+        FXOMDocument document = new FXOMDocument(FXML_TEXT, null, null, null);
+        FXOMObject box = document.searchWithFxId("box");
+
+        FXOMObject clone = new FXOMCloner(document).clone(box);
+
+        Set<String> cloneFxIds = clone.collectFxIds().keySet();
+        Set<String> documentFxIds = new HashSet<>(document.collectFxIds().keySet());
+        documentFxIds.retainAll(cloneFxIds);
+        assertEquals(Set.of(), documentFxIds);
+        assertEquals(4, cloneFxIds.size());
+
+        FXOMInstance cloneBox = (FXOMInstance) clone;
+        FXOMPropertyC children = (FXOMPropertyC) cloneBox.getProperties().get(new PropertyName("children"));
+        String buttonA = children.getValues().get(0).getFxId();
+        String buttonB = children.getValues().get(1).getFxId();
+        assertNotEquals(buttonA, buttonB);
+        assertEquals("$" + buttonA, getLabelFor(children.getValues().get(2)));
+        assertEquals("$" + buttonB, getLabelFor(children.getValues().get(3)));
+    }
+
+    @Test
+    public void that_cloning_leaves_target_document_clean() throws Exception {
+        FXOMDocument document = new FXOMDocument(FXML_TEXT, null, null, null);
+        document.refreshSceneGraph();
+        FXOMObject box = document.searchWithFxId("box");
+
+        FXOMObject clone = new FXOMCloner(document).clone(box);
+
+        assertNull(clone.getParentObject());
+        assertFalse(document.isDirty(clone));
+        assertFalse(document.isDirty(box));
+        assertFalse(document.isDirty(document.getFxomRoot()));
+    }
+
+    /*
+     * Private
+     */
+
+    private static String getLabelFor(FXOMObject label) {
+        FXOMInstance instance = (FXOMInstance) label;
+        return ((FXOMPropertyT) instance.getProperties().get(new PropertyName("labelFor"))).getValue();
+    }
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022, Gluon and/or its affiliates.
+ * Copyright (c) 2021, 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -34,6 +34,8 @@ package com.oracle.javafx.scenebuilder.kit.fxom;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -282,6 +284,34 @@ public class FXOMDocumentTest {
         assertTrue(t.getMessage().contains("Bug in FXOMRefresher"));
     }
 
+    @Test
+    public void that_lookups_follow_fxom_mutations() throws Exception {
+        URL resource = getClass().getResource("IncrementalRefresh.fxml");
+        String validFxmlText = FXOMDocument.readContentFromURL(resource);
+        FXOMDocument classUnderTest = new FXOMDocument(validFxmlText, resource, null, null);
+        FXOMFxIdIndex fxIdIndex = new FXOMFxIdIndex(classUnderTest);
+        FXOMObject button = classUnderTest.searchWithFxId("leftButton");
+        assertSame(button, classUnderTest.searchWithSceneGraphObject(button.getSceneGraphObject()));
+
+        classUnderTest.beginUpdate();
+        button.setFxId("renamedButton");
+        classUnderTest.endUpdate();
+
+        assertNull(classUnderTest.searchWithFxId("leftButton"));
+        assertSame(button, classUnderTest.searchWithFxId("renamedButton"));
+        assertSame(button, fxIdIndex.lookup("renamedButton"));
+        assertSame(button, classUnderTest.searchWithSceneGraphObject(button.getSceneGraphObject()));
+
+        Object sceneGraphButton = button.getSceneGraphObject();
+        classUnderTest.beginUpdate();
+        button.removeFromParentObject();
+        classUnderTest.endUpdate();
+
+        assertNull(classUnderTest.searchWithFxId("renamedButton"));
+        assertNull(classUnderTest.searchWithSceneGraphObject(sceneGraphButton));
+        assertFalse(fxIdIndex.getFxIds().containsKey("renamedButton"));
+    }
+
     private <T> T waitFor(Callable<T> callable) throws Exception {
         FutureTask<T> task = new FutureTask<T>(callable);
         if (Platform.isFxApplicationThread()) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.net.URL;
+
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.control.Label;
+import javafx.scene.control.Labeled;
+import javafx.scene.layout.VBox;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.metadata.util.PropertyName;
+
+public class FXOMRefresherTest {
+
+    @BeforeAll
+    public static void init() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_incremental_refresh_only_rebuilds_modified_subtree() throws Exception {
+        FXOMDocument document = load(FXOMDocument.RefreshMode.INCREMENTAL);
+        FXOMObject left = document.searchWithFxId("leftButton");
+        FXOMObject right = document.searchWithFxId("rightButton");
+        Object leftBefore = left.getSceneGraphObject();
+        Object rightBefore = right.getSceneGraphObject();
+
+        setText(document, "leftButton", "Changed");
+
+        assertNotSame(leftBefore, left.getSceneGraphObject());
+        assertSame(rightBefore, right.getSceneGraphObject());
+        assertEquals("Changed", ((Labeled) left.getSceneGraphObject()).getText());
+        VBox box = (VBox) document.searchWithFxId("box").getSceneGraphObject();
+        assertSame(left.getSceneGraphObject(), box.getChildren().get(0));
+    }
+
+    @Test
+    public void that_references_escalate_to_enclosing_subtree() throws Exception {
+        FXOMDocument document = load(FXOMDocument.RefreshMode.INCREMENTAL);
+        FXOMObject left = document.searchWithFxId("leftButton");
+        Object leftBefore = left.getSceneGraphObject();
+
+        setText(document, "rightButton", "Changed");
+
+        Label label = (Label) document.searchWithFxId("rightLabel").getSceneGraphObject();
+        assertSame(document.searchWithFxId("rightButton").getSceneGraphObject(), label.getLabelFor());
+        assertSame(leftBefore, left.getSceneGraphObject());
+    }
+
+    @Test
+    public void that_incremental_and_full_refresh_produce_same_scene_graph() throws Exception {
+        FXOMDocument incremental = load(FXOMDocument.RefreshMode.INCREMENTAL);
+        FXOMDocument full = load(FXOMDocument.RefreshMode.FULL);
+
+        for (FXOMDocument document : new FXOMDocument[] { incremental, full }) {
+            setText(document, "leftButton", "Changed");
+            addLabel(document, "box", "Added");
+            setText(document, "rightLabel", "Renamed");
+        }
+
+        assertEquals(describe(full.getSceneGraphRoot()), describe(incremental.getSceneGraphRoot()));
+    }
+
+    /*
+     * Private
+     */
+
+    private FXOMDocument load(FXOMDocument.RefreshMode refreshMode) throws Exception {
+        URL resource = getClass().getResource("IncrementalRefresh.fxml");
+        String fxmlText = FXOMDocument.readContentFromURL(resource);
+        FXOMDocument document = new FXOMDocument(fxmlText, resource, null, null);
+        document.setRefreshMode(refreshMode);
+        return document;
+    }
+
+    private static void setText(FXOMDocument document, String fxId, String text) {
+        FXOMInstance instance = (FXOMInstance) document.searchWithFxId(fxId);
+        FXOMPropertyT property = (FXOMPropertyT) instance.getProperties().get(new PropertyName("text"));
+        document.beginUpdate();
+        property.setValue(text);
+        document.endUpdate();
+    }
+
+    private static void addLabel(FXOMDocument document, String parentFxId, String text) {
+        FXOMInstance parent = (FXOMInstance) document.searchWithFxId(parentFxId);
+        FXOMPropertyC children = (FXOMPropertyC) parent.getProperties().get(new PropertyName("children"));
+        FXOMInstance label = new FXOMInstance(document, Label.class);
+        FXOMPropertyT labelText = new FXOMPropertyT(document, new PropertyName("text"), text);
+        document.beginUpdate();
+        labelText.addToParentInstance(-1, label);
+        label.addToParentProperty(-1, children);
+        document.endUpdate();
+    }
+
+    private static String describe(Object sceneGraphObject) {
+        StringBuilder result = new StringBuilder();
+        describe(sceneGraphObject, result);
+        return result.toString();
+    }
+
+    private static void describe(Object sceneGraphObject, StringBuilder result) {
+        result.append(sceneGraphObject.getClass().getSimpleName());
+        if (sceneGraphObject instanceof Labeled labeled) {
+            result.append('[').append(labeled.getText()).append(']');
+        }
+        if (sceneGraphObject instanceof Parent parent) {
+            result.append('(');
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                describe(child, result);
+            }
+            result.append(')');
+        }
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom.glue;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+public class GlueDocumentTest {
+
+    @Test
+    public void that_copy_matches_source_on_fxml_resources() throws Exception {
+        for (Path fxmlFile : GlueLoaderTest.collectFxmlFiles()) {
+            String xmlText = Files.readString(fxmlFile, StandardCharsets.UTF_8);
+            GlueDocument source;
+            try {
+                source = new GlueDocument(xmlText);
+            } catch (Exception x) {
+                // Some resources are broken on purpose
+                continue;
+            }
+
+            GlueDocument copy = new GlueDocument(source);
+            assertEquals(GlueLoaderTest.describe(source), GlueLoaderTest.describe(copy), fxmlFile.toString());
+            assertEquals(source.toString(), copy.toString(), fxmlFile.toString());
+        }
+    }
+
+    @Test
+    public void that_copy_flattens_synthetic_elements() throws Exception {
+        GlueDocument source = new GlueDocument(
+                "<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+                + "   <Button fx:id=\"b1\" />\n"
+                + "   <Label text=\"L\" />\n"
+                + "</VBox>\n");
+        GlueElement root = source.getRootElement();
+        GlueElement firstChild = root.getChildren().get(0);
+        GlueElement secondChild = root.getChildren().get(1);
+        GlueElement children = new GlueElement(source, "children", root);
+        children.setSynthetic(true);
+        children.addBefore(firstChild);
+        firstChild.addToParent(children);
+        secondChild.addToParent(children);
+
+        GlueDocument copy = new GlueDocument(source);
+        GlueDocument reloaded = new GlueDocument(source.toString());
+
+        assertEquals(GlueLoaderTest.describe(reloaded), GlueLoaderTest.describe(copy));
+        assertEquals(2, copy.getRootElement().getChildren().size());
+        assertNotSame(firstChild, copy.getRootElement().getChildren().get(0));
+        assertSame(copy, copy.getRootElement().getChildren().get(0).getDocument());
+    }
+
+    @Test
+    public void that_channel_output_matches_text() throws Exception {
+        StringBuilder xmlText = new StringBuilder();
+        xmlText.append("<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n");
+        for (int i = 0; i < 2000; i++) {
+            xmlText.append("   <Label fx:id=\"l").append(i).append("\" text=\"&lt;\u00e9&amp;&#9;\u4e2d\" />\n");
+        }
+        xmlText.append("</VBox>\n");
+        GlueDocument document = new GlueDocument(xmlText.toString());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        document.writeTo(Channels.newChannel(bytes));
+
+        assertArrayEquals(document.toString().getBytes(StandardCharsets.UTF_8), bytes.toByteArray());
+        assertTrue(document.toString().contains("text=\"&lt;\u00e9&amp;&#9;\u4e2d\""));
+    }
+
+    @Test
+    public void that_attribute_order_follows_mutations() throws Exception {
+        GlueDocument document = new GlueDocument(
+                "<Button xmlns:fx=\"http://javafx.com/fxml/1\" fx:id=\"ok\" text=\"OK\" />");
+        GlueElement root = document.getRootElement();
+        assertTrue(document.toString().contains("<Button fx:id=\"ok\" text=\"OK\" xmlns:fx="));
+
+        // Auto-generated fx:id goes at the end
+        root.getAttributes().put("fx:id", "x1");
+        assertTrue(document.toString().contains(
+                "<Button text=\"OK\" xmlns:fx=\"http://javafx.com/fxml/1\" fx:id=\"x1\""));
+
+        root.getAttributes().put("layoutX", "10");
+        assertTrue(document.toString().contains("<Button layoutX=\"10\" text=\"OK\""));
+
+        root.getAttributes().entrySet().removeIf(e -> e.getKey().equals("layoutX"));
+        root.getAttributes().entrySet().iterator().next().setValue("v");
+        GlueDocument reloaded = new GlueDocument(document.toString());
+        assertEquals(reloaded.getRootElement().getAttributes(), root.getAttributes());
+        assertFalse(document.toString().contains("layoutX"));
+    }
+
+    @Test
+    public void that_revision_follows_mutations() throws Exception {
+        GlueDocument document = new GlueDocument(
+                "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n"
+                + "   <children>\n"
+                + "      <Label text=\"A\" />\n"
+                + "      <HBox>\n"
+                + "         <children>\n"
+                + "            <Label text=\"B\">C</Label>\n"
+                + "         </children>\n"
+                + "      </HBox>\n"
+                + "   </children>\n"
+                + "</VBox>\n");
+        GlueElement children = document.getRootElement().getChildren().get(0);
+        GlueElement labelA = children.getChildren().get(0);
+        GlueElement hbox = children.getChildren().get(1);
+        GlueElement labelB = hbox.getChildren().get(0).getChildren().get(0);
+
+        document.updateIndent();
+        long revision = document.getRevision();
+        document.toString();
+        document.updateIndent();
+        assertEquals(revision, document.getRevision());
+
+        labelB.getAttributes().put("text", "B2");
+        revision = assertRevisionChanged(document, revision);
+        labelB.setContentText("C2");
+        revision = assertRevisionChanged(document, revision);
+        labelB.setTagName("Button");
+        revision = assertRevisionChanged(document, revision);
+        document.getHeader().add(new GlueInstruction(document, "import", "javafx.scene.control.*"));
+        revision = assertRevisionChanged(document, revision);
+
+        // Moving a subtree re-indents it
+        labelB.addToParent(children);
+        document.updateIndent();
+        revision = assertRevisionChanged(document, revision);
+        assertTrue(document.toString().contains("\n      <Button text=\"B2\">C2</Button>\n"));
+
+        labelA.removeFromParent();
+        assertRevisionChanged(document, revision);
+        assertFalse(document.toString().contains("\"A\""));
+    }
+
+    private static long assertRevisionChanged(GlueDocument document, long previousRevision) {
+        assertNotEquals(previousRevision, document.getRevision());
+        return document.getRevision();
+    }
+
+    @Test
+    public void that_snapshot_matches_source_on_fxml_resources() throws Exception {
+        for (Path fxmlFile : GlueLoaderTest.collectFxmlFiles()) {
+            String xmlText = Files.readString(fxmlFile, StandardCharsets.UTF_8);
+            GlueDocument source;
+            try {
+                source = new GlueDocument(xmlText);
+            } catch (Exception x) {
+                // Some resources are broken on purpose
+                continue;
+            }
+            GlueDocument decoded = new GlueDocument(source.makeSnapshot());
+
+            assertEquals(GlueLoaderTest.describe(source), GlueLoaderTest.describe(decoded), fxmlFile.toString());
+            assertEquals(source.toString(), decoded.toString(), fxmlFile.toString());
+        }
+    }
+
+    @Test
+    public void that_snapshot_is_smaller_than_text() throws Exception {
+        StringBuilder xmlText = new StringBuilder();
+        xmlText.append("<?import javafx.scene.control.Label?>\n");
+        xmlText.append("<VBox xmlns:fx=\"http://javafx.com/fxml/1\">\n   <children>\n");
+        for (int i = 0; i < 1000; i++) {
+            xmlText.append("      <Label fx:id=\"l").append(i).append("\" text=\"Label\" />\n");
+        }
+        xmlText.append("   </children>\n</VBox>\n");
+        GlueDocument source = new GlueDocument(xmlText.toString());
+        GlueElement children = source.getRootElement().getChildren().get(0);
+        children.setSynthetic(true);
+
+        byte[] snapshot = source.makeSnapshot();
+        GlueDocument decoded = new GlueDocument(snapshot);
+
+        assertTrue(snapshot.length < source.toString().length() / 2);
+        assertEquals(source.toString(), decoded.toString());
+        assertEquals(1000, decoded.getRootElement().getChildren().size());
+        assertFalse(decoded.getRootElement().getChildren().get(0).isSynthetic());
+    }
+
+    @Test
+    public void that_malformed_snapshot_raises_IOException() throws Exception {
+        byte[] snapshot = new GlueDocument("<Button text=\"OK\" />").makeSnapshot();
+
+        assertThrows(IOException.class, () -> new GlueDocument(new byte[] { 1, 2, 3, 4 }));
+        assertThrows(IOException.class, () -> new GlueDocument(Arrays.copyOf(snapshot, snapshot.length - 1)));
+    }
+}
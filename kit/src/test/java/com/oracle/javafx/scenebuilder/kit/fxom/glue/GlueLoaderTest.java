@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.fxom.glue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Compares the StAX based GlueLoader with the former SAX implementation.
+ * Consecutive TEXT characters are merged before comparison : SAX splits
+ * text runs at arbitrary places whereas GlueLoader keeps them in one piece.
+ */
+public class GlueLoaderTest {
+
+    @Test
+    public void that_stax_loader_matches_sax_loader_on_fxml_resources() throws Exception {
+        List<Path> fxmlFiles = collectFxmlFiles();
+        assertFalse(fxmlFiles.isEmpty());
+
+        for (Path fxmlFile : fxmlFiles) {
+            String xmlText = Files.readString(fxmlFile, StandardCharsets.UTF_8);
+            if (GlueDocument.isEmptyXmlText(xmlText)) {
+                continue;
+            }
+
+            GlueDocument saxDocument = new GlueDocument();
+            boolean saxFailed;
+            try {
+                new SaxGlueLoader(saxDocument).load(xmlText);
+                saxFailed = false;
+            } catch (IOException | RuntimeException x) {
+                saxFailed = true;
+            }
+
+            if (saxFailed) {
+                assertThrows(Exception.class, () -> new GlueLoader(new GlueDocument()).load(xmlText),
+                        fxmlFile.toString());
+            } else {
+                GlueDocument staxDocument = new GlueDocument();
+                new GlueLoader(staxDocument).load(xmlText);
+                assertEquals(describe(saxDocument), describe(staxDocument), fxmlFile.toString());
+            }
+        }
+    }
+
+    @Test
+    public void that_broken_xml_raises_IOException() throws Exception {
+        assertThrows(IOException.class, () -> new GlueDocument("<VBox><children></VBox>"));
+    }
+
+    /*
+     * Private
+     */
+
+    static List<Path> collectFxmlFiles() throws Exception {
+        List<Path> result = new ArrayList<>();
+        Enumeration<URL> roots = GlueLoaderTest.class.getClassLoader()
+                .getResources("com/oracle/javafx/scenebuilder/kit");
+        while (roots.hasMoreElements()) {
+            URL root = roots.nextElement();
+            if ("file".equals(root.getProtocol())) {
+                try (Stream<Path> paths = Files.walk(Paths.get(root.toURI()))) {
+                    paths.filter(p -> p.toString().endsWith(".fxml")).forEach(result::add);
+                }
+            }
+        }
+        return result;
+    }
+
+    static String describe(GlueDocument document) {
+        StringBuilder result = new StringBuilder();
+        describe(document.getHeader(), result);
+        if (document.getRootElement() != null) {
+            describe(document.getRootElement(), result);
+        }
+        return result.toString();
+    }
+
+    private static void describe(GlueElement element, StringBuilder result) {
+        result.append('<').append(element.getTagName());
+        Map<String, String> attributes = new TreeMap<>(element.getAttributes());
+        for (Map.Entry<String, String> e : attributes.entrySet()) {
+            result.append(' ').append(e.getKey()).append("=[").append(e.getValue()).append(']');
+        }
+        result.append(">\nfront:");
+        describe(element.getFront(), result);
+        result.append("content:");
+        describe(element.getContent(), result);
+        for (GlueElement child : element.getChildren()) {
+            describe(child, result);
+        }
+        result.append("tail:");
+        describe(element.getTail(), result);
+        result.append("</").append(element.getTagName()).append(">\n");
+    }
+
+    private static void describe(List<GlueAuxiliary> auxiliaries, StringBuilder result) {
+        StringBuilder text = null;
+        for (GlueAuxiliary auxiliary : auxiliaries) {
+            if (auxiliary instanceof GlueCharacters characters
+                    && characters.getType() == GlueCharacters.Type.TEXT) {
+                if (text == null) {
+                    text = new StringBuilder();
+                }
+                text.append(characters.getData());
+            } else {
+                if (text != null) {
+                    result.append("TEXT[").append(text).append("]\n");
+                    text = null;
+                }
+                if (auxiliary instanceof GlueCharacters characters) {
+                    result.append(characters.getType()).append('[').append(characters.getData()).append("]\n");
+                } else if (auxiliary instanceof GlueInstruction instruction) {
+                    result.append("PI[").append(instruction.getTarget()).append(' ')
+                            .append(instruction.getData()).append("]\n");
+                } else {
+                    result.append(auxiliary.getClass().getSimpleName()).append('\n');
+                }
+            }
+        }
+        if (text != null) {
+            result.append("TEXT[").append(text).append("]\n");
+        }
+    }
+}
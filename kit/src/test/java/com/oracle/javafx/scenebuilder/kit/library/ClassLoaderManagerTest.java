@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ClassLoaderManagerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void that_class_loader_is_shared_for_same_jars() throws Exception {
+        final ClassLoaderManager manager = new ClassLoaderManager();
+        final List<Path> jars = List.of(makeJar("a.jar", "a.txt"), makeJar("b.jar", "b.txt"));
+
+        final ClassLoader first = manager.acquire(jars);
+        final ClassLoader second = manager.acquire(jars);
+        assertSame(first, second);
+        assertEquals(1, manager.getClassLoaderCount());
+
+        final ClassLoader other = manager.acquire(jars.subList(0, 1));
+        assertNotSame(first, other);
+        assertEquals(2, manager.getClassLoaderCount());
+    }
+
+    @Test
+    public void that_class_loader_is_parallel_capable() throws Exception {
+        final ClassLoaderManager manager = new ClassLoaderManager();
+
+        final ClassLoader loader = manager.acquire(List.of(makeJar("a.jar", "a.txt")));
+        assertTrue(loader.isRegisteredAsParallelCapable());
+    }
+
+    @Test
+    public void that_modified_jar_gets_new_class_loader() throws Exception {
+        final ClassLoaderManager manager = new ClassLoaderManager();
+        final Path jar = makeJar("a.jar", "a.txt");
+
+        final ClassLoader first = manager.acquire(List.of(jar));
+        makeJar("a.jar", "a.txt", "b.txt");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + 60_000));
+
+        final ClassLoader second = manager.acquire(List.of(jar));
+        assertNotSame(first, second);
+        assertNotNull(second.getResource("b.txt"));
+    }
+
+    @Test
+    public void that_class_loader_is_closed_by_last_release() throws Exception {
+        final ClassLoaderManager manager = new ClassLoaderManager();
+        final List<Path> jars = List.of(makeJar("a.jar", "a.txt"));
+
+        final ClassLoader library = manager.acquire(jars);
+        manager.retain(library); // A document
+        assertNotNull(library.getResource("a.txt"));
+
+        manager.release(library);
+        assertEquals(1, manager.getClassLoaderCount());
+        assertNotNull(library.getResource("a.txt"));
+
+        manager.release(library);
+        assertEquals(0, manager.getClassLoaderCount());
+        assertNull(library.getResource("a.txt"));
+        assertNotSame(library, manager.acquire(jars));
+
+        // Releasing a closed or unknown class loader is harmless
+        manager.release(library);
+        manager.release(getClass().getClassLoader());
+        manager.release(null);
+        assertEquals(1, manager.getClassLoaderCount());
+    }
+
+    private Path makeJar(String name, String... entries) throws IOException {
+        final Path result = tempDir.resolve(name);
+        try (OutputStream os = Files.newOutputStream(result);
+             JarOutputStream jos = new JarOutputStream(os)) {
+            for (String entry : entries) {
+                jos.putNextEntry(new JarEntry(entry));
+                jos.write(entry.getBytes());
+                jos.closeEntry();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library;
+
+import com.oracle.javafx.scenebuilder.kit.JfxInitializer;
+import com.oracle.javafx.scenebuilder.kit.fxom.FXOMDocument;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LibraryItemTest {
+
+    private static final String BUTTON_FXML
+            = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<?import javafx.scene.control.Button?>\n"
+            + "<Button text=\"Hello\"/>\n";
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeAll
+    public static void initJFX() {
+        JfxInitializer.initialize();
+    }
+
+    @Test
+    public void that_instances_are_copied_from_template() {
+        final TestLibrary library = new TestLibrary();
+        final LibraryItem item = new LibraryItem("Button", "Test", BUTTON_FXML, null, library);
+        library.getItems().add(item);
+
+        final FXOMDocument first = item.instantiate();
+        final FXOMDocument template = library.getTemplate(item);
+        final FXOMDocument second = item.instantiate();
+
+        assertNotNull(template);
+        assertSame(template, library.getTemplate(item));
+        assertNotSame(first.getFxomRoot(), second.getFxomRoot());
+        assertNotSame(first.getSceneGraphRoot(), second.getSceneGraphRoot());
+        assertEquals("Hello", ((Button) second.getSceneGraphRoot()).getText());
+
+        // Removed items drop their template
+        library.getItems().remove(item);
+        assertNull(library.getTemplate(item));
+    }
+
+    @Test
+    public void that_fxml_file_is_read_on_first_use() throws IOException {
+        final Path fxmlFile = tempDir.resolve("Custom.fxml");
+        Files.writeString(fxmlFile, BUTTON_FXML);
+        final LibraryItem item = new LibraryItem("Custom", "Test", fxmlFile, null, new TestLibrary());
+
+        Files.writeString(fxmlFile, BUTTON_FXML.replace("Button", "Label"));
+
+        final FXOMDocument document = item.instantiate();
+        assertTrue(document.getSceneGraphRoot() instanceof Label);
+        assertEquals("Hello", ((Label) document.getSceneGraphRoot()).getText());
+    }
+
+    @Test
+    public void that_template_cache_is_bounded() {
+        final TestLibrary library = new TestLibrary();
+        final LibraryItem[] items = new LibraryItem[Library.TEMPLATE_CACHE_SIZE + 1];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new LibraryItem("Button" + i, "Test", BUTTON_FXML.replace("Hello", "Hello" + i), null, library);
+            assertNotNull(items[i].instantiate());
+        }
+
+        assertNull(library.getTemplate(items[0]));
+        assertNotNull(library.getTemplate(items[items.length - 1]));
+    }
+
+    private static class TestLibrary extends Library {
+
+        @Override
+        public Comparator<String> getSectionComparator() {
+            return Comparator.naturalOrder();
+        }
+    }
+}
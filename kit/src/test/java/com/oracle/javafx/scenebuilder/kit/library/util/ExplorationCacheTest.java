@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExplorationCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void that_unchanged_jar_is_restored_from_cache() throws IOException {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("cache.bin");
+        final ClassLoader classLoader = getClass().getClassLoader();
+
+        final ExplorationCache cache = new ExplorationCache(cacheFile);
+        assertNull(cache.restore(jar, classLoader));
+        cache.record(makeReport(jar));
+        cache.save(List.of(jar));
+
+        // Simulates next launch
+        final ExplorationCache nextCache = new ExplorationCache(cacheFile);
+        final JarReport restored = nextCache.restore(jar, classLoader);
+        assertNotNull(restored);
+        assertEquals(1, restored.getEntries().size());
+        assertEquals(JarReportEntry.Status.OK, restored.getEntries().get(0).getStatus());
+        assertSame(NodeClassFilterTest.CustomButton.class, restored.getEntries().get(0).getKlass());
+
+        // Same content with another modification time : hash matches
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNotNull(nextCache.restore(jar, classLoader));
+    }
+
+    @Test
+    public void that_modified_jar_is_explored_again() throws IOException {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("cache.bin");
+
+        final ExplorationCache cache = new ExplorationCache(cacheFile);
+        cache.record(makeReport(jar));
+        cache.save(List.of(jar));
+
+        Files.writeString(jar, "CONTENT");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+        assertNull(new ExplorationCache(cacheFile).restore(jar, getClass().getClassLoader()));
+    }
+
+    @Test
+    public void that_unexplored_jars_stay_in_cache() throws IOException {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("cache.bin");
+        final ClassLoader classLoader = getClass().getClassLoader();
+
+        final ExplorationCache cache = new ExplorationCache(cacheFile);
+        cache.record(makeReport(jar));
+        cache.save(List.of(jar));
+        // Incremental exploration : jar is not explored but still in the library
+        cache.save(List.of(jar));
+        assertNotNull(new ExplorationCache(cacheFile).restore(jar, classLoader));
+
+        // Jar removed from the library
+        cache.save(List.of());
+        assertNull(new ExplorationCache(cacheFile).restore(jar, classLoader));
+    }
+
+    @Test
+    public void that_failed_explorations_are_not_cached() throws IOException {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("cache.bin");
+
+        final JarReport report = makeReport(jar);
+        report.getEntries().add(new JarReportEntry("Broken.class", JarReportEntry.Status.CANNOT_LOAD,
+                new ClassNotFoundException("Broken"), null, "Broken"));
+        final ExplorationCache cache = new ExplorationCache(cacheFile);
+        cache.record(report);
+        cache.save(List.of(jar));
+
+        assertNull(new ExplorationCache(cacheFile).restore(jar, getClass().getClassLoader()));
+    }
+
+    @Test
+    public void that_corrupted_cache_is_ignored() throws IOException {
+        final Path jar = makeJar("content");
+        final Path cacheFile = tempDir.resolve("cache.bin");
+        Files.writeString(cacheFile, "garbage");
+
+        assertNull(new ExplorationCache(cacheFile).restore(jar, getClass().getClassLoader()));
+    }
+
+    private Path makeJar(String content) throws IOException {
+        final Path jar = tempDir.resolve("controls.jar");
+        Files.writeString(jar, content);
+        return jar;
+    }
+
+    private static JarReport makeReport(Path jar) {
+        final Class<?> klass = NodeClassFilterTest.CustomButton.class;
+        final JarReport result = new JarReport(jar);
+        result.getEntries().add(new JarReportEntry(klass.getName().replace('.', '/') + ".class",
+                JarReportEntry.Status.OK, null, klass, klass.getName()));
+        return result;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExplorerBaseTest {
+
+    @Test
+    public void that_fast_instantiation_succeeds() throws Exception {
+        final Object instance = makeExplorer(ExplorerBase.DEFAULT_INSTANTIATION_TIMEOUT)
+                .instantiateWithTimeout(FastRegion.class, getClass().getClassLoader());
+
+        assertTrue(instance instanceof FastRegion);
+    }
+
+    @Test
+    public void that_slow_instantiation_times_out() {
+        final ExplorerBase explorer = makeExplorer(100);
+        final long startTime = System.nanoTime();
+        assertThrows(TimeoutException.class,
+                () -> explorer.instantiateWithTimeout(SlowRegion.class, getClass().getClassLoader()));
+        final long explorationTime = (System.nanoTime() - startTime) / 1_000_000;
+
+        // Exploration does not wait for the constructor
+        assertTrue(explorationTime >= 100);
+        assertTrue(explorationTime < SlowRegion.DURATION);
+    }
+
+    @Test
+    public void that_timed_out_entry_reports_its_time() {
+        final JarReportEntry entry = new JarReportEntry("SlowRegion.class", JarReportEntry.Status.TIMED_OUT,
+                new TimeoutException(), SlowRegion.class, SlowRegion.class.getName(), 5000);
+
+        assertEquals(5000, entry.getInstantiationTime());
+        assertTrue(entry.toString().contains("TIMED_OUT - 5000 ms"));
+    }
+
+    @Test
+    public void that_abandoned_instantiations_are_capped() throws Exception {
+        final ExplorerBase explorer = makeExplorer(50);
+        final ClassLoader classLoader = getClass().getClassLoader();
+        waitForAbandonedInstantiations(0);
+        try {
+            for (int i = 0; i < ExplorerBase.MAX_ABANDONED_INSTANTIATIONS; i++) {
+                assertThrows(TimeoutException.class,
+                        () -> explorer.instantiateWithTimeout(StubbornRegion.class, classLoader));
+            }
+            assertEquals(ExplorerBase.MAX_ABANDONED_INSTANTIATIONS, ExplorerBase.getAbandonedInstantiationCount());
+
+            // No more trials while the abandoned constructors are running
+            assertThrows(IOException.class, () -> explorer.instantiateWithTimeout(FastRegion.class, classLoader));
+        } finally {
+            StubbornRegion.RELEASE.countDown();
+        }
+
+        waitForAbandonedInstantiations(0);
+        assertTrue(explorer.instantiateWithTimeout(FastRegion.class, classLoader) instanceof FastRegion);
+    }
+
+    @Test
+    public void that_entry_reports_abandoned_instantiations() {
+        final JarReportEntry entry = new JarReportEntry("FastRegion.class", JarReportEntry.Status.OK,
+                null, FastRegion.class, FastRegion.class.getName(), 12, 2);
+
+        assertEquals(2, entry.getAbandonedInstantiationCount());
+        assertTrue(entry.toString().contains("OK - 12 ms - concurrent with 2 abandoned instantiation(s)"));
+    }
+
+    private static void waitForAbandonedInstantiations(int expected) throws InterruptedException {
+        final long deadline = System.nanoTime() + 5_000_000_000L;
+        while ((ExplorerBase.getAbandonedInstantiationCount() != expected) && (System.nanoTime() < deadline)) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, ExplorerBase.getAbandonedInstantiationCount());
+    }
+
+    private static ExplorerBase makeExplorer(long instantiationTimeout) {
+        final ExplorerBase result = new ExplorerBase() {};
+        result.setInstantiationTimeout(instantiationTimeout);
+        return result;
+    }
+
+    public static class FastRegion extends Region {
+    }
+
+    /*
+     * Ignores interrupts: the constructor runs until the test releases it.
+     */
+    public static class StubbornRegion extends Region {
+
+        static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        public StubbornRegion() {
+            boolean released = false;
+            while (released == false) {
+                try {
+                    RELEASE.await();
+                    released = true;
+                } catch (InterruptedException x) {
+                    // Keeps running like a constructor stuck in native code
+                }
+            }
+        }
+    }
+
+    public static class SlowRegion extends Region {
+
+        static final long DURATION = 10_000;
+
+        public SlowRegion() {
+            try {
+                Thread.sleep(DURATION);
+            } catch (InterruptedException x) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JarExplorerTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void that_concurrent_exploration_matches_sequential_exploration() throws Exception {
+        final List<Path> jars = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            // Last jar is large enough to be split in several tasks
+            final int resourceCount = (i == 5) ? 2500 : 10;
+            jars.add(makeJar("controls" + i + ".jar", "com/acme" + i + "/", 5, resourceCount));
+        }
+
+        final List<String> sequential = new ArrayList<>();
+        try (URLClassLoader classLoader = makeClassLoader(jars)) {
+            for (Path jar : jars) {
+                sequential.add(describe(new JarExplorer(jar).explore(classLoader)));
+            }
+        }
+
+        final List<String> concurrent = new ArrayList<>();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try (URLClassLoader classLoader = makeClassLoader(jars)) {
+            final List<Future<JarReport>> futures = new ArrayList<>();
+            for (Path jar : jars) {
+                final Callable<JarReport> task = () -> new JarExplorer(jar).explore(classLoader);
+                futures.add(pool.submit(task));
+            }
+            for (Future<JarReport> future : futures) {
+                concurrent.add(describe(future.get()));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(sequential, concurrent);
+        assertTrue(sequential.get(5).contains("com/acme5/Control4.class CANNOT_LOAD"));
+    }
+
+    /*
+     * Class entries hold the bytes of a top level Node subclass under another name :
+     * they pass the header check and then fail to load, which needs no
+     * JavaFX toolkit.
+     */
+    private Path makeJar(String jarName, String packagePath, int classCount, int resourceCount)
+            throws IOException {
+        final byte[] classBytes;
+        final String resourceName = TestDeepCustomButton.class.getName().replace('.', '/') + ".class";
+        try (InputStream is = ClassLoader.getSystemResourceAsStream(resourceName)) {
+            assertNotNull(is);
+            classBytes = is.readAllBytes();
+        }
+
+        final Path result = tempDir.resolve(jarName);
+        try (OutputStream os = Files.newOutputStream(result); JarOutputStream jos = new JarOutputStream(os)) {
+            for (int i = 0; i < resourceCount; i++) {
+                jos.putNextEntry(new JarEntry(packagePath + "resource" + i + ".txt"));
+                jos.write(("resource " + i).getBytes(StandardCharsets.UTF_8));
+                jos.closeEntry();
+            }
+            for (int i = 0; i < classCount; i++) {
+                jos.putNextEntry(new JarEntry(packagePath + "Control" + i + ".class"));
+                jos.write(classBytes);
+                jos.closeEntry();
+            }
+        }
+        return result;
+    }
+
+    private static URLClassLoader makeClassLoader(List<Path> jars) throws IOException {
+        final URL[] urls = new URL[jars.size()];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = jars.get(i).toUri().toURL();
+        }
+        return new URLClassLoader(urls, JarExplorerTest.class.getClassLoader());
+    }
+
+    private static String describe(JarReport report) {
+        final StringBuilder result = new StringBuilder();
+        result.append(report.getJar().getFileName()).append(' ').append(report.getClassFileCount());
+        for (JarReportEntry entry : report.getEntries()) {
+            result.append('\n').append(entry.getName()).append(' ').append(entry.getStatus());
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026, Gluon and/or its affiliates.
+ * All rights reserved. Use is subject to license terms.
+ *
+ * This file is available and licensed under the following license:
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met:
+ *
+ *  - Redistributions of source code must retain the above copyright
+ *    notice, this list of conditions and the following disclaimer.
+ *  - Redistributions in binary form must reproduce the above copyright
+ *    notice, this list of conditions and the following disclaimer in
+ *    the documentation and/or other materials provided with the distribution.
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
+ *    contributors may be used to endorse or promote products derived
+ *    from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.oracle.javafx.scenebuilder.kit.library.util;
+
+import javafx.scene.control.Button;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NodeClassFilterTest {
+
+    @Test
+    public void that_header_gives_names_and_flags() throws IOException {
+        final ClassFileHeader header = readHeader(CustomButton.class);
+
+        assertEquals(CustomButton.class.getName(), header.getClassName());
+        assertEquals(Button.class.getName(), header.getSuperName());
+        assertTrue(header.isPublicConcreteClass());
+        assertTrue(header.isNested());
+        assertFalse(readHeader(TestDeepCustomButton.class).isNested());
+        assertFalse(readHeader(AbstractRegion.class).isPublicConcreteClass());
+        assertFalse(readHeader(Runnable.class).isPublicConcreteClass());
+        assertNull(readHeader(Object.class).getSuperName());
+    }
+
+    @Test
+    public void that_malformed_class_file_is_rejected() {
+        assertThrows(IOException.class, () -> ClassFileHeader.read(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }));
+    }
+
+    @Test
+    public void that_only_concrete_node_subclasses_are_candidates() {
+        final NodeClassFilter filter = new NodeClassFilter(getClass().getClassLoader());
+
+        assertTrue(filter.isCandidate(TestDeepCustomButton.class.getName()));
+        // Nested classes are not explored
+        assertFalse(filter.isCandidate(CustomButton.class.getName()));
+        assertFalse(filter.isCandidate(DeepCustomButton.class.getName()));
+        assertFalse(filter.isCandidate(AbstractRegion.class.getName()));
+        assertFalse(filter.isCandidate(Dto.class.getName()));
+        assertFalse(filter.isCandidate(DtoSubclass.class.getName()));
+        // Unknown classes are left to the class loader
+        assertTrue(filter.isCandidate("com.example.DoesNotExist"));
+    }
+
+    private static ClassFileHeader readHeader(Class<?> klass) throws IOException {
+        final String resourceName = klass.getName().replace('.', '/') + ".class";
+        try (InputStream is = ClassLoader.getSystemResourceAsStream(resourceName)) {
+            assertNotNull(is);
+            return ClassFileHeader.read(is);
+        }
+    }
+
+    public static class CustomButton extends Button {
+    }
+
+    public static class DeepCustomButton extends CustomButton {
+    }
+
+    public abstract static class AbstractRegion extends Region {
+    }
+
+    public static class Dto {
+    }
+
+    public static class DtoSubclass extends Dto {
+    }
+}
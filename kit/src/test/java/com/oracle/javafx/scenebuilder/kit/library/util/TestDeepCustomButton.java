@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2012, 2014, Oracle and/or its affiliates.
+ * Copyright (c) 2026, Gluon and/or its affiliates.
  * All rights reserved. Use is subject to license terms.
  *
  * This file is available and licensed under the following license:
@@ -13,7 +13,7 @@
  *  - Redistributions in binary form must reproduce the above copyright
  *    notice, this list of conditions and the following disclaimer in
  *    the documentation and/or other materials provided with the distribution.
- *  - Neither the name of Oracle Corporation nor the names of its
+ *  - Neither the name of Oracle Corporation and Gluon nor the names of its
  *    contributors may be used to endorse or promote products derived
  *    from this software without specific prior written permission.
  *
@@ -29,37 +29,11 @@
  * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
  * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
  */
-
-package com.oracle.javafx.scenebuilder.kit.editor.panel.content.guides;
-
-import com.oracle.javafx.scenebuilder.kit.util.MathUtils;
-import java.util.Comparator;
+package com.oracle.javafx.scenebuilder.kit.library.util;
 
 /**
- *
+ * Top level class whose super class chain goes through a nested class.
+ * Needed by {@link NodeClassFilterTest} and {@link JarExplorerTest}.
  */
-class VerticalLineComparator implements Comparator<VerticalSegment> {
-
-    @Override
-    public int compare(VerticalSegment o1, VerticalSegment o2) {
-        assert o1 != null;
-        assert o2 != null;
-        assert MathUtils.equals(o1.getX1(), o1.getX2());
-        assert MathUtils.equals(o2.getX1(), o2.getX2());
-        
-        final int result;
-        
-        if (o1 == o2) {
-            result = 0;
-        } else if (MathUtils.equals(o1.getX1(), o2.getX1())) {
-            result = 0;
-        } else if (o1.getX1() < o2.getX1()) {
-            result = +1;
-        } else {
-            result = -1;
-        }
-        
-        return result;
-    }
-    
+public class TestDeepCustomButton extends NodeClassFilterTest.CustomButton {
 }